@@ -0,0 +1,114 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+/**
+ * Records how long each phase of a decision takes on the current thread. The caller of
+ * an application starts the timer, the application and its PIPs record their phases,
+ * and the caller then collects the timings. Recording is a no-op when the timer has not
+ * been started, so applications need not care whether anyone is listening.
+ */
+public final class DecisionPhaseTimer {
+
+    /**
+     * Phases of a decision made by an application.
+     */
+    public enum Phase {
+        /**
+         * Translation of the decision request into a XACML request.
+         */
+        CONVERT_REQUEST("convert_request"),
+
+        /**
+         * Waiting for the application's PDP engine, while it evaluates other requests.
+         */
+        LOCK_WAIT("lock_wait"),
+
+        /**
+         * Evaluation of the XACML request by the PDP engine, PIP queries included.
+         */
+        DECIDE("decide"),
+
+        /**
+         * Waiting for a PIP's database connection, while it serves other queries. This is
+         * included in {@link #PIP}.
+         */
+        PIP_WAIT("pip_wait"),
+
+        /**
+         * PIP queries made while the PDP engine evaluates the request.
+         */
+        PIP("pip"),
+
+        /**
+         * Translation of the XACML response into a decision response.
+         */
+        CONVERT_RESPONSE("convert_response");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final ThreadLocal<long[]> TIMINGS = new ThreadLocal<>();
+
+    private DecisionPhaseTimer() {
+        super();
+    }
+
+    /**
+     * Starts recording phases on the current thread, discarding anything recorded so far.
+     */
+    public static void start() {
+        TIMINGS.set(new long[Phase.values().length]);
+    }
+
+    /**
+     * Stops recording phases on the current thread.
+     *
+     * @return the time, in nanoseconds, spent in each phase, indexed by the phase's
+     *         ordinal, or {@code null} if the timer was not started
+     */
+    public static long[] stop() {
+        var timings = TIMINGS.get();
+        TIMINGS.remove();
+        return timings;
+    }
+
+    /**
+     * Adds time to a phase, if the timer was started on the current thread.
+     *
+     * @param phase phase of the decision
+     * @param startNanos value of {@link System#nanoTime()} when the phase started
+     */
+    public static void record(Phase phase, long startNanos) {
+        var timings = TIMINGS.get();
+        if (timings != null) {
+            timings[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.att.research.xacml.api.trace.TraceEngine;
+import com.att.research.xacml.api.trace.TraceEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trace engine that records the trace events of a decision only when the caller asked
+ * for it on the current thread. The PDP engine checks {@link #isTracing()} before it
+ * builds an event, thus decisions that are not traced cost a single volatile read per
+ * check, and nothing is logged. Events are converted to text as they occur, so that a
+ * recorded trace does not hold on to the request or the policies.
+ */
+public final class DecisionTraceEngine implements TraceEngine {
+    /**
+     * Maximum number of events recorded for a single decision.
+     */
+    public static final int MAX_EVENTS = 500;
+
+    /**
+     * Maximum length of the text of an event's value.
+     */
+    public static final int MAX_VALUE_LENGTH = 2000;
+
+    private static final DecisionTraceEngine INSTANCE = new DecisionTraceEngine();
+    private static final ThreadLocal<Trace> TRACES = new ThreadLocal<>();
+
+    /**
+     * Number of threads that are tracing a decision.
+     */
+    private static final AtomicInteger active = new AtomicInteger();
+
+    private DecisionTraceEngine() {
+        super();
+    }
+
+    public static DecisionTraceEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts recording the trace events of the decisions made on the current thread,
+     * discarding anything recorded so far.
+     */
+    public static void start() {
+        if (TRACES.get() == null) {
+            active.incrementAndGet();
+        }
+        TRACES.set(new Trace(System.nanoTime()));
+    }
+
+    /**
+     * Stops recording trace events on the current thread.
+     *
+     * @return the events recorded since {@link #start()}, or {@code null} if tracing was
+     *         not started
+     */
+    public static List<Event> stop() {
+        var trace = TRACES.get();
+        if (trace == null) {
+            return null;
+        }
+        TRACES.remove();
+        active.decrementAndGet();
+        return Collections.unmodifiableList(trace.events);
+    }
+
+    @Override
+    public boolean isTracing() {
+        return (active.get() > 0 && TRACES.get() != null);
+    }
+
+    @Override
+    public void trace(TraceEvent<?> traceEvent) {
+        var trace = TRACES.get();
+        if (trace == null || trace.events.size() >= MAX_EVENTS) {
+            return;
+        }
+        var cause = traceEvent.getCause();
+        trace.events.add(new Event(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - trace.startNanos),
+                        (cause == null ? null : cause.getTraceId()), traceEvent.getMessage(),
+                        truncate(traceEvent.getValue())));
+    }
+
+    private static String truncate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        var text = value.toString();
+        return (text.length() <= MAX_VALUE_LENGTH ? text : text.substring(0, MAX_VALUE_LENGTH) + "...");
+    }
+
+    /**
+     * A trace event of a decision.
+     *
+     * @param offsetMicros time, in microseconds, since tracing was started
+     * @param source id of the element that produced the event, if known
+     * @param message message of the event
+     * @param value text of the value the event is about, possibly truncated
+     */
+    public record Event(long offsetMicros, String source, String message, String value) {
+    }
+
+    private static class Trace {
+        private final long startNanos;
+        private final List<Event> events = new ArrayList<>();
+
+        Trace(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
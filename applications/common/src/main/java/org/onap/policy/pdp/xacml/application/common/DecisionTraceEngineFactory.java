@@ -0,0 +1,42 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import com.att.research.xacml.api.trace.TraceEngine;
+import com.att.research.xacml.api.trace.TraceEngineFactory;
+import java.util.Properties;
+
+/**
+ * Factory of the {@link DecisionTraceEngine}, to be named by the
+ * "xacml.traceEngineFactory" property of an application.
+ */
+public class DecisionTraceEngineFactory extends TraceEngineFactory {
+
+    @Override
+    public TraceEngine getTraceEngine() {
+        return DecisionTraceEngine.getInstance();
+    }
+
+    @Override
+    public TraceEngine getTraceEngine(Properties properties) {
+        return DecisionTraceEngine.getInstance();
+    }
+}
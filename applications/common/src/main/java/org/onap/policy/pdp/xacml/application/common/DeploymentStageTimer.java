@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+/**
+ * Records how long each stage of a policy deployment takes on the current thread. The
+ * caller of an application starts the timer, the application records its stages while
+ * it loads or unloads the policy, and the caller then collects the timings. Recording
+ * is a no-op when the timer has not been started.
+ */
+public final class DeploymentStageTimer {
+
+    /**
+     * Stages of the deployment of a policy into an application.
+     */
+    public enum Stage {
+        /**
+         * Translation of the TOSCA policy into a XACML policy.
+         */
+        CONVERT("convert"),
+
+        /**
+         * Writing the XACML policy to the disk.
+         */
+        WRITE_POLICY("write_policy"),
+
+        /**
+         * Deleting the XACML policy from the disk.
+         */
+        DELETE_POLICY("delete_policy"),
+
+        /**
+         * Writing the XACML properties of the application to the disk.
+         */
+        STORE_PROPERTIES("store_properties"),
+
+        /**
+         * Creation of a new PDP engine holding the policies of the application.
+         */
+        CREATE_ENGINE("create_engine");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final ThreadLocal<long[]> TIMINGS = new ThreadLocal<>();
+
+    private DeploymentStageTimer() {
+        super();
+    }
+
+    /**
+     * Starts recording stages on the current thread, discarding anything recorded so far.
+     */
+    public static void start() {
+        TIMINGS.set(new long[Stage.values().length]);
+    }
+
+    /**
+     * Stops recording stages on the current thread.
+     *
+     * @return the time, in nanoseconds, spent in each stage, indexed by the stage's
+     *         ordinal, or {@code null} if the timer was not started
+     */
+    public static long[] stop() {
+        var timings = TIMINGS.get();
+        TIMINGS.remove();
+        return timings;
+    }
+
+    /**
+     * Adds time to a stage, if the timer was started on the current thread.
+     *
+     * @param stage stage of the deployment
+     * @param startNanos value of {@link System#nanoTime()} when the stage started
+     */
+    public static void record(Stage stage, long startNanos) {
+        var timings = TIMINGS.get();
+        if (timings != null) {
+            timings[stage.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import java.util.Collection;
+import java.util.Map;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+/**
+ * Estimates the heap retained by the representations of a policy. Measuring it exactly
+ * would require an instrumentation agent, thus this assumes a 64-bit JVM with compressed
+ * references and compact strings, and walks the maps, lists and strings that TOSCA
+ * content is made of. Parsed XACML policies are estimated from the size of their XML.
+ */
+public final class FootprintEstimator {
+
+    /**
+     * TOSCA policies, as deployed by PAP.
+     */
+    public static final String TOSCA_POLICIES = "tosca_policies";
+
+    /**
+     * XACML policies, as parsed by the PDP engine.
+     */
+    public static final String XACML_POLICIES = "xacml_policies";
+
+    /**
+     * Policy types cached by the translators.
+     */
+    public static final String POLICY_TYPES = "policy_types";
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING = 24 + ARRAY_HEADER;
+    private static final int MAP = 48 + ARRAY_HEADER;
+    private static final int MAP_ENTRY = 40;
+    private static final int LIST = 24 + ARRAY_HEADER;
+    private static final int MAX_DEPTH = 64;
+
+    /**
+     * Heap taken by a parsed XACML policy, per byte of its XML. The engine's policy
+     * objects, with their attribute values and expressions, are several times larger
+     * than the text they come from. The JAXB objects made when converting the policy
+     * are not retained, thus are not counted.
+     */
+    private static final int XACML_BYTES_PER_XML_BYTE = 6;
+
+    private FootprintEstimator() {
+        super();
+    }
+
+    /**
+     * Estimates the heap retained by a TOSCA policy.
+     *
+     * @param policy policy of interest
+     * @return the estimated size, in bytes
+     */
+    public static long estimate(ToscaPolicy policy) {
+        return OBJECT_HEADER + 8L * REFERENCE + estimate(policy.getName()) + estimate(policy.getVersion())
+                        + estimate(policy.getType()) + estimate(policy.getTypeVersion())
+                        + estimate(policy.getDescription()) + estimate(policy.getMetadata())
+                        + estimate(policy.getProperties());
+    }
+
+    /**
+     * Estimates the heap retained by a parsed XACML policy.
+     *
+     * @param xmlBytes size of the policy's XML, in bytes
+     * @return the estimated size, in bytes
+     */
+    public static long estimateXacml(long xmlBytes) {
+        return xmlBytes * XACML_BYTES_PER_XML_BYTE;
+    }
+
+    /**
+     * Estimates the heap retained by a value made of maps, collections, strings and
+     * boxed primitives, such as decoded JSON or YAML. Other objects are counted as
+     * empty objects.
+     *
+     * @param value value of interest, may be {@code null}
+     * @return the estimated size, in bytes
+     */
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String text) {
+            return align(STRING + text.length());
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = MAP + (long) map.size() * (MAP_ENTRY + REFERENCE);
+            for (var entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = LIST + (long) collection.size() * REFERENCE;
+            for (var element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return align(size);
+        }
+        return OBJECT_HEADER;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -57,4 +57,14 @@ public interface ToscaPolicyTranslator {
      */
     DecisionResponse convertResponse(Response xacmlResponse);
 
+    /**
+     * Override this method to report the heap retained by what the translator caches,
+     * such as policy types.
+     *
+     * @return estimated size, in bytes
+     */
+    default long estimateFootprint() {
+        return 0;
+    }
+
 }
@@ -24,6 +24,7 @@ package org.onap.policy.pdp.xacml.application.common;
 
 import com.att.research.xacml.api.Response;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
@@ -109,4 +110,23 @@ public interface XacmlApplicationServiceProvider {
     Pair<DecisionResponse, Response>       makeDecision(DecisionRequest request,
             Map<String, String[]> requestQueryParameters);
 
+    /**
+     * Estimates the heap retained by the application's policies.
+     *
+     * @return estimated size in bytes, keyed by representation (eg. "tosca_policies")
+     */
+    default Map<String, Long> estimateFootprint() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Estimates the heap retained by a policy loaded in the application.
+     *
+     * @param toscaPolicy object
+     * @return estimated size in bytes, zero if the policy is not loaded
+     */
+    default long estimateFootprint(ToscaPolicy toscaPolicy) {
+        return 0;
+    }
+
 }
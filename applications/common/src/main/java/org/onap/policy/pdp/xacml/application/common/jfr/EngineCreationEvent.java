@@ -0,0 +1,49 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the creation of the PDP engine of an application.
+ */
+@Name("org.onap.policy.xacml.EngineCreation")
+@Label("PDP Engine Creation")
+@Category({XacmlDecisionEvent.CATEGORY, XacmlDecisionEvent.SUBCATEGORY})
+@Description("Creation of the PDP engine of an application, with its root policies")
+@StackTrace(false)
+public class EngineCreationEvent extends Event {
+
+    @Label("Application")
+    public String application;
+
+    @Label("Policy Count")
+    @Description("Number of root policies given to the engine")
+    public int policyCount;
+
+    @Label("Outcome")
+    public String outcome;
+}
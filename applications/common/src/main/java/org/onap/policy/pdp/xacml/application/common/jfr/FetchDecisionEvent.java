@@ -0,0 +1,59 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a decision made for a REST request, from the translation of
+ * the request to the translation of the response. Like the other per-decision events,
+ * only the decisions taking longer than its threshold are recorded by default.
+ */
+@Name("org.onap.policy.xacml.FetchDecision")
+@Label("Fetch Decision")
+@Category({XacmlDecisionEvent.CATEGORY, XacmlDecisionEvent.SUBCATEGORY})
+@Description("Decision made for a REST request, translations included")
+@StackTrace(false)
+@Threshold(XacmlDecisionEvent.THRESHOLD)
+public class FetchDecisionEvent extends Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Application")
+    public String application;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Policy Count")
+    @Description("Number of policies that applied to the decision")
+    public int policyCount;
+
+    @Label("Outcome")
+    public String outcome;
+}
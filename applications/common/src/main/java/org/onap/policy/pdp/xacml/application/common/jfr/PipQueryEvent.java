@@ -0,0 +1,54 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a query made by a PIP while a XACML request is evaluated.
+ * By default, only the queries taking longer than {@link XacmlDecisionEvent#THRESHOLD}
+ * are recorded.
+ */
+@Name("org.onap.policy.xacml.PipQuery")
+@Label("PIP Query")
+@Category({XacmlDecisionEvent.CATEGORY, XacmlDecisionEvent.SUBCATEGORY})
+@Description("Query made by a PIP while a XACML request is evaluated")
+@StackTrace(false)
+@Threshold(XacmlDecisionEvent.THRESHOLD)
+public class PipQueryEvent extends Event {
+
+    @Label("PIP")
+    public String pip;
+
+    @Label("Attribute")
+    @Description("Id of the attribute the PIP was asked for")
+    public String attribute;
+
+    @Label("Outcome")
+    @Description("Value found by the query")
+    public String outcome;
+}
@@ -0,0 +1,62 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the loading or unloading of a policy by an application.
+ */
+@Name("org.onap.policy.xacml.PolicyDeployment")
+@Label("Policy Deployment")
+@Category({XacmlDecisionEvent.CATEGORY, XacmlDecisionEvent.SUBCATEGORY})
+@Description("Loading or unloading of a policy by an application, the PDP engine reload included")
+@StackTrace(false)
+public class PolicyDeploymentEvent extends Event {
+    public static final String LOAD = "load";
+    public static final String UNLOAD = "unload";
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    @Label("Application")
+    public String application;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Policy Id")
+    public String policyId;
+
+    @Label("Policy Version")
+    public String policyVersion;
+
+    @Label("Policy Count")
+    @Description("Number of policies loaded in the application afterwards")
+    public int policyCount;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,80 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common.jfr;
+
+import com.att.research.xacml.api.Response;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for the evaluation of a XACML request by the PDP engine of an
+ * application. Decisions are made at a high rate, thus by default only those taking
+ * longer than {@link #THRESHOLD} are recorded.
+ */
+@Name(XacmlDecisionEvent.NAME)
+@Label("XACML Decision")
+@Category({XacmlDecisionEvent.CATEGORY, XacmlDecisionEvent.SUBCATEGORY})
+@Description("Evaluation of a XACML request by the PDP engine of an application")
+@StackTrace(false)
+@Threshold(XacmlDecisionEvent.THRESHOLD)
+public class XacmlDecisionEvent extends Event {
+    public static final String NAME = "org.onap.policy.xacml.XacmlDecision";
+    public static final String CATEGORY = "ONAP Policy";
+    public static final String SUBCATEGORY = "XACML PDP";
+
+    /**
+     * Default threshold of the events recorded for every decision.
+     */
+    public static final String THRESHOLD = "10 ms";
+
+    /**
+     * Outcome of a request that produced no decision.
+     */
+    public static final String ERROR = "error";
+
+    @Label("Application")
+    public String application;
+
+    @Label("Policy Count")
+    @Description("Number of policies loaded in the PDP engine")
+    public int policyCount;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Gets the outcome of a XACML response.
+     *
+     * @param response XACML response, or {@code null} if the evaluation failed
+     * @return the decision of the first result, or {@link #ERROR} if there is none
+     */
+    public static String getOutcome(Response response) {
+        if (response == null || response.getResults().isEmpty()) {
+            return ERROR;
+        }
+        return String.valueOf(response.getResults().iterator().next().getDecision());
+    }
+}
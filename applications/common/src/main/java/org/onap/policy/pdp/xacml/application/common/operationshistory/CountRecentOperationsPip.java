@@ -35,7 +35,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+import org.onap.policy.pdp.xacml.application.common.jfr.PipQueryEvent;
 import org.onap.policy.pdp.xacml.application.common.std.StdOnapPip;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,7 +118,18 @@ public class CountRecentOperationsPip extends StdOnapPip {
         //
         // Ok do the database query
         //
-        long operationCount = doDatabaseQuery(actor, operation, target, timeWindowVal, timeWindowScale);
+        var event = new PipQueryEvent();
+        event.begin();
+        var queryStart = System.nanoTime();
+        long operationCount = query(() -> doDatabaseQuery(actor, operation, target, timeWindowVal, timeWindowScale));
+        DecisionPhaseTimer.record(Phase.PIP, queryStart);
+        event.end();
+        if (event.shouldCommit()) {
+            event.pip = getName();
+            event.attribute = pipRequest.getAttributeId().stringValue();
+            event.outcome = String.valueOf(operationCount);
+            event.commit();
+        }
         //
         // Create and return PipResponse
         //
@@ -30,7 +30,10 @@ import jakarta.persistence.NoResultException;
 import java.util.Collection;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
+import org.onap.policy.pdp.xacml.application.common.jfr.PipQueryEvent;
 import org.onap.policy.pdp.xacml.application.common.std.StdOnapPip;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,7 +94,18 @@ public class GetOperationOutcomePip extends StdOnapPip {
         target = getAttribute(pipFinder, PIP_REQUEST_TARGET);
 
         logger.debug("Going to query DB about: clname={}, target={}", clname, target);
-        String outcome = doDatabaseQuery(clname);
+        var event = new PipQueryEvent();
+        event.begin();
+        var queryStart = System.nanoTime();
+        String outcome = query(() -> doDatabaseQuery(clname));
+        DecisionPhaseTimer.record(Phase.PIP, queryStart);
+        event.end();
+        if (event.shouldCommit()) {
+            event.pip = getName();
+            event.attribute = pipRequest.getAttributeId().stringValue();
+            event.outcome = String.valueOf(outcome);
+            event.commit();
+        }
         logger.info("Query result is: {}", outcome);
 
         var pipResponse = new StdMutablePIPResponse();
@@ -43,6 +43,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.AllOfType;
@@ -64,6 +65,7 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.pdp.xacml.application.common.FootprintEstimator;
 import org.onap.policy.pdp.xacml.application.common.OnapObligation;
 import org.onap.policy.pdp.xacml.application.common.PolicyApiCaller;
 import org.onap.policy.pdp.xacml.application.common.PolicyApiException;
@@ -91,6 +93,7 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
 
     private final Map<ToscaConceptIdentifier, ToscaServiceTemplate> matchablePolicyTypes = new HashMap<>();
     private final Map<ToscaConceptIdentifier, MatchablePolicyType> matchableCache = new HashMap<>();
+    private final AtomicLong policyTypesFootprint = new AtomicLong();
 
     @Setter
     private HttpClient apiClient;
@@ -483,6 +486,7 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
             //
             if (policyTemplate != null) {
                 this.matchablePolicyTypes.put(policyTypeId, policyTemplate);
+                this.policyTypesFootprint.addAndGet(estimateFootprint(policyTemplate));
             }
         }
         //
@@ -491,6 +495,23 @@ public class StdMatchableTranslator extends StdBaseTranslator implements Matchab
         return policyTemplate;
     }
 
+    @Override
+    public long estimateFootprint() {
+        return policyTypesFootprint.get();
+    }
+
+    private static long estimateFootprint(ToscaServiceTemplate policyTemplate) {
+        //
+        // The template is made of beans, estimate it as the equivalent maps and lists
+        //
+        try {
+            return FootprintEstimator.estimate(new StandardCoder().convert(policyTemplate, Object.class));
+        } catch (CoderException e) {
+            LOGGER.warn("Failed to estimate the size of the policy type", e);
+            return 0;
+        }
+    }
+
     /**
      * loadPolicyType - Tries to load the given ToscaConceptIdentifier from local
      * storage. If it does not exist, will then attempt to pull from Policy Lifecycle
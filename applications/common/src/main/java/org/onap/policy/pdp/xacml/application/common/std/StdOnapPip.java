@@ -44,8 +44,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
 import org.onap.policy.pdp.xacml.application.common.ToscaDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -123,6 +126,22 @@ public abstract class StdOnapPip extends StdConfigurableEngine {
         this.shutdown = true;
     }
 
+    /**
+     * Runs a query using the entity manager. An entity manager is not thread-safe, thus
+     * queries wait for one another, and for the PIP to be configured or shut down. The
+     * time spent waiting is recorded as the {@link Phase#PIP_WAIT} phase.
+     *
+     * @param query query to run
+     * @return the result of the query
+     */
+    protected <T> T query(Supplier<T> query) {
+        var waitStart = System.nanoTime();
+        synchronized (this) {
+            DecisionPhaseTimer.record(Phase.PIP_WAIT, waitStart);
+            return query.get();
+        }
+    }
+
     protected String getAttribute(PIPFinder pipFinder, PIPRequest pipRequest) {
         //
         // Get the actor value
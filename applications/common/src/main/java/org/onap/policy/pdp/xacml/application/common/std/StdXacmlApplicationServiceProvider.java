@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2021, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,15 +30,18 @@ import com.att.research.xacml.api.pdp.PDPEngine;
 import com.att.research.xacml.api.pdp.PDPEngineFactory;
 import com.att.research.xacml.api.pdp.PDPException;
 import com.att.research.xacml.util.FactoryException;
+import com.att.research.xacml.util.XACMLProperties;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -47,11 +51,19 @@ import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer.Stage;
+import org.onap.policy.pdp.xacml.application.common.FootprintEstimator;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
 import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+import org.onap.policy.pdp.xacml.application.common.jfr.EngineCreationEvent;
+import org.onap.policy.pdp.xacml.application.common.jfr.PolicyDeploymentEvent;
+import org.onap.policy.pdp.xacml.application.common.jfr.XacmlDecisionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +82,7 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
     private Properties pdpProperties = null;
     private PDPEngine pdpEngine = null;
     private final Map<ToscaPolicy, Path> mapLoadedPolicies = new HashMap<>();
+    private final Map<ToscaPolicy, PolicyFootprint> mapPolicyFootprints = new ConcurrentHashMap<>();
 
     @Override
     public String applicationName() {
@@ -120,11 +133,16 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
 
     @Override
     public synchronized void loadPolicy(ToscaPolicy toscaPolicy) throws XacmlApplicationException {
+        var event = new PolicyDeploymentEvent();
+        event.begin();
+        var loaded = false;
         try {
             //
             // Convert the policies first
             //
+            var stageStart = System.nanoTime();
             Object xacmlPolicy = this.getTranslator(toscaPolicy.getType()).convertPolicy(toscaPolicy);
+            DeploymentStageTimer.record(Stage.CONVERT, stageStart);
             if (xacmlPolicy == null) {
                 throw new ToscaPolicyConversionException("Failed to convert policy");
             }
@@ -135,6 +153,7 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             //
             // Construct the filename
             //
+            stageStart = System.nanoTime();
             var refPath = XacmlPolicyUtils.constructUniquePolicyFilename(xacmlPolicy, this.getDataPath());
             //
             // Write the policy to disk
@@ -143,6 +162,7 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             if (XacmlPolicyUtils.writePolicyFile(refPath, xacmlPolicy) == null) {
                 throw new ToscaPolicyConversionException("Unable to writePolicyFile");
             }
+            DeploymentStageTimer.record(Stage.WRITE_POLICY, stageStart);
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Xacml Policy is {}{}", XacmlPolicyUtils.LINE_SEPARATOR,
                     Files.readString(refPath));
@@ -154,8 +174,10 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             //
             // Write the properties to disk
             //
+            stageStart = System.nanoTime();
             XacmlPolicyUtils.storeXacmlProperties(newProperties,
                 XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
+            DeploymentStageTimer.record(Stage.STORE_PROPERTIES, stageStart);
             //
             // Reload the engine
             //
@@ -168,13 +190,20 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             // Save in our map
             //
             this.mapLoadedPolicies.put(toscaPolicy, refPath);
+            this.mapPolicyFootprints.put(toscaPolicy, new PolicyFootprint(FootprintEstimator.estimate(toscaPolicy),
+                FootprintEstimator.estimateXacml(Files.size(refPath))));
+            loaded = true;
         } catch (IOException | ToscaPolicyConversionException e) {
             throw new XacmlApplicationException("loadPolicy failed", e);
+        } finally {
+            commitDeploymentEvent(event, PolicyDeploymentEvent.LOAD, toscaPolicy, loaded);
         }
     }
 
     @Override
     public synchronized boolean unloadPolicy(ToscaPolicy toscaPolicy) {
+        var event = new PolicyDeploymentEvent();
+        event.begin();
         //
         // Find it in our map
         //
@@ -182,6 +211,7 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         if (refPolicy == null) {
             LOGGER.error("Failed to find ToscaPolicy {} in our map size {}", toscaPolicy.getMetadata(),
                 this.mapLoadedPolicies.size());
+            commitDeploymentEvent(event, PolicyDeploymentEvent.UNLOAD, toscaPolicy, false);
             return false;
         }
         //
@@ -195,21 +225,25 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         //
         // We can delete the file
         //
+        var stageStart = System.nanoTime();
         try {
             Files.delete(refPolicy);
         } catch (IOException e) {
             LOGGER.error("Failed to delete policy {} from disk {}", toscaPolicy.getMetadata(),
                 refPolicy.toAbsolutePath(), e);
         }
+        DeploymentStageTimer.record(Stage.DELETE_POLICY, stageStart);
         //
         // Write the properties to disk
         //
+        stageStart = System.nanoTime();
         try {
             XacmlPolicyUtils.storeXacmlProperties(newProperties,
                 XacmlPolicyUtils.getPropertiesPath(this.getDataPath()));
         } catch (IOException e) {
             LOGGER.error("Failed to save the properties to disk {}", newProperties, e);
         }
+        DeploymentStageTimer.record(Stage.STORE_PROPERTIES, stageStart);
         //
         // Reload the engine
         //
@@ -225,9 +259,11 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
             LOGGER.error("Failed to remove toscaPolicy {} from internal map size {}", toscaPolicy.getMetadata(),
                 this.mapLoadedPolicies.size());
         }
+        this.mapPolicyFootprints.remove(toscaPolicy);
         //
         // Not sure if any of the errors above warrant returning false
         //
+        commitDeploymentEvent(event, PolicyDeploymentEvent.UNLOAD, toscaPolicy, true);
         return true;
     }
 
@@ -238,8 +274,10 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         // Convert to a XacmlRequest
         //
         Request xacmlRequest;
+        var convertStart = System.nanoTime();
         try {
             xacmlRequest = this.getTranslator().convertRequest(request);
+            DecisionPhaseTimer.record(Phase.CONVERT_REQUEST, convertStart);
         } catch (ToscaPolicyConversionException e) {
             LOGGER.error("Failed to convert request", e);
             var response = new DecisionResponse();
@@ -254,7 +292,48 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
         //
         // Convert to a DecisionResponse
         //
-        return Pair.of(this.getTranslator().convertResponse(xacmlResponse), xacmlResponse);
+        var responseStart = System.nanoTime();
+        var decisionResponse = this.getTranslator().convertResponse(xacmlResponse);
+        DecisionPhaseTimer.record(Phase.CONVERT_RESPONSE, responseStart);
+        return Pair.of(decisionResponse, xacmlResponse);
+    }
+
+    @Override
+    public Map<String, Long> estimateFootprint() {
+        //
+        // Not synchronized, this must not hold up decisions
+        //
+        long tosca = 0;
+        long xacml = 0;
+        for (var footprint : mapPolicyFootprints.values()) {
+            tosca += footprint.toscaBytes();
+            xacml += footprint.xacmlBytes();
+        }
+        Map<String, Long> footprints = new LinkedHashMap<>();
+        footprints.put(FootprintEstimator.TOSCA_POLICIES, tosca);
+        footprints.put(FootprintEstimator.XACML_POLICIES, xacml);
+        footprints.put(FootprintEstimator.POLICY_TYPES, this.getTranslator().estimateFootprint());
+        return footprints;
+    }
+
+    @Override
+    public long estimateFootprint(ToscaPolicy toscaPolicy) {
+        var footprint = mapPolicyFootprints.get(toscaPolicy);
+        return (footprint == null ? 0 : footprint.toscaBytes() + footprint.xacmlBytes());
+    }
+
+    private void commitDeploymentEvent(PolicyDeploymentEvent event, String operation, ToscaPolicy toscaPolicy,
+                    boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.application = applicationName;
+            event.operation = operation;
+            event.policyId = toscaPolicy.getName();
+            event.policyVersion = toscaPolicy.getVersion();
+            event.policyCount = mapLoadedPolicies.size();
+            event.outcome = (success ? PolicyDeploymentEvent.SUCCESS : PolicyDeploymentEvent.FAILURE);
+            event.commit();
+        }
     }
 
     protected abstract ToscaPolicyTranslator getTranslator(String type);
@@ -281,6 +360,10 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
      * Creates an instance of PDP engine given the Properties object.
      */
     protected synchronized void createEngine(Properties properties) {
+        var stageStart = System.nanoTime();
+        var event = new EngineCreationEvent();
+        event.begin();
+        var created = false;
         //
         // Now initialize the XACML PDP Engine
         //
@@ -296,9 +379,19 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
                 // Save it off
                 //
                 this.pdpEngine = engine;
+                created = true;
             }
         } catch (FactoryException e) {
             LOGGER.error("Failed to create XACML PDP Engine", e);
+        } finally {
+            DeploymentStageTimer.record(Stage.CREATE_ENGINE, stageStart);
+            event.end();
+            if (event.shouldCommit()) {
+                event.application = applicationName;
+                event.policyCount = (properties == null ? 0 : XACMLProperties.getRootPolicyIDs(properties).size());
+                event.outcome = (created ? PolicyDeploymentEvent.SUCCESS : PolicyDeploymentEvent.FAILURE);
+                event.commit();
+            }
         }
     }
 
@@ -320,27 +413,45 @@ public abstract class StdXacmlApplicationServiceProvider implements XacmlApplica
      * @param request Incoming request object
      * @return Response object
      */
-    protected synchronized Response xacmlDecision(Request request) {
-        //
-        // This is what we need to return
-        //
-        Response response = null;
+    protected Response xacmlDecision(Request request) {
         //
-        // Track some timing
+        // The engine evaluates one request at a time, track how long we wait for it
         //
-        long timeStart = System.currentTimeMillis();
-        try {
-            response = this.pdpEngine.decide(request);
-        } catch (PDPException e) {
-            LOGGER.error("Xacml PDP Engine decide failed", e);
-        } finally {
+        var lockStart = System.nanoTime();
+        synchronized (this) {
+            DecisionPhaseTimer.record(Phase.LOCK_WAIT, lockStart);
+            //
+            // This is what we need to return
             //
-            // Track the end of timing
+            Response response = null;
             //
-            long timeEnd = System.currentTimeMillis();
-            LOGGER.info("Elapsed Time: {}ms", (timeEnd - timeStart));
+            // Track some timing
+            //
+            var event = new XacmlDecisionEvent();
+            event.begin();
+            var timeStart = System.nanoTime();
+            try {
+                response = this.pdpEngine.decide(request);
+            } catch (PDPException e) {
+                LOGGER.error("Xacml PDP Engine decide failed", e);
+            } finally {
+                DecisionPhaseTimer.record(Phase.DECIDE, timeStart);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.application = applicationName;
+                    event.policyCount = mapLoadedPolicies.size();
+                    event.outcome = XacmlDecisionEvent.getOutcome(response);
+                    event.commit();
+                }
+            }
+            return response;
         }
-        return response;
+    }
+
+    /**
+     * Heap retained by the representations of a loaded policy.
+     */
+    private record PolicyFootprint(long toscaBytes, long xacmlBytes) {
     }
 
     // these may be overridden by junit tests
@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
+
+class DecisionPhaseTimerTest {
+
+    @Test
+    void testNotStarted() {
+        DecisionPhaseTimer.record(Phase.DECIDE, System.nanoTime());
+        assertThat(DecisionPhaseTimer.stop()).isNull();
+    }
+
+    @Test
+    void testRecord() throws InterruptedException {
+        DecisionPhaseTimer.start();
+        var start = System.nanoTime();
+        Thread.sleep(5);
+        DecisionPhaseTimer.record(Phase.PIP, start);
+        DecisionPhaseTimer.record(Phase.PIP, start);
+
+        var timings = DecisionPhaseTimer.stop();
+        assertThat(timings).hasSize(Phase.values().length);
+        assertThat(timings[Phase.PIP.ordinal()]).isGreaterThanOrEqualTo(10_000_000L);
+        assertThat(timings[Phase.DECIDE.ordinal()]).isZero();
+
+        // stopped, thus nothing more is recorded
+        assertThat(DecisionPhaseTimer.stop()).isNull();
+    }
+
+    @Test
+    void testStartDiscards() {
+        DecisionPhaseTimer.start();
+        DecisionPhaseTimer.record(Phase.DECIDE, System.nanoTime() - 1000);
+        DecisionPhaseTimer.start();
+        assertThat(DecisionPhaseTimer.stop()[Phase.DECIDE.ordinal()]).isZero();
+    }
+
+    @Test
+    void testLabels() {
+        assertThat(Phase.CONVERT_REQUEST.getLabel()).isEqualTo("convert_request");
+        assertThat(Phase.CONVERT_RESPONSE.getLabel()).isEqualTo("convert_response");
+    }
+}
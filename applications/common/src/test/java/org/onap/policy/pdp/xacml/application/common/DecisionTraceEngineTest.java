@@ -0,0 +1,81 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.att.research.xacml.std.trace.StdTraceEvent;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class DecisionTraceEngineTest {
+    private final DecisionTraceEngine engine = DecisionTraceEngine.getInstance();
+
+    @Test
+    void testNotStarted() {
+        assertThat(engine.isTracing()).isFalse();
+        engine.trace(new StdTraceEvent<>("ignored", null, "value"));
+        assertThat(DecisionTraceEngine.stop()).isNull();
+    }
+
+    @Test
+    void testTrace() {
+        DecisionTraceEngine.start();
+        assertThat(engine.isTracing()).isTrue();
+        engine.trace(new StdTraceEvent<>("first", null, null));
+        engine.trace(new StdTraceEvent<>("second", null, "x".repeat(DecisionTraceEngine.MAX_VALUE_LENGTH + 1)));
+
+        var events = DecisionTraceEngine.stop();
+        assertThat(engine.isTracing()).isFalse();
+        assertThat(events).extracting(DecisionTraceEngine.Event::message).containsExactly("first", "second");
+        assertThat(events.get(0).value()).isNull();
+        assertThat(events.get(0).source()).isNull();
+        assertThat(events.get(1).value()).hasSize(DecisionTraceEngine.MAX_VALUE_LENGTH + 3).endsWith("...");
+        assertThat(events.get(1).offsetMicros()).isGreaterThanOrEqualTo(events.get(0).offsetMicros());
+    }
+
+    @Test
+    void testTrace_MaxEvents() {
+        DecisionTraceEngine.start();
+        for (var count = 0; count <= DecisionTraceEngine.MAX_EVENTS; ++count) {
+            engine.trace(new StdTraceEvent<>("event", null, count));
+        }
+        assertThat(DecisionTraceEngine.stop()).hasSize(DecisionTraceEngine.MAX_EVENTS);
+    }
+
+    @Test
+    void testStartDiscards() {
+        DecisionTraceEngine.start();
+        engine.trace(new StdTraceEvent<>("discarded", null, null));
+        DecisionTraceEngine.start();
+        assertThat(DecisionTraceEngine.stop()).isEmpty();
+
+        // started twice, but stopped once, thus no longer tracing
+        assertThat(engine.isTracing()).isFalse();
+    }
+
+    @Test
+    void testFactory() {
+        var factory = new DecisionTraceEngineFactory();
+        assertThat(factory.getTraceEngine()).isSameAs(engine);
+        assertThat(factory.getTraceEngine(new Properties())).isSameAs(engine);
+    }
+}
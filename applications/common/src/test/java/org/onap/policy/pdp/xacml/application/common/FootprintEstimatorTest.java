@@ -0,0 +1,75 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.application.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class FootprintEstimatorTest {
+
+    @Test
+    void testEstimate() {
+        assertThat(FootprintEstimator.estimate(null)).isZero();
+        assertThat(FootprintEstimator.estimate(Integer.valueOf(10))).isEqualTo(16);
+
+        // strings are aligned on 8 bytes
+        assertThat(FootprintEstimator.estimate("")).isEqualTo(40);
+        assertThat(FootprintEstimator.estimate("a")).isEqualTo(48);
+        assertThat(FootprintEstimator.estimate("12345678")).isEqualTo(48);
+
+        var list = List.of("a", "b");
+        assertThat(FootprintEstimator.estimate(list)).isGreaterThan(2 * 48);
+
+        var map = Map.of("key", list);
+        assertThat(FootprintEstimator.estimate(map))
+            .isGreaterThan(FootprintEstimator.estimate("key") + FootprintEstimator.estimate(list));
+    }
+
+    @Test
+    void testEstimate_Deep() {
+        Object value = "leaf";
+        for (var depth = 0; depth < 1000; ++depth) {
+            value = List.of(value);
+        }
+        assertThat(FootprintEstimator.estimate(value)).isPositive();
+    }
+
+    @Test
+    void testEstimate_Policy() {
+        var policy = new ToscaPolicy();
+        var empty = FootprintEstimator.estimate(policy);
+        assertThat(empty).isPositive();
+
+        policy.setName("my-policy");
+        policy.setProperties(Map.of("threshold", "10", "targets", List.of("vnf-1", "vnf-2")));
+        assertThat(FootprintEstimator.estimate(policy)).isGreaterThan(empty + 200);
+    }
+
+    @Test
+    void testEstimateXacml() {
+        assertThat(FootprintEstimator.estimateXacml(0)).isZero();
+        assertThat(FootprintEstimator.estimateXacml(1000)).isGreaterThan(1000);
+    }
+}
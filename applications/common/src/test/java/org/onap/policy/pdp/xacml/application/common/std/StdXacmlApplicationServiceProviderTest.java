@@ -47,9 +47,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import oasis.names.tc.xacml._3_0.core.schema.wd_17.PolicyType;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.AfterAll;
@@ -63,10 +67,13 @@ import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer.Stage;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
 import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
 import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+import org.onap.policy.pdp.xacml.application.common.jfr.XacmlDecisionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -249,6 +256,45 @@ class StdXacmlApplicationServiceProviderTest {
         assertEquals(set.toString(), set3.toString());
     }
 
+    @Test
+    void testLoadPolicy_StageTimings() throws Exception {
+        prov.initialize(TEMP_PATH, apiClient);
+
+        DeploymentStageTimer.start();
+        prov.loadPolicy(policy);
+        var timings = DeploymentStageTimer.stop();
+
+        assertThat(timings).hasSize(Stage.values().length);
+        for (var stage : Stage.values()) {
+            if (stage == Stage.DELETE_POLICY) {
+                assertThat(timings[stage.ordinal()]).as(stage.getLabel()).isZero();
+            } else {
+                assertThat(timings[stage.ordinal()]).as(stage.getLabel()).isPositive();
+            }
+        }
+
+        // not started, thus nothing is recorded
+        assertTrue(prov.unloadPolicy(policy));
+        assertNull(DeploymentStageTimer.stop());
+    }
+
+    @Test
+    void testUnloadPolicy_StageTimings() throws Exception {
+        prov.initialize(TEMP_PATH, apiClient);
+        prov.loadPolicy(policy);
+
+        DeploymentStageTimer.start();
+        assertTrue(prov.unloadPolicy(policy));
+        var timings = DeploymentStageTimer.stop();
+
+        // the policy is deleted, not written
+        assertThat(timings[Stage.CONVERT.ordinal()]).isZero();
+        assertThat(timings[Stage.WRITE_POLICY.ordinal()]).isZero();
+        assertThat(timings[Stage.DELETE_POLICY.ordinal()]).isPositive();
+        assertThat(timings[Stage.STORE_PROPERTIES.ordinal()]).isPositive();
+        assertThat(timings[Stage.CREATE_ENGINE.ordinal()]).isPositive();
+    }
+
     @Test
     void testUnloadPolicy_NotDeployed() throws Exception {
         prov.initialize(TEMP_PATH, apiClient);
@@ -311,6 +357,26 @@ class StdXacmlApplicationServiceProviderTest {
         assertNull(prov.xacmlDecision(req));
     }
 
+    @Test
+    void testXacmlDecision_FlightRecorder() throws Exception {
+        prov.createEngine(null);
+
+        Path file = TEMP_PATH.resolve("decision.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(XacmlDecisionEvent.NAME).withoutThreshold();
+            recording.start();
+            prov.xacmlDecision(req);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        assertEquals(prov.applicationName(), events.get(0).getString("application"));
+        assertEquals(0, events.get(0).getInt("policyCount"));
+        assertEquals(XacmlDecisionEvent.ERROR, events.get(0).getString("outcome"));
+    }
+
     @Test
     void testGetPdpEngineFactory() throws XacmlApplicationException {
         // use the real engine factory
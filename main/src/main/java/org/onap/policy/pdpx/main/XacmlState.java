@@ -32,6 +32,7 @@ import org.onap.policy.models.pdp.concepts.PdpUpdate;
 import org.onap.policy.models.pdp.enums.PdpHealthStatus;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
 import org.onap.policy.models.pdp.enums.PdpState;
+import org.onap.policy.pdpx.main.comm.HeartbeatStatistics;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
 import org.slf4j.Logger;
@@ -59,6 +60,11 @@ public class XacmlState {
      */
     private final PdpStatus status;
 
+    /**
+     * Summarizes the decisions made between heart beats.
+     */
+    private final HeartbeatStatistics heartbeatStatistics = new HeartbeatStatistics();
+
     /**
      * Constructs the object, initializing the state.
      */
@@ -84,7 +90,8 @@ public class XacmlState {
     }
 
     /**
-     * Generates a new heart beat message.
+     * Generates a new heart beat message, carrying the statistics of the decisions
+     * made since the previous one.
      *
      * @return a new heart beat message
      */
@@ -93,7 +100,9 @@ public class XacmlState {
         status.setHealthy(XacmlPdpActivator.getCurrent().isAlive() ? PdpHealthStatus.HEALTHY
             : PdpHealthStatus.NOT_HEALTHY);
 
-        return new PdpStatus(status);
+        var heartbeat = new PdpStatus(status);
+        heartbeat.setStatistics(heartbeatStatistics.generate(heartbeat));
+        return heartbeat;
     }
 
     /**
@@ -0,0 +1,169 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.comm;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.models.pdp.concepts.PdpEngineWorkerStatistics;
+import org.onap.policy.models.pdp.concepts.PdpStatistics;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.pdpx.main.rest.DecisionTimings;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+
+/**
+ * Summarizes the decisions made since the previous heartbeat, so that PAP gets a view
+ * of the load of every PDP. The PDP-wide counts are cumulative, as PAP expects. Each
+ * application is reported as an engine, whose statistics cover the decisions made
+ * since the previous heartbeat:
+ * <ul>
+ * <li>eventCount: the number of decisions</li>
+ * <li>lastStart and engineTimeStamp: the start and end of the period, in epoch
+ * milliseconds, thus the decision rate is eventCount / (engineTimeStamp - lastStart)</li>
+ * <li>averageExecutionTime: the mean latency, in milliseconds</li>
+ * <li>lastExecutionTime: the upper bound of the histogram bucket holding the 99th
+ * percentile of the latency, in milliseconds, rounded up</li>
+ * </ul>
+ * The latencies are those of the decision phase histogram, the one exported to
+ * Prometheus, thus the heartbeats and the dashboards agree.
+ */
+public class HeartbeatStatistics {
+    private static final double PERCENTILE = 0.99;
+
+    private final Map<String, Counts> previous = new HashMap<>();
+    private long previousMillis = System.currentTimeMillis();
+
+    /**
+     * Generates the statistics to send in a heartbeat.
+     *
+     * @param status heartbeat that is to carry the statistics
+     * @return the statistics, or {@code null} if statistics are not being kept
+     */
+    public synchronized PdpStatistics generate(PdpStatus status) {
+        var stats = XacmlPdpStatisticsManager.getCurrent();
+        if (stats == null) {
+            return null;
+        }
+
+        var snapshot = stats.snapshot();
+        var pdpStats = new PdpStatistics();
+        pdpStats.setPdpInstanceId(status.getName());
+        pdpStats.setTimeStamp(Instant.now());
+        pdpStats.setPdpGroupName(status.getPdpGroup());
+        pdpStats.setPdpSubGroupName(status.getPdpSubgroup());
+        pdpStats.setPolicyDeploySuccessCount(snapshot.deploySuccessCount());
+        pdpStats.setPolicyDeployFailCount(snapshot.deployFailureCount());
+        pdpStats.setPolicyDeployCount(snapshot.deploySuccessCount() + snapshot.deployFailureCount());
+        pdpStats.setPolicyUndeploySuccessCount(snapshot.undeploySuccessCount());
+        pdpStats.setPolicyUndeployFailCount(snapshot.undeployFailureCount());
+        pdpStats.setPolicyUndeployCount(snapshot.undeploySuccessCount() + snapshot.undeployFailureCount());
+
+        var success = snapshot.permitDecisionsCount() + snapshot.denyDecisionsCount()
+                        + snapshot.notApplicableDecisionsCount();
+        var failure = snapshot.errorCount() + snapshot.indeterminantDecisionsCount();
+        pdpStats.setPolicyExecutedSuccessCount(success);
+        pdpStats.setPolicyExecutedFailCount(failure);
+        pdpStats.setPolicyExecutedCount(success + failure);
+
+        var nowMillis = System.currentTimeMillis();
+        List<PdpEngineWorkerStatistics> engines = new ArrayList<>();
+        for (var application : stats.getApplicationNames()) {
+            var current = new Counts(DecisionTimings.getLatencies(application));
+            var last = previous.put(application, current);
+            engines.add(toEngineStatistics(application, current.minus(last), nowMillis));
+        }
+        previousMillis = nowMillis;
+
+        pdpStats.setEngineStats(engines);
+        return pdpStats;
+    }
+
+    private PdpEngineWorkerStatistics toEngineStatistics(String application, Counts counts, long nowMillis) {
+        var engine = new PdpEngineWorkerStatistics();
+        engine.setEngineId(application);
+        engine.setLastStart(previousMillis);
+        engine.setEngineTimeStamp(nowMillis);
+
+        var decisions = counts.getDecisions();
+        engine.setEventCount(decisions);
+        if (decisions > 0) {
+            engine.setAverageExecutionTime((double) counts.latencyNanos / decisions / TimeUnit.MILLISECONDS.toNanos(1));
+            engine.setLastExecutionTime(counts.getPercentileMillis(PERCENTILE));
+        }
+        return engine;
+    }
+
+    /**
+     * Cumulative latency counts of an application, or the difference between two.
+     */
+    private static class Counts {
+        private final long[] buckets;
+        private final long latencyNanos;
+
+        Counts(DecisionTimings.Latencies latencies) {
+            this(latencies.counts(), latencies.nanos());
+        }
+
+        Counts(long[] buckets, long latencyNanos) {
+            this.buckets = buckets;
+            this.latencyNanos = latencyNanos;
+        }
+
+        Counts minus(Counts other) {
+            if (other == null) {
+                return this;
+            }
+            var diff = new long[buckets.length];
+            for (var bucket = 0; bucket < buckets.length; ++bucket) {
+                diff[bucket] = buckets[bucket] - other.buckets[bucket];
+            }
+            return new Counts(diff, latencyNanos - other.latencyNanos);
+        }
+
+        long getDecisions() {
+            var total = 0L;
+            for (var count : buckets) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Gets the upper bound of the bucket holding a percentile of the latencies, or
+         * the largest bound if the percentile is above it.
+         */
+        long getPercentileMillis(double percentile) {
+            var target = (long) Math.ceil(getDecisions() * percentile);
+            var total = 0L;
+            var bucket = 0;
+            for (; bucket < buckets.length - 1; ++bucket) {
+                total += buckets[bucket];
+                if (total >= target) {
+                    break;
+                }
+            }
+            return (long) Math.ceil(DecisionTimings.getUpperBound(bucket) * TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+}
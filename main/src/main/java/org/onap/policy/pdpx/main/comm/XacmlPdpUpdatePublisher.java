@@ -29,14 +29,18 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.onap.policy.common.message.bus.event.client.TopicSinkClient;
+import org.onap.policy.common.utils.resources.PrometheusUtils;
 import org.onap.policy.models.pdp.concepts.PdpStatus;
 import org.onap.policy.models.pdp.concepts.PdpUpdate;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
 import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
 import org.onap.policy.pdpx.main.XacmlState;
+import org.onap.policy.pdpx.main.rest.DeploymentTimings;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpCaptureLog;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +70,7 @@ public class XacmlPdpUpdatePublisher {
             Optional.ofNullable(message.getPoliciesToBeUndeployed()).orElse(Collections.emptyList());
 
         var stats = XacmlPdpStatisticsManager.getCurrent();
+        var timings = new DeploymentTimings();
 
         // Undeploy policies
         for (ToscaConceptIdentifier policyId : toBeUndeployedIds) {
@@ -73,11 +78,22 @@ public class XacmlPdpUpdatePublisher {
             if (policy == null) {
                 LOGGER.warn("attempt to undeploy policy that has not been previously deployed: {}", policyId);
                 stats.updateUndeployFailureCount();
+                timings.addPolicy(null, null, PrometheusUtils.UNDEPLOY_OPERATION, false, null, 0);
             } else if (toBeDeployedPolicies.containsKey(policyId)) {
                 LOGGER.warn("not undeploying policy, as it also appears in the deployment list: {}", policyId);
                 stats.updateUndeployFailureCount();
+                timings.addPolicy(getApplicationName(policy), policy.getType(), PrometheusUtils.UNDEPLOY_OPERATION,
+                                false, null, 0);
             } else {
-                appManager.removeUndeployedPolicy(policy);
+                var application = getApplicationName(policy);
+                var start = System.nanoTime();
+                DeploymentStageTimer.start();
+                try {
+                    appManager.removeUndeployedPolicy(policy);
+                } finally {
+                    timings.addPolicy(application, policy.getType(), PrometheusUtils.UNDEPLOY_OPERATION, true,
+                                    DeploymentStageTimer.stop(), System.nanoTime() - start);
+                }
                 stats.updateUndeploySuccessCount();
             }
         }
@@ -87,8 +103,14 @@ public class XacmlPdpUpdatePublisher {
         // if deployed policies do not contain the incoming policy load it
         for (ToscaPolicy policy : toBeDeployedPolicies.values()) {
             if (!deployedPolicies.containsKey(policy.getIdentifier())) {
+                // resolved beforehand, as a policy that fails to load is not mapped
+                var application = appManager.findApplication(policy);
+                var start = System.nanoTime();
+                var success = false;
+                DeploymentStageTimer.start();
                 try {
                     appManager.loadDeployedPolicy(policy);
+                    success = true;
                     stats.updateDeploySuccessCount();
                 } catch (XacmlApplicationException e) {
                     // Failed to load policy, return error(s) to PAP
@@ -96,12 +118,24 @@ public class XacmlPdpUpdatePublisher {
                     errorMessage.append("Failed to load policy: ").append(policy).append(": ").append(e.getMessage())
                         .append(XacmlPolicyUtils.LINE_SEPARATOR);
                     stats.updateDeployFailureCount();
+                } finally {
+                    timings.addPolicy(application == null ? null : application.applicationName(), policy.getType(),
+                                    PrometheusUtils.DEPLOY_OPERATION, success, DeploymentStageTimer.stop(),
+                                    System.nanoTime() - start);
                 }
             }
         }
 
         // update the policy count statistic
         stats.setTotalPolicyCount(appManager.getPolicyCount());
+        var summary = timings.toSummary();
+        stats.setLastDeployment(summary);
+
+        // a replay of the captured decisions must deploy the same policies at the same point
+        var capture = XacmlPdpCaptureLog.getCurrent();
+        if (capture != null && summary.getDeployedCount() + summary.getUndeployedCount() > 0) {
+            capture.recordPolicies(appManager.getToscaPolicies().keySet());
+        }
 
         PdpStatus status = state.updateInternalState(message, errorMessage.toString());
         LOGGER.debug("Returning current deployed policies: {} ", status.getPolicies());
@@ -109,6 +143,11 @@ public class XacmlPdpUpdatePublisher {
         sendPdpUpdate(status);
     }
 
+    private String getApplicationName(ToscaPolicy policy) {
+        var application = appManager.getToscaPolicies().get(policy);
+        return (application == null ? null : application.applicationName());
+    }
+
     private Map<ToscaConceptIdentifier, ToscaPolicy> policyToMap(Collection<ToscaPolicy> policies) {
         if (policies == null) {
             return Collections.emptyMap();
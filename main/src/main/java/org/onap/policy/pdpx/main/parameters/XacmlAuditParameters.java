@@ -0,0 +1,98 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.parameters;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.ParameterGroupImpl;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotBlank;
+import org.onap.policy.common.parameters.annotations.NotNull;
+
+/**
+ * Parameters controlling the decision audit log.
+ */
+@NotNull
+@NotBlank
+@Getter
+@Setter
+public class XacmlAuditParameters extends ParameterGroupImpl {
+
+    /**
+     * Write an audit record for each decision.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Path of the audit file. Rotated files get a numeric suffix.
+     */
+    private String file = "/var/log/onap/policy/pdpx/decision-audit.log";
+
+    /**
+     * Applications whose decisions are audited. Every application is audited when
+     * empty.
+     */
+    private Set<String> applications = new HashSet<>();
+
+    /**
+     * Number of audit records that may wait to be written. Rounded up to a power of
+     * two.
+     */
+    @Min(1)
+    private int bufferSize = 8192;
+
+    /**
+     * Make decisions wait for room in the buffer when it is full, instead of dropping
+     * their audit records.
+     */
+    private boolean blockWhenFull = false;
+
+    /**
+     * Maximum number of audit records written at once.
+     */
+    @Min(1)
+    private int batchSize = 256;
+
+    /**
+     * Maximum time, in milliseconds, audit records remain buffered in memory once
+     * written.
+     */
+    @Min(1)
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Size, in kilobytes, at which the audit file is rotated.
+     */
+    @Min(1)
+    private long maxFileSizeKb = 51200;
+
+    /**
+     * Number of rotated audit files to keep.
+     */
+    @Min(0)
+    private int maxFiles = 10;
+
+    public XacmlAuditParameters() {
+        super(XacmlAuditParameters.class.getSimpleName());
+    }
+}
@@ -0,0 +1,81 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.parameters;
+
+import jakarta.validation.constraints.DecimalMax;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.ParameterGroupImpl;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotBlank;
+import org.onap.policy.common.parameters.annotations.NotNull;
+
+/**
+ * Parameters controlling the capture of decision traffic, for replay.
+ */
+@NotNull
+@NotBlank
+@Getter
+@Setter
+public class XacmlCaptureParameters extends ParameterGroupImpl {
+
+    /**
+     * Capture a sample of the decision requests and their responses.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Path of the capture file. It is overwritten when the PDP starts.
+     */
+    private String file = "/var/log/onap/policy/pdpx/decision-capture.bin";
+
+    /**
+     * Applications whose decisions are captured. Every application is captured when
+     * empty.
+     */
+    private Set<String> applications = new HashSet<>();
+
+    /**
+     * Fraction of the decisions that are captured.
+     */
+    @Min(0)
+    @DecimalMax("1.0")
+    private double sampleRate = 1.0;
+
+    /**
+     * Number of captured decisions that may wait to be written. Decisions are not
+     * captured while it is full.
+     */
+    @Min(1)
+    private int bufferSize = 4096;
+
+    /**
+     * Size, in kilobytes, of the capture file beyond which capture stops.
+     */
+    @Min(1)
+    private long maxFileSizeKb = 102400;
+
+    public XacmlCaptureParameters() {
+        super(XacmlCaptureParameters.class.getSimpleName());
+    }
+}
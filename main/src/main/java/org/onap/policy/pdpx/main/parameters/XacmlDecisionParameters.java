@@ -0,0 +1,152 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.parameters;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.ParameterGroupImpl;
+import org.onap.policy.common.parameters.annotations.Min;
+import org.onap.policy.common.parameters.annotations.NotBlank;
+import org.onap.policy.common.parameters.annotations.NotNull;
+
+/**
+ * Parameters controlling how decisions are executed off the REST request threads, and
+ * how they are measured.
+ */
+@NotNull
+@NotBlank
+@Getter
+@Setter
+public class XacmlDecisionParameters extends ParameterGroupImpl {
+
+    /**
+     * Run decisions on virtual threads, when the JVM supports them.
+     */
+    private boolean useVirtualThreads = true;
+
+    /**
+     * Size of the platform thread pool used when virtual threads are disabled or
+     * not supported by the JVM.
+     */
+    @Min(1)
+    private int maxThreads = 200;
+
+    /**
+     * Let identical decision requests that arrive while one of them is being evaluated
+     * share that evaluation. Every decision then pays for encoding its request, and
+     * every shared one for copying the response, thus this only pays off when many
+     * identical requests arrive at the same time.
+     */
+    private boolean coalesceDecisions = false;
+
+    /**
+     * Maximum number of decisions an application evaluates at the same time. Zero
+     * disables admission control.
+     */
+    @Min(0)
+    private int maxConcurrentDecisions = 0;
+
+    /**
+     * Overrides of {@link #maxConcurrentDecisions}, keyed by application name.
+     */
+    private Map<String, @NotNull @Min(0) Integer> applicationConcurrencyLimits = new HashMap<>();
+
+    /**
+     * Maximum number of decisions that may wait for an application that has reached
+     * its concurrency limit. Decisions beyond that are rejected.
+     */
+    @Min(0)
+    private int maxQueuedDecisions = 100;
+
+    /**
+     * Lower the concurrency limits while decisions are slower than
+     * {@link #targetLatencyMs}, and raise them back while they are faster.
+     */
+    private boolean adaptiveLimits = false;
+
+    /**
+     * Decision latency, in milliseconds, above which an adaptive limit is lowered.
+     */
+    @Min(1)
+    private long targetLatencyMs = 100;
+
+    /**
+     * Value, in seconds, of the Retry-After header returned with rejected decisions.
+     */
+    @Min(0)
+    private int retryAfterSec = 1;
+
+    /**
+     * Applications whose decisions run on their own pool of platform threads, keyed by
+     * application name, with the size of the pool. Other applications share the
+     * default executor.
+     */
+    private Map<String, @NotNull @Min(1) Integer> applicationThreads = new HashMap<>();
+
+    /**
+     * Priority of decisions, keyed by action. Decisions waiting for a thread are run in
+     * order of priority, higher values first. Actions not listed have priority zero.
+     */
+    private Map<String, @NotNull Integer> actionPriorities = new HashMap<>(Map.of("guard", 10));
+
+    /**
+     * One in how many decisions have their evaluation time attributed to the policies
+     * that applied to them. Zero disables the sampling; hits are always counted.
+     */
+    @Min(0)
+    private int policySampleRate = 10;
+
+    /**
+     * Maximum number of policies reported in each per-policy Prometheus metric.
+     */
+    @Min(0)
+    private int policyMetricsLimit = 20;
+
+    /**
+     * One in how many decisions have their trace recorded. Zero disables the sampling;
+     * decisions may still ask for their trace to be recorded.
+     */
+    @Min(0)
+    private int traceSampleRate = 0;
+
+    /**
+     * Maximum number of decision traces kept in memory. Zero disables tracing.
+     */
+    @Min(0)
+    private int traceBufferSize = 100;
+
+    /**
+     * Gets the concurrency limit of an application.
+     *
+     * @param application application name
+     * @return the maximum number of decisions the application evaluates at the same
+     *         time, or zero if there is no limit
+     */
+    public int getConcurrencyLimit(String application) {
+        return applicationConcurrencyLimits.getOrDefault(application, maxConcurrentDecisions);
+    }
+
+    public XacmlDecisionParameters() {
+        super(XacmlDecisionParameters.class.getSimpleName());
+    }
+}
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2019, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +57,12 @@ public class XacmlPdpParameterGroup extends ParameterGroupImpl {
     private TopicParameterGroup topicParameterGroup;
     @Valid
     private XacmlApplicationParameters applicationParameters;
+    @Valid
+    private XacmlDecisionParameters decisionParameters = new XacmlDecisionParameters();
+    @Valid
+    private XacmlAuditParameters auditParameters = new XacmlAuditParameters();
+    @Valid
+    private XacmlCaptureParameters captureParameters = new XacmlCaptureParameters();
     /**
      * Frequency, in seconds, with which to probe the heartbeat topic before sending the
      * first heartbeat. Set to zero to disable probing.
@@ -0,0 +1,114 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import lombok.Getter;
+import org.onap.policy.pdpx.main.rest.model.CaptureRecord;
+
+/**
+ * Reads the records of a file written by {@link XacmlPdpCaptureLog}. A file whose last
+ * record was cut short, as when the PDP was killed, is read up to that record.
+ */
+public class DecisionCaptureReader implements AutoCloseable {
+    private static final CaptureRecord.Kind[] KINDS = CaptureRecord.Kind.values();
+
+    private final DataInputStream input;
+
+    /**
+     * Time at which the capture started.
+     */
+    @Getter
+    private final Instant startTime;
+
+    /**
+     * Constructs the object, reading the header of the capture.
+     *
+     * @param stream stream from which to read the capture file
+     * @throws IOException if the stream is not a capture file or cannot be read
+     */
+    public DecisionCaptureReader(InputStream stream) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (input.readInt() != XacmlPdpCaptureLog.MAGIC) {
+            throw new IOException("not a decision capture");
+        }
+        var version = input.readShort();
+        if (version != XacmlPdpCaptureLog.VERSION) {
+            throw new IOException("unsupported decision capture version " + version);
+        }
+        this.startTime = Instant.ofEpochMilli(input.readLong());
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record, or {@code null} if there are no more
+     * @throws IOException if the capture file cannot be read
+     */
+    public CaptureRecord next() throws IOException {
+        try {
+            int kind = input.read();
+            if (kind < 0) {
+                return null;
+            }
+            if (kind >= KINDS.length) {
+                throw new IOException("unknown decision capture record " + kind);
+            }
+
+            var rec = new CaptureRecord();
+            rec.setKind(KINDS[kind]);
+            rec.setOffsetMicros(input.readLong());
+            rec.setLatencyMicros(input.readLong());
+            rec.setAbbreviated((input.readByte() & XacmlPdpCaptureLog.ABBREVIATED) != 0);
+            var application = input.readUTF();
+            rec.setApplication(application.isEmpty() ? null : application);
+            rec.setRequest(readString());
+            rec.setResponse(readString());
+            return rec;
+
+        } catch (EOFException e) {
+            // the last record was cut short
+            return null;
+        }
+    }
+
+    private String readString() throws IOException {
+        var length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        var bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
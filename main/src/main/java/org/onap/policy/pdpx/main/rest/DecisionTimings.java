@@ -0,0 +1,256 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import io.prometheus.metrics.core.metrics.Histogram;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+
+/**
+ * Time spent in each phase of a decision REST request, from the deserialization of the
+ * request to the serialization of the response. Every decision is recorded in the phase
+ * histogram as it completes, its phases and its latency as a whole, the latter being the
+ * histogram the heartbeats summarize; the request as a whole may also be reported in a
+ * Server-Timing response header. The decisions of a batch may complete concurrently,
+ * thus their phases are accumulated atomically.
+ */
+public class DecisionTimings {
+    /**
+     * Name of the request property holding the timings of the request.
+     */
+    public static final String PROPERTY = DecisionTimings.class.getName();
+
+    /**
+     * Request header asking for the Server-Timing response header.
+     */
+    public static final String REQUEST_HEADER = "X-ONAP-ServerTiming";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    public static final String DESERIALIZATION_PHASE = "deserialization";
+    public static final String SERIALIZATION_PHASE = "serialization";
+    public static final String TOTAL_PHASE = "total";
+    public static final String UNKNOWN_APPLICATION = "unknown";
+    public static final String ERROR_OUTCOME = "error";
+    public static final String MIXED = "mixed";
+    public static final String OUTCOME = "outcome";
+    public static final String PHASE = "phase";
+
+    protected static final String DECISION_PHASE_METRIC = "decision_phase_seconds";
+    public static final String DECISION_PHASE_HELP =
+                    "Time spent in each phase of a decision, and in the decision as a whole (phase total).";
+
+    private static final double[] UPPER_BOUNDS = {0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01,
+        0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5};
+
+    protected static final Histogram phaseHistogram =
+        Histogram.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + DECISION_PHASE_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, OUTCOME, PHASE)
+            .help(DECISION_PHASE_HELP)
+            .classicUpperBounds(UPPER_BOUNDS)
+            .register();
+
+    private static final DecisionPhaseTimer.Phase[] PHASES = DecisionPhaseTimer.Phase.values();
+
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(PHASES.length);
+    private volatile long deserializationNanos = 0;
+    private volatile String application = null;
+    private volatile String outcome = null;
+
+    @Getter
+    @Setter
+    private volatile boolean serverTimingRequested = false;
+
+    /**
+     * Records the time taken to deserialize the request.
+     *
+     * @param nanos time, in nanoseconds
+     */
+    public void setDeserializationNanos(long nanos) {
+        deserializationNanos = nanos;
+    }
+
+    /**
+     * Records a decision made for this request.
+     *
+     * @param app name of the application that made the decision
+     * @param decisionOutcome outcome of the decision
+     * @param phases time spent in each phase, as returned by {@link DecisionPhaseTimer#stop()}
+     */
+    public void addDecision(String app, String decisionOutcome, long[] phases) {
+        synchronized (this) {
+            application = merge(application, app);
+            outcome = merge(outcome, decisionOutcome);
+        }
+
+        if (phases == null) {
+            return;
+        }
+        for (var phase : PHASES) {
+            var nanos = phases[phase.ordinal()];
+            phaseNanos.addAndGet(phase.ordinal(), nanos);
+            if (nanos > 0) {
+                observe(app, decisionOutcome, phase.getLabel(), nanos);
+            }
+        }
+    }
+
+    /**
+     * Records the time taken to deserialize the request in the phase histogram. This is
+     * done once the decisions are known, so that it is labeled like them.
+     */
+    public void observeDeserialization() {
+        if (deserializationNanos > 0) {
+            observe(getApplication(), getOutcome(), DESERIALIZATION_PHASE, deserializationNanos);
+        }
+    }
+
+    /**
+     * Records the time taken to serialize the response in the phase histogram.
+     *
+     * @param nanos time, in nanoseconds
+     */
+    public void observeSerialization(long nanos) {
+        observe(getApplication(), getOutcome(), SERIALIZATION_PHASE, nanos);
+    }
+
+    /**
+     * Records the latency of a decision in the phase histogram.
+     *
+     * @param app name of the application that made the decision
+     * @param decisionOutcome outcome of the decision
+     * @param nanos time, in nanoseconds, taken by the decision
+     */
+    public static void observeDecision(String app, String decisionOutcome, long nanos) {
+        observe(app, decisionOutcome, TOTAL_PHASE, nanos);
+    }
+
+    /**
+     * Gets the latencies of the decisions an application made since the PDP started,
+     * whatever their outcome, from the phase histogram.
+     *
+     * @param app name of the application
+     * @return the application's latencies
+     */
+    public static Latencies getLatencies(String app) {
+        var counts = new long[UPPER_BOUNDS.length + 1];
+        var seconds = 0.0;
+        for (var point : phaseHistogram.collect().getDataPoints()) {
+            var labels = point.getLabels();
+            if (!app.equals(labels.get(XacmlPdpStatisticsManager.APPLICATION))
+                            || !TOTAL_PHASE.equals(labels.get(PHASE))) {
+                continue;
+            }
+            var buckets = point.getClassicBuckets();
+            for (var bucket = 0; bucket < buckets.size() && bucket < counts.length; ++bucket) {
+                counts[bucket] += buckets.getCount(bucket);
+            }
+            seconds += point.getSum();
+        }
+        return new Latencies(counts, (long) (seconds * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Gets the upper bound of a bucket of the phase histogram.
+     *
+     * @param bucket index of the bucket
+     * @return the latencies of the bucket are at most this, in seconds, except for the
+     *         last bucket, whose latencies are above it
+     */
+    public static double getUpperBound(int bucket) {
+        return UPPER_BOUNDS[Math.min(bucket, UPPER_BOUNDS.length - 1)];
+    }
+
+    /**
+     * Gets the application that made the decisions.
+     *
+     * @return the application, {@link #MIXED} if several did, or
+     *         {@link #UNKNOWN_APPLICATION} if none did
+     */
+    public String getApplication() {
+        var app = application;
+        return (app == null ? UNKNOWN_APPLICATION : app);
+    }
+
+    /**
+     * Gets the outcome of the decisions.
+     *
+     * @return the outcome, {@link #MIXED} if they differ, or {@link #ERROR_OUTCOME} if no
+     *         decision was made
+     */
+    public String getOutcome() {
+        var result = outcome;
+        return (result == null ? ERROR_OUTCOME : result);
+    }
+
+    /**
+     * Gets the total time spent in a phase by the decisions of this request.
+     *
+     * @param phase phase of interest
+     * @return the time, in nanoseconds
+     */
+    public long getPhaseNanos(DecisionPhaseTimer.Phase phase) {
+        return phaseNanos.get(phase.ordinal());
+    }
+
+    /**
+     * Formats the timings as the value of a Server-Timing header. The response has not
+     * been serialized yet, thus serialization is not included.
+     *
+     * @return the header value, with durations in milliseconds
+     */
+    public String toServerTiming() {
+        var joiner = new StringJoiner(", ");
+        add(joiner, DESERIALIZATION_PHASE, deserializationNanos);
+        for (var phase : PHASES) {
+            add(joiner, phase.getLabel(), phaseNanos.get(phase.ordinal()));
+        }
+        return joiner.toString();
+    }
+
+    private static void add(StringJoiner joiner, String phase, long nanos) {
+        joiner.add(String.format(Locale.ROOT, "%s;dur=%.3f", phase, nanos / 1_000_000.0));
+    }
+
+    private static String merge(String current, String value) {
+        return (current == null || current.equals(value) ? value : MIXED);
+    }
+
+    /**
+     * Latencies of the decisions of an application.
+     *
+     * @param counts number of decisions in each bucket of the phase histogram, the last
+     *        one holding those above its largest bound
+     * @param nanos total latency of the decisions, in nanoseconds
+     */
+    public record Latencies(long[] counts, long nanos) {
+    }
+
+    private static void observe(String app, String decisionOutcome, String phase, long nanos) {
+        phaseHistogram.labelValues(app, decisionOutcome, phase)
+            .observe((double) nanos / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,155 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.core.metrics.Histogram;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.utils.resources.PrometheusUtils;
+import org.onap.policy.models.pdp.enums.PdpResponseStatus;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
+import org.onap.policy.pdpx.main.rest.model.DeploymentSummary;
+
+/**
+ * Time spent deploying and undeploying the policies of a single PDP update. Every
+ * policy is recorded in the stage histogram as it completes, and the update as a whole
+ * is summarized once it is done. Updates are handled one at a time, thus the object is
+ * not thread-safe.
+ */
+public class DeploymentTimings {
+    public static final String UNKNOWN = "unknown";
+    public static final String POLICY_TYPE = "policy_type";
+    public static final String STAGE = "stage";
+    public static final String TOTAL_STAGE = "total";
+
+    protected static final String DEPLOYMENT_STAGE_METRIC = "deployment_stage_seconds";
+    public static final String DEPLOYMENT_STAGE_HELP = "Time spent in each stage of a policy deployment.";
+    protected static final String DEPLOYED_POLICIES_METRIC = "deployment_policies";
+    public static final String DEPLOYED_POLICIES_HELP =
+                    "The number of policies deployed and undeployed, by application and policy type.";
+
+    protected static final Histogram stageHistogram =
+        Histogram.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + DEPLOYMENT_STAGE_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, POLICY_TYPE,
+                PrometheusUtils.OPERATION_METRIC_LABEL, STAGE)
+            .help(DEPLOYMENT_STAGE_HELP)
+            .classicUpperBounds(0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0,
+                            30.0, 60.0)
+            .register();
+
+    protected static final Counter policiesCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + DEPLOYED_POLICIES_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, POLICY_TYPE,
+                PrometheusUtils.OPERATION_METRIC_LABEL, PrometheusUtils.STATUS_METRIC_LABEL)
+            .help(DEPLOYED_POLICIES_HELP)
+            .register();
+
+    private static final DeploymentStageTimer.Stage[] STAGES = DeploymentStageTimer.Stage.values();
+
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final long[] stageNanos = new long[STAGES.length];
+    private final Map<String, Integer> applicationPolicies = new TreeMap<>();
+    private int deployedCount = 0;
+    private int undeployedCount = 0;
+    private int failedCount = 0;
+
+    /**
+     * Records a policy that was deployed or undeployed.
+     *
+     * @param application name of the application holding the policy, or {@code null}
+     *        if none was found
+     * @param policyType type of the policy, or {@code null} if it is not known
+     * @param operation {@link PrometheusUtils#DEPLOY_OPERATION} or
+     *        {@link PrometheusUtils#UNDEPLOY_OPERATION}
+     * @param success {@code true} if the operation succeeded
+     * @param stages time spent in each stage, as returned by
+     *        {@link DeploymentStageTimer#stop()}, or {@code null} if the policy was
+     *        rejected without being handed to an application
+     * @param totalNanos time, in nanoseconds, spent on the policy as a whole
+     */
+    public void addPolicy(String application, String policyType, String operation, boolean success,
+                    long[] stages, long totalNanos) {
+        var app = (application == null ? UNKNOWN : application);
+        var type = (policyType == null ? UNKNOWN : policyType);
+
+        if (!success) {
+            ++failedCount;
+        } else if (PrometheusUtils.DEPLOY_OPERATION.equals(operation)) {
+            ++deployedCount;
+            applicationPolicies.merge(app, 1, Integer::sum);
+        } else {
+            ++undeployedCount;
+            applicationPolicies.merge(app, 1, Integer::sum);
+        }
+
+        var status = (success ? PdpResponseStatus.SUCCESS : PdpResponseStatus.FAIL);
+        policiesCounter.labelValues(app, type, operation, status.name()).inc();
+
+        if (stages != null) {
+            for (var stage : STAGES) {
+                var nanos = stages[stage.ordinal()];
+                stageNanos[stage.ordinal()] += nanos;
+                if (nanos > 0) {
+                    observe(app, type, operation, stage.getLabel(), nanos);
+                }
+            }
+            observe(app, type, operation, TOTAL_STAGE, totalNanos);
+        }
+    }
+
+    /**
+     * Summarizes the update.
+     *
+     * @return a summary of the policies deployed and undeployed so far
+     */
+    public DeploymentSummary toSummary() {
+        var summary = new DeploymentSummary();
+        summary.setStartTime(startTime.toString());
+        summary.setWallTimeMs(toMillis(System.nanoTime() - startNanos));
+        summary.setDeployedCount(deployedCount);
+        summary.setUndeployedCount(undeployedCount);
+        summary.setFailedCount(failedCount);
+        summary.setApplicationPolicies(new TreeMap<>(applicationPolicies));
+
+        Map<String, Double> stageTimes = new LinkedHashMap<>();
+        for (var stage : STAGES) {
+            stageTimes.put(stage.getLabel(), toMillis(stageNanos[stage.ordinal()]));
+        }
+        summary.setStageTimesMs(stageTimes);
+        return summary;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void observe(String app, String policyType, String operation, String stage, long nanos) {
+        stageHistogram.labelValues(app, policyType, operation, stage)
+            .observe((double) nanos / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import io.prometheus.metrics.core.metrics.Gauge;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.pdpx.main.rest.model.StartupSummary;
+
+/**
+ * Time spent in each phase of the PDP's startup, from the discovery and initialization
+ * of the applications to the start of the REST server. Phases are kept in the order in
+ * which they were first recorded; a phase recorded more than once accumulates. The PDP
+ * starts on a single thread, but the summary may be fetched from others, thus the
+ * methods are synchronized.
+ */
+public class StartupTimings {
+    public static final String DISCOVERY_PHASE = "discovery";
+    public static final String INITIALIZE_PHASE = "initialize";
+    public static final String CREATE_ENGINE_PHASE = "create_engine";
+    public static final String TOTAL_PHASE = "total";
+    public static final String PHASE = "phase";
+
+    protected static final String STARTUP_PHASE_METRIC = "startup_phase_seconds";
+    public static final String STARTUP_PHASE_HELP = "Time spent in each phase of the PDP startup.";
+
+    protected static final Gauge phaseGauge =
+        Gauge.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + STARTUP_PHASE_METRIC)
+            .labelNames(PHASE)
+            .help(STARTUP_PHASE_HELP)
+            .register();
+
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private final Map<String, Map<String, Long>> applicationNanos = new TreeMap<>();
+
+    /**
+     * Records a phase of the startup.
+     *
+     * @param phase name of the phase
+     * @param phaseStartNanos value of {@link System#nanoTime()} when the phase started
+     */
+    public synchronized void record(String phase, long phaseStartNanos) {
+        phaseNanos.merge(phase, System.nanoTime() - phaseStartNanos, Long::sum);
+    }
+
+    /**
+     * Records a phase of the startup of an application.
+     *
+     * @param application name of the application
+     * @param phase name of the phase
+     * @param nanos time, in nanoseconds, spent in the phase
+     */
+    public synchronized void recordApplication(String application, String phase, long nanos) {
+        applicationNanos.computeIfAbsent(application, key -> new LinkedHashMap<>()).merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Summarizes the startup.
+     *
+     * @return a summary of the phases recorded so far
+     */
+    public synchronized StartupSummary toSummary() {
+        var summary = new StartupSummary();
+        summary.setStartTime(startTime.toString());
+        summary.setTotalMs(toMillis(System.nanoTime() - startNanos));
+        summary.setJvmUptimeMs(ManagementFactory.getRuntimeMXBean().getUptime());
+
+        Map<String, Double> phaseTimes = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, nanos) -> phaseTimes.put(phase, toMillis(nanos)));
+        summary.setPhaseTimesMs(phaseTimes);
+
+        Map<String, Map<String, Double>> applicationTimes = new TreeMap<>();
+        applicationNanos.forEach((application, phases) -> {
+            Map<String, Double> times = new LinkedHashMap<>();
+            phases.forEach((phase, nanos) -> times.put(phase, toMillis(nanos)));
+            applicationTimes.put(application, times);
+        });
+        summary.setApplicationTimesMs(applicationTimes);
+        return summary;
+    }
+
+    /**
+     * Summarizes the startup once it is complete, and publishes its phases in the
+     * startup gauge.
+     *
+     * @return a summary of the startup
+     */
+    public synchronized StartupSummary complete() {
+        var summary = toSummary();
+        phaseNanos.forEach((phase, nanos) -> phaseGauge.labelValues(phase)
+            .set((double) nanos / TimeUnit.SECONDS.toNanos(1)));
+        phaseGauge.labelValues(TOTAL_PHASE).set(summary.getTotalMs() / 1000.0);
+        return summary;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,356 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.core.metrics.Gauge;
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import org.onap.policy.models.decisions.concepts.DecisionException;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+
+/**
+ * Limits the number of decisions each application evaluates at the same time, and the
+ * number that may wait for it. Decisions that would exceed both are rejected with
+ * "429 Too Many Requests" instead of piling up behind a saturated application. Waiting
+ * decisions hold no thread: each is started, highest priority first, when a running
+ * decision of its application is released. When adaptive limits are enabled, a limit
+ * is lowered multiplicatively while decisions are slower than the target latency, and
+ * raised additively while they are faster.
+ */
+public class XacmlPdpAdmissionController {
+    private static final double DECREASE_FACTOR = 0.9;
+
+    protected static final String REJECTED_DECISIONS_METRIC = "decisions_rejected";
+    public static final String REJECTED_DECISIONS_HELP =
+                    "The number of decisions rejected because the application was saturated.";
+    protected static final String CONCURRENCY_LIMIT_METRIC = "decision_concurrency_limit";
+    public static final String CONCURRENCY_LIMIT_HELP =
+                    "The number of decisions an application may evaluate at the same time.";
+
+    protected static final Counter rejectedCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + REJECTED_DECISIONS_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(REJECTED_DECISIONS_HELP)
+            .register();
+
+    protected static final Gauge limitGauge =
+        Gauge.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + CONCURRENCY_LIMIT_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(CONCURRENCY_LIMIT_HELP)
+            .register();
+
+    /**
+     * Permit of applications that have no limit.
+     */
+    private static final Permit UNLIMITED = new Permit() {
+        @Override
+        public void acquire(int priority, long sequence, Runnable action) {
+            // nothing to wait for
+            action.run();
+        }
+
+        @Override
+        public void release(long latencyNanos) {
+            // nothing to release
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to cancel
+        }
+    };
+
+    private final XacmlDecisionParameters parameters;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    @Getter
+    private final int retryAfterSec;
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters decision execution parameters
+     */
+    public XacmlPdpAdmissionController(XacmlDecisionParameters parameters) {
+        this.parameters = parameters;
+        this.retryAfterSec = parameters.getRetryAfterSec();
+    }
+
+    /**
+     * Admits a decision for an application. This does not wait; the returned permit
+     * must be acquired before the decision is evaluated, or cancelled.
+     *
+     * @param application application name
+     * @return a permit to evaluate the decision
+     * @throws DecisionException if the application cannot accept more decisions
+     */
+    public Permit admit(String application) {
+        if (parameters.getConcurrencyLimit(application) <= 0) {
+            return UNLIMITED;
+        }
+
+        var limiter = limiters.computeIfAbsent(application, Limiter::new);
+        if (!limiter.reserve()) {
+            rejectedCounter.labelValues(application).inc();
+            throw new DecisionException(Response.Status.TOO_MANY_REQUESTS, "Too many decisions for " + application);
+        }
+        return limiter.new LimitedPermit();
+    }
+
+    /**
+     * Gets the current concurrency limit of an application.
+     *
+     * @param application application name
+     * @return the current concurrency limit, or zero if there is no limit
+     */
+    public int getLimit(String application) {
+        var limiter = limiters.get(application);
+        return (limiter == null ? Math.max(0, parameters.getConcurrencyLimit(application)) : limiter.getLimit());
+    }
+
+    /**
+     * Permission to evaluate one decision.
+     */
+    public interface Permit {
+
+        /**
+         * Runs an action once the decision may be evaluated. This does not wait: the
+         * action is run right away if the application has room for the decision,
+         * otherwise by the thread that releases the next running decision, ahead of
+         * waiting decisions with a lower priority or a later sequence.
+         *
+         * @param priority priority of the decision, higher values run first
+         * @param sequence arrival sequence of the decision, lower values run first
+         * @param action action that starts the decision; it must not block
+         */
+        void acquire(int priority, long sequence, Runnable action);
+
+        /**
+         * Releases the permit once the decision has been evaluated.
+         *
+         * @param latencyNanos time, in nanoseconds, taken to evaluate the decision
+         */
+        void release(long latencyNanos);
+
+        /**
+         * Gives up the permit of a decision that will not be evaluated, whether it was
+         * acquired or not.
+         */
+        void cancel();
+    }
+
+    private enum State {
+        RESERVED, WAITING, RUNNING, DONE
+    }
+
+    /**
+     * Concurrency limit and wait queue of a single application.
+     */
+    private class Limiter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final PriorityQueue<LimitedPermit> waiters = new PriorityQueue<>();
+        private final String application;
+        private final int maxLimit;
+        private final int maxQueued;
+        private final long targetLatencyNanos;
+        private final boolean adaptive;
+
+        private double limit;
+        private int running = 0;
+
+        /**
+         * Decisions admitted that are not running yet, whether waiting or not.
+         */
+        private int waiting = 0;
+
+        Limiter(String application) {
+            this.application = application;
+            this.maxLimit = parameters.getConcurrencyLimit(application);
+            this.maxQueued = parameters.getMaxQueuedDecisions();
+            this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(parameters.getTargetLatencyMs());
+            this.adaptive = parameters.isAdaptiveLimits();
+            this.limit = maxLimit;
+            limitGauge.labelValues(application).set(maxLimit);
+        }
+
+        int getLimit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean reserve() {
+            lock.lock();
+            try {
+                if (running + waiting >= (int) limit + maxQueued) {
+                    return false;
+                }
+                ++waiting;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void acquire(LimitedPermit permit) {
+            lock.lock();
+            try {
+                if (permit.state != State.RESERVED) {
+                    return;
+                }
+                if (running >= (int) limit) {
+                    permit.state = State.WAITING;
+                    waiters.add(permit);
+                    return;
+                }
+                start(permit);
+            } finally {
+                lock.unlock();
+            }
+            permit.action.run();
+        }
+
+        void release(LimitedPermit permit, long latencyNanos) {
+            List<LimitedPermit> started;
+            lock.lock();
+            try {
+                if (permit.state != State.RUNNING) {
+                    return;
+                }
+                permit.state = State.DONE;
+                --running;
+                if (adaptive) {
+                    adapt(latencyNanos);
+                }
+                started = startWaiters();
+            } finally {
+                lock.unlock();
+            }
+            started.forEach(next -> next.action.run());
+        }
+
+        void cancel(LimitedPermit permit) {
+            List<LimitedPermit> started = List.of();
+            lock.lock();
+            try {
+                switch (permit.state) {
+                    case RESERVED -> --waiting;
+                    case WAITING -> {
+                        waiters.remove(permit);
+                        --waiting;
+                    }
+                    case RUNNING -> {
+                        --running;
+                        started = startWaiters();
+                    }
+                    default -> {
+                        // already released
+                    }
+                }
+                permit.state = State.DONE;
+            } finally {
+                lock.unlock();
+            }
+            started.forEach(next -> next.action.run());
+        }
+
+        private void start(LimitedPermit permit) {
+            permit.state = State.RUNNING;
+            --waiting;
+            ++running;
+        }
+
+        /**
+         * Starts the waiting decisions there is now room for. Their actions are run by
+         * the caller, once the lock is released.
+         */
+        private List<LimitedPermit> startWaiters() {
+            List<LimitedPermit> started = new ArrayList<>();
+            while (running < (int) limit && !waiters.isEmpty()) {
+                var next = waiters.poll();
+                start(next);
+                started.add(next);
+            }
+            return started;
+        }
+
+        private void adapt(long latencyNanos) {
+            var oldLimit = (int) limit;
+            if (latencyNanos > targetLatencyNanos) {
+                limit = Math.max(1.0, limit * DECREASE_FACTOR);
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+
+            if ((int) limit != oldLimit) {
+                limitGauge.labelValues(application).set((int) limit);
+            }
+        }
+
+        /**
+         * Permit of a single decision, ordered by priority and then by arrival while it
+         * waits. Its state is guarded by the limiter's lock.
+         */
+        private class LimitedPermit implements Permit, Comparable<LimitedPermit> {
+            private State state = State.RESERVED;
+            private int priority;
+            private long sequence;
+            private Runnable action;
+
+            @Override
+            public void acquire(int priority, long sequence, Runnable action) {
+                this.priority = priority;
+                this.sequence = sequence;
+                this.action = action;
+                Limiter.this.acquire(this);
+            }
+
+            @Override
+            public void release(long latencyNanos) {
+                Limiter.this.release(this, latencyNanos);
+            }
+
+            @Override
+            public void cancel() {
+                Limiter.this.cancel(this);
+            }
+
+            @Override
+            public int compareTo(LimitedPermit other) {
+                var result = Integer.compare(other.priority, priority);
+                return (result != 0 ? result : Long.compare(sequence, other.sequence));
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2021, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,15 +22,20 @@
 
 package org.onap.policy.pdpx.main.rest;
 
+import io.prometheus.metrics.core.metrics.GaugeWithCallback;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.Setter;
@@ -37,6 +43,7 @@ import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
 import org.onap.policy.pdpx.main.parameters.XacmlApplicationParameters;
@@ -50,11 +57,31 @@ public class XacmlPdpApplicationManager {
     @Setter
     private static XacmlPdpApplicationManager current;
 
+    public static final String REPRESENTATION = "representation";
+    protected static final String FOOTPRINT_METRIC = "memory_footprint_bytes";
+    public static final String FOOTPRINT_HELP = "Estimated heap retained by the deployed policies.";
+
+    protected static final GaugeWithCallback footprintGauge =
+        GaugeWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + FOOTPRINT_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, REPRESENTATION)
+            .help(FOOTPRINT_HELP)
+            .callback(callback -> {
+                var manager = current;
+                if (manager != null) {
+                    manager.getFootprints().forEach((application, footprints) ->
+                        footprints.forEach((representation, bytes) ->
+                            callback.call(bytes, application, representation)));
+                }
+            })
+            .register();
+
     private final ServiceLoader<XacmlApplicationServiceProvider> applicationLoader;
     private final Map<String, XacmlApplicationServiceProvider> providerActionMap = new HashMap<>();
     @Getter
     private final List<ToscaConceptIdentifier> toscaPolicyTypeIdents = new ArrayList<>();
-    private final Map<ToscaPolicy, XacmlApplicationServiceProvider> mapLoadedPolicies = new HashMap<>();
+    private final Map<ToscaPolicy, XacmlApplicationServiceProvider> mapLoadedPolicies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> policyGenerations = new ConcurrentHashMap<>();
 
 
     /**
@@ -62,6 +89,20 @@ public class XacmlPdpApplicationManager {
      */
     public XacmlPdpApplicationManager(XacmlApplicationParameters applicationParameters,
                     HttpClient policyApiClient) {
+        this(applicationParameters, policyApiClient, null);
+    }
+
+    /**
+     * One time to initialize the applications upon startup, recording how long each
+     * application took to be discovered and initialized.
+     *
+     * @param applicationParameters application parameters
+     * @param policyApiClient policy API client, handed to the applications
+     * @param startupTimings where to record the startup of each application, or
+     *        {@code null}
+     */
+    public XacmlPdpApplicationManager(XacmlApplicationParameters applicationParameters,
+                    HttpClient policyApiClient, StartupTimings startupTimings) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Initialization applications {} {}", applicationParameters, policyApiClient);
         }
@@ -70,9 +111,14 @@ public class XacmlPdpApplicationManager {
         //
         applicationLoader = ServiceLoader.load(XacmlApplicationServiceProvider.class);
         //
-        // Iterate through the applications for actions and supported policy types
+        // Iterate through the applications for actions and supported policy types;
+        // the providers are located and instantiated lazily, as the iterator advances
         //
-        for (XacmlApplicationServiceProvider application : applicationLoader) {
+        var iterator = applicationLoader.iterator();
+        var discoveryStart = System.nanoTime();
+        while (iterator.hasNext()) {
+            XacmlApplicationServiceProvider application = iterator.next();
+            var discoveryNanos = System.nanoTime() - discoveryStart;
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Application {} supports {}", application.applicationName(),
                     application.supportedPolicyTypes());
@@ -82,6 +128,7 @@ public class XacmlPdpApplicationManager {
             //
             if (applicationParameters.isExcluded(application.getClass().getName())) {
                 LOGGER.info("excluded {}", application.getClass().getName());
+                discoveryStart = System.nanoTime();
                 continue;
             }
             //
@@ -92,6 +139,8 @@ public class XacmlPdpApplicationManager {
             //
             // Have it initialized at a path
             //
+            var initializeStart = System.nanoTime();
+            DeploymentStageTimer.start();
             try {
                 initializeApplicationPath(Paths.get(applicationParameters.getApplicationPath()), application,
                                 policyApiClient);
@@ -102,6 +151,15 @@ public class XacmlPdpApplicationManager {
             } catch (XacmlApplicationException e) {
                 LOGGER.error("Failed to initialize path for {}", application.applicationName(), e);
             }
+            var stages = DeploymentStageTimer.stop();
+            if (startupTimings != null) {
+                var name = application.applicationName();
+                startupTimings.recordApplication(name, StartupTimings.DISCOVERY_PHASE, discoveryNanos);
+                startupTimings.recordApplication(name, StartupTimings.INITIALIZE_PHASE,
+                                System.nanoTime() - initializeStart);
+                startupTimings.recordApplication(name, StartupTimings.CREATE_ENGINE_PHASE,
+                                stages[DeploymentStageTimer.Stage.CREATE_ENGINE.ordinal()]);
+            }
             if (applicationInitialized) {
                 //
                 // Iterate through the actions and save in the providerActionMap
@@ -117,6 +175,7 @@ public class XacmlPdpApplicationManager {
                 //
                 toscaPolicyTypeIdents.addAll(application.supportedPolicyTypes());
             }
+            discoveryStart = System.nanoTime();
         }
         //
         // we have initialized
@@ -133,6 +192,27 @@ public class XacmlPdpApplicationManager {
         return providerActionMap.get("native");
     }
 
+    /**
+     * Finds the application supporting the type of a policy.
+     *
+     * @param policy a TOSCA policy
+     * @return the application that would load the policy, or {@code null} if none
+     *         supports its type
+     */
+    public XacmlApplicationServiceProvider findApplication(ToscaPolicy policy) {
+        for (XacmlApplicationServiceProvider application : applicationLoader) {
+            //
+            // There should be only one application per policytype. We can
+            // put more logic surrounding enforcement of that later. For now,
+            // just use the first one found.
+            //
+            if (application.canSupportPolicyType(policy.getTypeIdentifier())) {
+                return application;
+            }
+        }
+        return null;
+    }
+
     /**
      * getToscaPolicies.
      *
@@ -168,6 +248,11 @@ public class XacmlPdpApplicationManager {
                         LOGGER.info("Unloaded ToscaPolicy {} from application {}", policy.getMetadata(),
                             application.applicationName());
                     }
+                    nextPolicyGeneration(application);
+                    var policyStats = XacmlPdpPolicyStatisticsManager.getCurrent();
+                    if (policyStats != null) {
+                        policyStats.remove(policy.getIdentifier());
+                    }
                     if (mapLoadedPolicies.remove(policy) == null) {
                         LOGGER.error("Failed to remove unloaded policy {} from map size {}", policy.getMetadata(),
                                 mapLoadedPolicies.size());
@@ -186,24 +271,19 @@ public class XacmlPdpApplicationManager {
      * @throws XacmlApplicationException if loadPolicy fails
      */
     public void loadDeployedPolicy(ToscaPolicy policy) throws XacmlApplicationException {
-        for (XacmlApplicationServiceProvider application : applicationLoader) {
+        var application = findApplication(policy);
+        if (application != null) {
             //
-            // There should be only one application per policytype. We can
-            // put more logic surrounding enforcement of that later. For now,
-            // just use the first one found.
+            // Try to load the policy
             //
-            if (application.canSupportPolicyType(policy.getTypeIdentifier())) {
-                //
-                // Try to load the policy
-                //
-                application.loadPolicy(policy);
-                mapLoadedPolicies.put(policy, application);
-                if (LOGGER.isInfoEnabled()) {
-                    LOGGER.info("Loaded ToscaPolicy {} into application {}", policy.getMetadata(),
-                            application.applicationName());
-                }
-                return;
+            application.loadPolicy(policy);
+            nextPolicyGeneration(application);
+            mapLoadedPolicies.put(policy, application);
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Loaded ToscaPolicy {} into application {}", policy.getMetadata(),
+                        application.applicationName());
             }
+            return;
         }
         //
         // Ideally we shouldn't ever get here if we
@@ -225,6 +305,23 @@ public class XacmlPdpApplicationManager {
         return toscaPolicyTypeIdents.size();
     }
 
+    /**
+     * Estimates the heap retained by the policies of each application.
+     *
+     * @return a new map of application names to the estimated size, in bytes, of each
+     *         representation of their policies
+     */
+    public Map<String, Map<String, Long>> getFootprints() {
+        Map<String, Map<String, Long>> footprints = new TreeMap<>();
+        //
+        // The service loader must not be iterated concurrently, thus use the actions
+        //
+        for (var application : new LinkedHashSet<>(providerActionMap.values())) {
+            footprints.put(application.applicationName(), application.estimateFootprint());
+        }
+        return footprints;
+    }
+
     /**
      * Gets the number of policies currently deployed.
      *
@@ -234,6 +331,22 @@ public class XacmlPdpApplicationManager {
         return mapLoadedPolicies.size();
     }
 
+    /**
+     * Gets the generation of the policies deployed in an application. The generation
+     * changes whenever a policy is loaded into or unloaded from the application.
+     *
+     * @param application the application
+     * @return the current policy generation of the application
+     */
+    public long getPolicyGeneration(XacmlApplicationServiceProvider application) {
+        var generation = policyGenerations.get(application.applicationName());
+        return (generation == null ? 0 : generation.get());
+    }
+
+    private void nextPolicyGeneration(XacmlApplicationServiceProvider application) {
+        policyGenerations.computeIfAbsent(application.applicationName(), key -> new AtomicLong()).incrementAndGet();
+    }
+
     private void initializeApplicationPath(Path basePath, XacmlApplicationServiceProvider application,
                     HttpClient policyApiClient) throws XacmlApplicationException {
         //
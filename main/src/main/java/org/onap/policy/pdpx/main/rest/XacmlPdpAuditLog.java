@@ -0,0 +1,425 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import com.att.research.xacml.api.IdReference;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.Result;
+import io.prometheus.metrics.core.datapoints.CounterDataPoint;
+import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.core.metrics.GaugeWithCallback;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.pdpx.main.parameters.XacmlAuditParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes an audit record for each decision, without slowing the decision down. A
+ * decision claims a slot of a preallocated ring with a single atomic operation and
+ * fills it with references to what it decided; a background thread formats the
+ * records and writes them, in batches, to a buffered, size-rotated file. When the ring
+ * is full, a decision either drops its record or waits for room, as configured, and
+ * either is counted in the metrics.
+ *
+ * <p>Each record is a line of fields separated by "|": time, request id, application,
+ * action, decision, latency in microseconds and the comma-separated ids of the
+ * policies that applied to the decision.
+ */
+public class XacmlPdpAuditLog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpAuditLog.class);
+
+    @Getter
+    @Setter
+    private static XacmlPdpAuditLog current = null;
+
+    public static final String WRITTEN = "written";
+    public static final String DROPPED = "dropped";
+    public static final String BLOCKED = "blocked";
+
+    protected static final String AUDIT_RECORDS_METRIC = "audit_records";
+    public static final String AUDIT_RECORDS_HELP =
+                    "The number of decision audit records written, dropped because the buffer was full, or that "
+                    + "had to wait for room in the buffer.";
+    protected static final String AUDIT_BACKLOG_METRIC = "audit_backlog";
+    public static final String AUDIT_BACKLOG_HELP = "The number of decision audit records waiting to be written.";
+
+    protected static final Counter auditCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + AUDIT_RECORDS_METRIC)
+            .labelNames(DecisionTimings.OUTCOME)
+            .help(AUDIT_RECORDS_HELP)
+            .register();
+
+    protected static final GaugeWithCallback backlogGauge =
+        GaugeWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + AUDIT_BACKLOG_METRIC)
+            .help(AUDIT_BACKLOG_HELP)
+            .callback(callback -> {
+                var audit = current;
+                if (audit != null) {
+                    callback.call(audit.getBacklog());
+                }
+            })
+            .register();
+
+    private static final char SEPARATOR = '|';
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+
+    private static final CounterDataPoint writtenCounter = auditCounter.labelValues(WRITTEN);
+    private static final CounterDataPoint droppedCounter = auditCounter.labelValues(DROPPED);
+    private static final CounterDataPoint blockedCounter = auditCounter.labelValues(BLOCKED);
+
+    private final Path file;
+    private final Set<String> applications;
+    private final boolean blockWhenFull;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    private final AuditRecord[] records;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed = 0;
+    private volatile boolean running = false;
+
+    private Thread writerThread;
+    private Writer writer;
+    private long fileSize;
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters audit parameters
+     */
+    public XacmlPdpAuditLog(XacmlAuditParameters parameters) {
+        this.file = Paths.get(parameters.getFile());
+        this.applications = Set.copyOf(parameters.getApplications());
+        this.blockWhenFull = parameters.isBlockWhenFull();
+        this.batchSize = parameters.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(parameters.getFlushIntervalMs());
+        this.maxFileSize = parameters.getMaxFileSizeKb() * 1024;
+        this.maxFiles = parameters.getMaxFiles();
+
+        var size = Integer.highestOneBit(Math.max(1, parameters.getBufferSize() - 1)) << 1;
+        this.records = new AuditRecord[size];
+        this.mask = size - 1;
+        for (var index = 0; index < size; ++index) {
+            records[index] = new AuditRecord();
+        }
+    }
+
+    /**
+     * Opens the audit file and starts the thread writing to it.
+     *
+     * @throws IOException if the audit file cannot be opened
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        open();
+        running = true;
+        writerThread = new Thread(this::run, "decision-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops accepting audit records, writes those that are already buffered and closes
+     * the audit file.
+     */
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_WAIT_MS);
+        } catch (InterruptedException e) {
+            LOGGER.warn("interrupted while waiting for the audit writer");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records a decision, if its application is audited.
+     *
+     * @param requestId X-ONAP-RequestID of the decision request
+     * @param application name of the application that made the decision
+     * @param action action of the decision request, or {@code null} for native requests
+     * @param xacmlResponse response of the PDP engine, or {@code null} if the decision
+     *        failed
+     * @param latencyNanos time, in nanoseconds, taken to make the decision
+     */
+    public void record(String requestId, String application, String action, Response xacmlResponse,
+                    long latencyNanos) {
+        if (!running || !(applications.isEmpty() || applications.contains(application))) {
+            return;
+        }
+        var sequence = claim();
+        if (sequence < 0) {
+            return;
+        }
+        var rec = records[(int) (sequence & mask)];
+        rec.timeMillis = System.currentTimeMillis();
+        rec.requestId = requestId;
+        rec.application = application;
+        rec.action = action;
+        rec.xacmlResponse = xacmlResponse;
+        rec.latencyNanos = latencyNanos;
+        rec.sequence = sequence;
+    }
+
+    /**
+     * Gets the number of audit records that are waiting to be written.
+     *
+     * @return the number of buffered audit records
+     */
+    public long getBacklog() {
+        return claimed.get() - consumed;
+    }
+
+    /**
+     * Claims the next slot of the ring, waiting for room or giving up, as configured,
+     * when the ring is full.
+     *
+     * @return the sequence of the slot, or -1 if the audit record is dropped
+     */
+    private long claim() {
+        var blocked = false;
+        for (;;) {
+            var sequence = claimed.get();
+            if (sequence - consumed >= records.length) {
+                if (!blockWhenFull || !running) {
+                    droppedCounter.inc();
+                    return -1;
+                }
+                if (!blocked) {
+                    blockedCounter.inc();
+                    blocked = true;
+                }
+                LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+
+            } else if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void run() {
+        var line = new StringBuilder(256);
+        var lastFlush = System.nanoTime();
+        var dirty = false;
+        //
+        // Once stopped, keep going until the records that were claimed have been written
+        //
+        while (running || consumed < claimed.get()) {
+            try {
+                var count = drain(line);
+                if (count > 0) {
+                    writtenCounter.inc(count);
+                    dirty = true;
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+
+                if (dirty && (count < batchSize || System.nanoTime() - lastFlush >= flushIntervalNanos)) {
+                    writer.flush();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("cannot write to the audit file {}", file, e);
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        close();
+    }
+
+    /**
+     * Writes the records that are ready, up to a batch.
+     *
+     * @return the number of records written
+     */
+    private int drain(StringBuilder line) throws IOException {
+        var count = 0;
+        var next = consumed;
+        while (count < batchSize) {
+            var rec = records[(int) (next & mask)];
+            if (rec.sequence != next) {
+                // not yet filled in
+                break;
+            }
+            line.setLength(0);
+            format(line, rec);
+            rec.clear();
+            consumed = ++next;
+            ++count;
+
+            writer.append(line);
+            fileSize += line.length();
+            if (fileSize >= maxFileSize) {
+                rotate();
+            }
+        }
+        return count;
+    }
+
+    private static void format(StringBuilder line, AuditRecord rec) {
+        line.append(Instant.ofEpochMilli(rec.timeMillis)).append(SEPARATOR);
+        appendField(line, rec.requestId);
+        line.append(SEPARATOR);
+        appendField(line, rec.application);
+        line.append(SEPARATOR);
+        appendField(line, rec.action);
+        line.append(SEPARATOR);
+
+        if (rec.xacmlResponse == null || rec.xacmlResponse.getResults().isEmpty()) {
+            line.append(DecisionTimings.ERROR_OUTCOME);
+        } else {
+            appendField(line, String.valueOf(rec.xacmlResponse.getResults().iterator().next().getDecision()));
+        }
+        line.append(SEPARATOR).append(TimeUnit.NANOSECONDS.toMicros(rec.latencyNanos)).append(SEPARATOR);
+
+        if (rec.xacmlResponse != null) {
+            var first = true;
+            for (Result result : rec.xacmlResponse.getResults()) {
+                if (result.getPolicyIdentifiers() == null) {
+                    continue;
+                }
+                for (IdReference reference : result.getPolicyIdentifiers()) {
+                    if (!first) {
+                        line.append(',');
+                    }
+                    appendField(line, reference.getId().stringValue());
+                    first = false;
+                }
+            }
+        }
+        line.append('\n');
+    }
+
+    /**
+     * Appends a field, replacing the characters that delimit fields and records.
+     */
+    private static void appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        for (var index = 0; index < value.length(); ++index) {
+            var chr = value.charAt(index);
+            line.append(chr == SEPARATOR || chr == ',' || chr == '\n' || chr == '\r' ? '_' : chr);
+        }
+    }
+
+    private void open() throws IOException {
+        var dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        writer = makeWriter(file);
+        fileSize = Files.size(file);
+    }
+
+    /**
+     * Opens an audit file for appending.
+     *
+     * @param path path of the audit file
+     * @return a writer appending to the file
+     * @throws IOException if the file cannot be opened
+     */
+    protected Writer makeWriter(Path path) throws IOException {
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        if (maxFiles == 0) {
+            Files.delete(file);
+        } else {
+            for (var index = maxFiles - 1; index >= 1; --index) {
+                var source = getRotatedFile(index);
+                if (Files.exists(source)) {
+                    Files.move(source, getRotatedFile(index + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, getRotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    /**
+     * Gets the path of a rotated audit file.
+     *
+     * @param index index of the rotated file, one being the most recent
+     * @return the path of the rotated file
+     */
+    public Path getRotatedFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            LOGGER.warn("cannot close the audit file {}", file, e);
+        }
+    }
+
+    /**
+     * Slot of the ring. A slot is ready to be written once its sequence is set, which
+     * is done last.
+     */
+    private static class AuditRecord {
+        private volatile long sequence = -1;
+        private long timeMillis;
+        private String requestId;
+        private String application;
+        private String action;
+        private Response xacmlResponse;
+        private long latencyNanos;
+
+        void clear() {
+            requestId = null;
+            application = null;
+            action = null;
+            xacmlResponse = null;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.std.json.JsonRequestTranslator;
+import com.att.research.xacml.std.json.JsonResponseTranslator;
+import io.prometheus.metrics.core.datapoints.CounterDataPoint;
+import io.prometheus.metrics.core.metrics.Counter;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdpx.main.parameters.XacmlCaptureParameters;
+import org.onap.policy.pdpx.main.rest.model.CaptureRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Captures a sample of the decision traffic, so that it may be replayed offline against
+ * a PDP holding the same policies. A decision encodes its request and response, so that
+ * they cannot change once captured, and hands them over to a queue, or gives up if the
+ * buffer is full; a background thread writes them to a compressed binary file. The
+ * policies are captured each time a PDP update changes them, so that a replay deploys
+ * the same policies at the same point; they are queued whether the buffer is full or
+ * not, thus the update never waits for the writer.
+ *
+ * <p>The file is a gzip stream holding a header, made of the int {@link #MAGIC}, the
+ * short {@link #VERSION} and the long start time of the capture, in milliseconds since
+ * the epoch, followed by records, each made of: the byte ordinal of its
+ * {@link CaptureRecord.Kind}; the long time, in microseconds since the start of the
+ * capture, at which it started; the long latency in microseconds; the byte flags,
+ * {@link #ABBREVIATED} being the only one; the UTF application name; and the request
+ * and response as UTF-8 JSON, each preceded by its int length, -1 standing for none.
+ * {@link DecisionCaptureReader} reads it back.
+ */
+public class XacmlPdpCaptureLog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpCaptureLog.class);
+
+    @Getter
+    @Setter
+    private static XacmlPdpCaptureLog current = null;
+
+    public static final int MAGIC = 0x50445843;
+    public static final short VERSION = 2;
+    public static final int ABBREVIATED = 1;
+
+    public static final String CAPTURED = "captured";
+    public static final String DROPPED = "dropped";
+
+    protected static final String CAPTURE_RECORDS_METRIC = "capture_records";
+    public static final String CAPTURE_RECORDS_HELP =
+                    "The number of decisions captured, or dropped because the buffer was full.";
+
+    protected static final Counter captureCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + CAPTURE_RECORDS_METRIC)
+            .labelNames(DecisionTimings.OUTCOME)
+            .help(CAPTURE_RECORDS_HELP)
+            .register();
+
+    private static final long POLL_MS = 100;
+    private static final byte[] NONE = new byte[0];
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private static final CounterDataPoint capturedCounter = captureCounter.labelValues(CAPTURED);
+    private static final CounterDataPoint droppedCounter = captureCounter.labelValues(DROPPED);
+
+    private final StandardCoder coder = new StandardCoder();
+    private final Path file;
+    private final Set<String> applications;
+    private final double sampleRate;
+    private final long maxFileSize;
+    private final int bufferSize;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger bufferedDecisions = new AtomicInteger();
+
+    private volatile boolean running = false;
+    private volatile boolean full = false;
+    private long startNanos;
+
+    private Thread writerThread;
+    private CountingOutputStream counter;
+    private DataOutputStream output;
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters capture parameters
+     */
+    public XacmlPdpCaptureLog(XacmlCaptureParameters parameters) {
+        this.file = Paths.get(parameters.getFile());
+        this.applications = Set.copyOf(parameters.getApplications());
+        this.sampleRate = parameters.getSampleRate();
+        this.maxFileSize = parameters.getMaxFileSizeKb() * 1024;
+        this.bufferSize = parameters.getBufferSize();
+    }
+
+    /**
+     * Creates the capture file, writes its header and starts the thread writing to it.
+     *
+     * @throws IOException if the capture file cannot be created
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        var dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        counter = new CountingOutputStream(Files.newOutputStream(file));
+        output = new DataOutputStream(
+                        new BufferedOutputStream(new GZIPOutputStream(counter, STREAM_BUFFER_SIZE, true)));
+
+        startNanos = System.nanoTime();
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeLong(System.currentTimeMillis());
+
+        full = false;
+        running = true;
+        writerThread = new Thread(this::run, "decision-capture-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops capturing, writes what was already captured and closes the capture file.
+     */
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_WAIT_MS);
+        } catch (InterruptedException e) {
+            LOGGER.warn("interrupted while waiting for the capture writer");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Captures a decision, if its application is captured and it is sampled.
+     *
+     * @param application name of the application that made the decision
+     * @param request decision request
+     * @param queryParams query parameters of the decision request
+     * @param response decision response
+     * @param start value of {@link System#nanoTime()} when the decision started
+     * @param latencyNanos time, in nanoseconds, taken to make the decision
+     */
+    public void recordDecision(String application, DecisionRequest request, Map<String, String[]> queryParams,
+                    DecisionResponse response, long start, long latencyNanos) {
+        if (isCaptured(application)) {
+            var abbrev = (queryParams == null ? null : queryParams.get("abbrev"));
+            var flags = (abbrev != null && Arrays.asList(abbrev).contains("true") ? ABBREVIATED : 0);
+            offer(CaptureRecord.Kind.DECISION, application, flags, request, response, start, latencyNanos);
+        }
+    }
+
+    /**
+     * Captures a native decision, if its application is captured and it is sampled.
+     *
+     * @param application name of the application that made the decision
+     * @param request XACML request
+     * @param response XACML response
+     * @param start value of {@link System#nanoTime()} when the decision started
+     * @param latencyNanos time, in nanoseconds, taken to make the decision
+     */
+    public void recordNativeDecision(String application, Request request, Response response, long start,
+                    long latencyNanos) {
+        if (isCaptured(application)) {
+            offer(CaptureRecord.Kind.NATIVE_DECISION, application, 0, request, response, start, latencyNanos);
+        }
+    }
+
+    /**
+     * Captures the policies now deployed. Unlike decisions, these are never sampled,
+     * nor dropped when the buffer is full, as a replay would be wrong without them.
+     *
+     * @param policies policies deployed in the PDP
+     */
+    public void recordPolicies(Collection<ToscaPolicy> policies) {
+        if (!running || full) {
+            return;
+        }
+        var start = System.nanoTime();
+        try {
+            queue.add(new Pending(CaptureRecord.Kind.POLICIES, null, 0, encode(List.copyOf(policies)), NONE,
+                            start, 0));
+        } catch (Exception e) {
+            LOGGER.warn("cannot capture the deployed policies", e);
+        }
+    }
+
+    private boolean isCaptured(String application) {
+        return running && !full && (applications.isEmpty() || applications.contains(application))
+                        && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void offer(CaptureRecord.Kind kind, String application, int flags, Object request, Object response,
+                    long start, long latencyNanos) {
+        //
+        // reserve room first, so that a full buffer costs no encoding
+        //
+        if (bufferedDecisions.incrementAndGet() > bufferSize) {
+            bufferedDecisions.decrementAndGet();
+            droppedCounter.inc();
+            return;
+        }
+        try {
+            queue.add(new Pending(kind, application, flags, encode(request), encode(response), start,
+                            latencyNanos));
+            capturedCounter.inc();
+        } catch (Exception e) {
+            bufferedDecisions.decrementAndGet();
+            LOGGER.warn("cannot encode a captured {}", kind, e);
+        }
+    }
+
+    private void run() {
+        //
+        // Once stopped, keep going until the records that were queued have been written
+        //
+        while (running || !queue.isEmpty()) {
+            try {
+                var pending = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (pending != null && pending.kind != CaptureRecord.Kind.POLICIES) {
+                    bufferedDecisions.decrementAndGet();
+                }
+                if (pending == null) {
+                    output.flush();
+                } else if (!full) {
+                    write(pending);
+                    checkSize();
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("capture writer interrupted");
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("cannot write to the capture file {}", file, e);
+            }
+        }
+        close();
+    }
+
+    private void write(Pending pending) throws IOException {
+        output.writeByte(pending.kind.ordinal());
+        output.writeLong(TimeUnit.NANOSECONDS.toMicros(pending.start - startNanos));
+        output.writeLong(TimeUnit.NANOSECONDS.toMicros(pending.latencyNanos));
+        output.writeByte(pending.flags);
+        output.writeUTF(pending.application == null ? "" : pending.application);
+        writeBytes(pending.request);
+        writeBytes(pending.response);
+    }
+
+    /**
+     * Encodes a request, a response or the deployed policies as UTF-8 JSON.
+     *
+     * @return the encoded value, or {@link #NONE} if there is none
+     */
+    private byte[] encode(Object value) throws Exception {
+        String json;
+        if (value == null) {
+            return NONE;
+        } else if (value instanceof Request request) {
+            json = JsonRequestTranslator.toString(request, false);
+        } else if (value instanceof Response response) {
+            json = JsonResponseTranslator.toString(response, false);
+        } else {
+            json = coder.encode(value);
+        }
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeBytes(byte[] value) throws IOException {
+        if (value == NONE) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    /**
+     * Stops capturing once the file has reached its maximum size. The size is that of
+     * the compressed data flushed so far, thus it may overshoot by a buffer.
+     */
+    private void checkSize() {
+        if (counter.getCount() >= maxFileSize) {
+            LOGGER.warn("capture file {} is full, no more decisions are captured", file);
+            full = true;
+            queue.clear();
+        }
+    }
+
+    private void close() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            LOGGER.warn("cannot close the capture file {}", file, e);
+        }
+    }
+
+    /**
+     * A record waiting to be written, its request and response already encoded.
+     */
+    private record Pending(CaptureRecord.Kind kind, String application, int flags, byte[] request,
+                    byte[] response, long start, long latencyNanos) {
+    }
+
+    /**
+     * Counts the bytes written to the capture file.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        @Getter
+        private long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            out.write(value);
+            ++count;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
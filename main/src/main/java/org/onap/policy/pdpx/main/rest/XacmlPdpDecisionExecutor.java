@@ -0,0 +1,532 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.core.metrics.Gauge;
+import io.prometheus.metrics.core.metrics.GaugeWithCallback;
+import jakarta.ws.rs.core.Response;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.models.decisions.concepts.DecisionException;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs decisions off the REST request threads, so that slow decisions (e.g. guard
+ * decisions waiting on PIP queries) do not hold on to server threads. Tracks, per
+ * application, the number of decisions waiting to run and the number running, and
+ * applies the application's admission control limits before a decision is queued for
+ * a thread, thus decisions waiting for their application's limit hold no thread.
+ * Applications may be given their own pool of threads (a bulkhead), so that a burst of
+ * traffic for one application cannot starve the others. Decisions whose action has a
+ * higher priority are run first, both when waiting for their application's limit and
+ * when waiting for a thread. The time decisions spend waiting for a thread, for their
+ * application's engine and for PIP connections is exported, along with a saturation
+ * signal that an autoscaler may act on before latency degrades.
+ */
+public class XacmlPdpDecisionExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpDecisionExecutor.class);
+
+    @Getter
+    @Setter
+    private static XacmlPdpDecisionExecutor current = null;
+
+    protected static final String QUEUE_DEPTH_METRIC = "decision_queue_depth";
+    public static final String QUEUE_DEPTH_HELP = "The number of decisions waiting to be evaluated.";
+    protected static final String IN_FLIGHT_METRIC = "decisions_in_flight";
+    public static final String IN_FLIGHT_HELP = "The number of decisions being evaluated.";
+    protected static final String WAIT_METRIC = "decision_wait_seconds";
+    public static final String WAIT_HELP = "Time decisions spent waiting for a shared resource.";
+    protected static final String SATURATION_METRIC = "decision_saturation";
+    public static final String SATURATION_HELP = "How saturated an application is: 1 when its capacity is in use "
+                    + "or its decisions mostly wait for its engine or its PIPs, above 1 when decisions queue up.";
+
+    /**
+     * Shortest period over which the contention of an application is computed.
+     */
+    protected static final long CONTENTION_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    public static final String RESOURCE = "resource";
+    public static final String EXECUTOR_RESOURCE = "executor";
+    public static final String LOCK_RESOURCE = "application_lock";
+    public static final String PIP_RESOURCE = "pip_connection";
+
+    protected static final Gauge queueDepthGauge =
+        Gauge.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + QUEUE_DEPTH_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(QUEUE_DEPTH_HELP)
+            .register();
+
+    protected static final Gauge inFlightGauge =
+        Gauge.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + IN_FLIGHT_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(IN_FLIGHT_HELP)
+            .register();
+
+    protected static final Counter waitCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + WAIT_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, RESOURCE)
+            .help(WAIT_HELP)
+            .register();
+
+    protected static final GaugeWithCallback saturationGauge =
+        GaugeWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + SATURATION_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(SATURATION_HELP)
+            .callback(callback -> {
+                var decisionExecutor = current;
+                if (decisionExecutor != null) {
+                    decisionExecutor.loads.keySet().forEach(application ->
+                        callback.call(decisionExecutor.getSaturation(application), application));
+                }
+            })
+            .register();
+
+    private final ExecutorService executor;
+    private final int executorThreads;
+    private final Map<String, ExecutorService> bulkheads = new HashMap<>();
+    private final Map<String, Integer> bulkheadThreads;
+    private final Map<String, Integer> actionPriorities;
+    private final AtomicLong sequence = new AtomicLong();
+    private final XacmlPdpAdmissionController admissionController;
+    private final Map<String, ApplicationLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters decision execution parameters
+     */
+    public XacmlPdpDecisionExecutor(XacmlDecisionParameters parameters) {
+        this.executor = makeExecutor(parameters);
+        this.executorThreads = (executor instanceof ThreadPoolExecutor pool ? pool.getMaximumPoolSize() : 0);
+        this.bulkheadThreads = Map.copyOf(parameters.getApplicationThreads());
+        this.actionPriorities = Map.copyOf(parameters.getActionPriorities());
+        this.admissionController = new XacmlPdpAdmissionController(parameters);
+
+        parameters.getApplicationThreads().forEach((application, threads) -> {
+            LOGGER.info("decisions for {} will run on their own pool of {} threads", application, threads);
+            bulkheads.put(application, makePool(threads));
+        });
+    }
+
+    /**
+     * Submits a decision for evaluation, with the default priority.
+     *
+     * @param application name of the application making the decision
+     * @param decision the work to perform
+     * @return a future for the result of the decision
+     */
+    public <T> CompletableFuture<T> submit(String application, Supplier<T> decision) {
+        return submit(application, null, decision);
+    }
+
+    /**
+     * Submits a decision for evaluation. When the decision has to wait for a thread, it
+     * is queued ahead of decisions whose action has a lower priority.
+     *
+     * @param application name of the application making the decision
+     * @param action action of the decision request, or {@code null}
+     * @param decision the work to perform
+     * @return a future for the result of the decision
+     */
+    public <T> CompletableFuture<T> submit(String application, String action, Supplier<T> decision) {
+        Admission admission;
+        try {
+            admission = admit(application, action);
+        } catch (DecisionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submit(admission, decision);
+    }
+
+    /**
+     * Admits a decision, without submitting it yet. This lets a caller admit several
+     * decisions before submitting any of them, and cancel them all if one is rejected.
+     *
+     * @param application name of the application making the decision
+     * @param action action of the decision request, or {@code null}
+     * @return the admission of the decision, to be submitted or cancelled
+     * @throws DecisionException if the application cannot accept more decisions
+     */
+    public Admission admit(String application, String action) {
+        return new Admission(application, getPriority(action), admissionController.admit(application));
+    }
+
+    /**
+     * Submits an admitted decision for evaluation. The decision waits for its
+     * application's concurrency limit before it is queued for a thread, thus a waiting
+     * decision holds no thread.
+     *
+     * @param admission admission of the decision, as returned by {@link #admit(String, String)}
+     * @param decision the work to perform
+     * @return a future for the result of the decision
+     */
+    public <T> CompletableFuture<T> submit(Admission admission, Supplier<T> decision) {
+        var application = admission.application();
+        var permit = admission.permit();
+        var load = loads.computeIfAbsent(application, ApplicationLoad::new);
+        var future = new CompletableFuture<T>();
+        var submitted = System.nanoTime();
+        var order = sequence.getAndIncrement();
+        var task = new DecisionTask(admission.priority(), order, () -> {
+            var start = System.nanoTime();
+            load.start(start - submitted);
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = decision.get();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+            //
+            // The decision is done before its caller is woken up
+            //
+            var latency = System.nanoTime() - start;
+            load.finish(latency);
+            permit.release(latency);
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        });
+
+        load.enqueue();
+        permit.acquire(admission.priority(), order, () -> dispatch(application, task, load, permit, future));
+        return future;
+    }
+
+    /**
+     * Gets the priority of an action.
+     *
+     * @param action action of a decision request, or {@code null}
+     * @return the priority of the action, higher values run first
+     */
+    public int getPriority(String action) {
+        return (action == null ? 0 : actionPriorities.getOrDefault(action, 0));
+    }
+
+    /**
+     * Determines if decisions run on virtual threads, which requires them to be enabled
+     * and supported by the JVM.
+     *
+     * @return {@code true} if decisions run on virtual threads, {@code false} if they
+     *         run on a pool of platform threads
+     */
+    public boolean isVirtualThreads() {
+        return !(executor instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Determines if an application has its own threads.
+     *
+     * @param application application name
+     * @return {@code true} if the application's decisions run in their own bulkhead
+     */
+    public boolean hasBulkhead(String application) {
+        return bulkheads.containsKey(application);
+    }
+
+    /**
+     * Gets the number of seconds rejected clients should wait before trying again.
+     *
+     * @return the number of seconds to wait
+     */
+    public int getRetryAfterSec() {
+        return admissionController.getRetryAfterSec();
+    }
+
+    /**
+     * Gets the current concurrency limit of an application.
+     *
+     * @param application application name
+     * @return the current concurrency limit, or zero if there is no limit
+     */
+    public int getConcurrencyLimit(String application) {
+        return admissionController.getLimit(application);
+    }
+
+    /**
+     * Gets the number of decisions waiting to be evaluated for an application.
+     *
+     * @param application application name
+     * @return the number of decisions waiting
+     */
+    public int getQueueDepth(String application) {
+        var load = loads.get(application);
+        return (load == null ? 0 : load.queued.get());
+    }
+
+    /**
+     * Gets the number of decisions being evaluated for an application.
+     *
+     * @param application application name
+     * @return the number of decisions running
+     */
+    public int getInFlight(String application) {
+        var load = loads.get(application);
+        return (load == null ? 0 : load.inFlight.get());
+    }
+
+    /**
+     * Gets the number of decisions an application can evaluate at the same time.
+     *
+     * @param application application name
+     * @return the application's concurrency limit or, if it has none, the number of
+     *         threads its decisions run on, or zero if that is not bounded either
+     */
+    public int getCapacity(String application) {
+        var limit = admissionController.getLimit(application);
+        return (limit > 0 ? limit : bulkheadThreads.getOrDefault(application, executorThreads));
+    }
+
+    /**
+     * Records the time a decision spent waiting for the application's engine and for
+     * PIP connections.
+     *
+     * @param application application name
+     * @param phases time spent in each phase, as returned by {@link DecisionPhaseTimer#stop()}
+     */
+    public void recordContention(String application, long[] phases) {
+        if (phases != null) {
+            var load = loads.computeIfAbsent(application, ApplicationLoad::new);
+            load.contend(LOCK_RESOURCE, phases[DecisionPhaseTimer.Phase.LOCK_WAIT.ordinal()]);
+            load.contend(PIP_RESOURCE, phases[DecisionPhaseTimer.Phase.PIP_WAIT.ordinal()]);
+        }
+    }
+
+    /**
+     * Gets how saturated an application is. This is the larger of the share of its
+     * capacity in use or queued, and the share of its decisions' time spent waiting for
+     * its engine or its PIPs over the last {@link #CONTENTION_WINDOW_NANOS} or so.
+     * Computing it changes nothing, thus any number of readers get the same value.
+     *
+     * @param application application name
+     * @return the saturation, where 1 means fully used and more means decisions are
+     *         queuing up
+     */
+    public double getSaturation(String application) {
+        return getSaturation(application, System.nanoTime());
+    }
+
+    /**
+     * Gets how saturated an application is at a given time.
+     *
+     * @param application application name
+     * @param nowNanos current value of {@link System#nanoTime()}
+     * @return the saturation
+     */
+    protected double getSaturation(String application, long nowNanos) {
+        var load = loads.get(application);
+        if (load == null) {
+            return 0;
+        }
+
+        var capacity = getCapacity(application);
+        var occupancy = (capacity > 0 ? (double) (load.queued.get() + load.inFlight.get()) / capacity : 0);
+        return Math.max(occupancy, load.getContention(nowNanos));
+    }
+
+    /**
+     * Stops accepting decisions. Decisions already submitted are allowed to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        bulkheads.values().forEach(ExecutorService::shutdown);
+    }
+
+    /**
+     * Queues a decision for a thread, once it has acquired its permit.
+     */
+    private void dispatch(String application, DecisionTask task, ApplicationLoad load,
+                    XacmlPdpAdmissionController.Permit permit, CompletableFuture<?> future) {
+        try {
+            bulkheads.getOrDefault(application, executor).execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("decision rejected for {}", application, e);
+            load.dequeue();
+            permit.cancel();
+            future.completeExceptionally(
+                new DecisionException(Response.Status.SERVICE_UNAVAILABLE, "Decisions are not being accepted"));
+        }
+    }
+
+    private static ExecutorService makeExecutor(XacmlDecisionParameters parameters) {
+        if (parameters.isUseVirtualThreads()) {
+            //
+            // Virtual threads are only available in newer JVMs, so look the factory up
+            //
+            try {
+                var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                                .invoke(null);
+                LOGGER.info("decisions will run on virtual threads");
+                return executor;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.info("virtual threads are not supported, using a pool of {} threads",
+                                parameters.getMaxThreads());
+            }
+        }
+        return makePool(parameters.getMaxThreads());
+    }
+
+    /**
+     * Makes a pool of platform threads whose queue runs the highest priority decisions
+     * first.
+     */
+    private static ExecutorService makePool(int threads) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>());
+    }
+
+    /**
+     * Decision admitted by its application, to be submitted or cancelled.
+     *
+     * @param application name of the application making the decision
+     * @param priority priority of the decision's action
+     * @param permit permit to evaluate the decision
+     */
+    public record Admission(String application, int priority, XacmlPdpAdmissionController.Permit permit) {
+
+        /**
+         * Gives up a decision that will not be submitted.
+         */
+        public void cancel() {
+            permit.cancel();
+        }
+    }
+
+    /**
+     * Decision waiting to run, ordered by priority and then by arrival.
+     */
+    private record DecisionTask(int priority, long sequence, Runnable work)
+                    implements Runnable, Comparable<DecisionTask> {
+
+        @Override
+        public void run() {
+            work.run();
+        }
+
+        @Override
+        public int compareTo(DecisionTask other) {
+            var result = Integer.compare(other.priority, priority);
+            return (result != 0 ? result : Long.compare(sequence, other.sequence));
+        }
+    }
+
+    /**
+     * Decision load of a single application. The busy and contended times only ever
+     * grow; the contention is computed from their growth since the start of the
+     * previous window, the windows being at least {@link #CONTENTION_WINDOW_NANOS}
+     * long.
+     */
+    private static class ApplicationLoad {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder busyNanos = new LongAdder();
+        private final LongAdder contendedNanos = new LongAdder();
+        private final String application;
+        private Window previousWindow;
+        private Window currentWindow;
+
+        ApplicationLoad(String application) {
+            this.application = application;
+            this.currentWindow = new Window(System.nanoTime(), 0, 0);
+            this.previousWindow = currentWindow;
+        }
+
+        /**
+         * Gets the share of the time spent evaluating decisions that was spent waiting
+         * for the application's engine or its PIPs, since the start of the previous
+         * window.
+         */
+        synchronized double getContention(long nowNanos) {
+            var busy = busyNanos.sum();
+            var contended = contendedNanos.sum();
+            if (nowNanos - currentWindow.startNanos() >= CONTENTION_WINDOW_NANOS) {
+                previousWindow = currentWindow;
+                currentWindow = new Window(nowNanos, busy, contended);
+            }
+            var busyDelta = busy - previousWindow.busyNanos();
+            var contendedDelta = contended - previousWindow.contendedNanos();
+            return (busyDelta > 0 ? Math.min(1.0, (double) contendedDelta / busyDelta) : 0);
+        }
+
+        void contend(String resource, long nanos) {
+            if (nanos > 0) {
+                contendedNanos.add(nanos);
+                observeWait(resource, nanos);
+            }
+        }
+
+        private void observeWait(String resource, long nanos) {
+            waitCounter.labelValues(application, resource).inc((double) nanos / TimeUnit.SECONDS.toNanos(1));
+        }
+
+        void enqueue() {
+            queued.incrementAndGet();
+            queueDepthGauge.labelValues(application).inc();
+        }
+
+        void dequeue() {
+            queued.decrementAndGet();
+            queueDepthGauge.labelValues(application).dec();
+        }
+
+        void start(long waitNanos) {
+            dequeue();
+            inFlight.incrementAndGet();
+            inFlightGauge.labelValues(application).inc();
+            observeWait(EXECUTOR_RESOURCE, waitNanos);
+        }
+
+        void finish(long latencyNanos) {
+            inFlight.decrementAndGet();
+            inFlightGauge.labelValues(application).dec();
+            busyNanos.add(latencyNanos);
+        }
+    }
+
+    /**
+     * Busy and contended times of an application at the start of a window.
+     */
+    private record Window(long startNanos, long busyNanos, long contendedNanos) {
+    }
+}
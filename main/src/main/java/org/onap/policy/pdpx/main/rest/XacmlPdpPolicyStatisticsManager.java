@@ -0,0 +1,266 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import com.att.research.xacml.api.IdReference;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.api.Result;
+import io.prometheus.metrics.core.metrics.CounterWithCallback;
+import io.prometheus.metrics.core.metrics.GaugeWithCallback;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+
+/**
+ * Counts how often each policy applies to a decision, as reported by the policy id lists
+ * of the XACML results, and estimates what evaluating those decisions costs. Policies
+ * are identified by name and version, as the XACML policies carry the version of the
+ * TOSCA policy they were translated from, thus each deployed version of a policy is
+ * counted on its own. The cost of a sampled decision is its PDP engine time, attributed
+ * to every policy that applied to it, thus a policy's estimate is the average cost of
+ * the decisions it takes part in. Every policy is reported by the statistics endpoint,
+ * whereas the Prometheus metrics only report the top policies, to keep their cardinality
+ * bounded.
+ */
+public class XacmlPdpPolicyStatisticsManager {
+    @Getter
+    @Setter
+    private static XacmlPdpPolicyStatisticsManager current = null;
+
+    public static final String POLICY = "policy";
+    public static final String VERSION = "version";
+    protected static final String POLICY_HITS_METRIC = "policy_hits";
+    public static final String POLICY_HITS_HELP =
+                    "The number of decisions a policy applied to, for the most used policies.";
+    protected static final String POLICY_EVALUATION_METRIC = "policy_evaluation_seconds";
+    public static final String POLICY_EVALUATION_HELP =
+                    "The average evaluation time of the decisions a policy applied to, for the most costly policies.";
+    protected static final String UNUSED_POLICIES_METRIC = "unused_policies";
+    public static final String UNUSED_POLICIES_HELP =
+                    "The number of deployed policies that never applied to a decision.";
+
+    /**
+     * Version of the policies whose XACML references carry none.
+     */
+    private static final String NO_VERSION = "0.0.0";
+
+    private static final Comparator<PolicySnapshot> BY_HITS =
+                    Comparator.comparingLong(PolicySnapshot::hitCount).reversed();
+    private static final Comparator<PolicySnapshot> BY_COST =
+                    Comparator.comparingDouble(PolicySnapshot::getAverageEvaluationNanos).reversed();
+
+    protected static final CounterWithCallback policyHitsCounter =
+        CounterWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + POLICY_HITS_METRIC)
+            .labelNames(POLICY, VERSION)
+            .help(POLICY_HITS_HELP)
+            .callback(callback -> {
+                var stats = current;
+                if (stats != null) {
+                    stats.getTopPolicies(BY_HITS).forEach(policy -> callback.call(policy.hitCount(),
+                                    policy.policyId().getName(), policy.policyId().getVersion()));
+                }
+            })
+            .register();
+
+    protected static final GaugeWithCallback policyEvaluationGauge =
+        GaugeWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + POLICY_EVALUATION_METRIC)
+            .labelNames(POLICY, VERSION)
+            .help(POLICY_EVALUATION_HELP)
+            .callback(callback -> {
+                var stats = current;
+                if (stats != null) {
+                    stats.getTopPolicies(BY_COST).stream().filter(policy -> policy.sampledCount() > 0)
+                        .forEach(policy -> callback.call(policy.getAverageEvaluationNanos()
+                                        / TimeUnit.SECONDS.toNanos(1), policy.policyId().getName(),
+                                        policy.policyId().getVersion()));
+                }
+            })
+            .register();
+
+    protected static final GaugeWithCallback unusedPoliciesGauge =
+        GaugeWithCallback.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + UNUSED_POLICIES_METRIC)
+            .help(UNUSED_POLICIES_HELP)
+            .callback(callback -> {
+                var stats = current;
+                var appmgr = XacmlPdpApplicationManager.getCurrent();
+                if (stats != null && appmgr != null) {
+                    callback.call(stats.countUnusedPolicies(List.copyOf(appmgr.getToscaPolicies().keySet())));
+                }
+            })
+            .register();
+
+    private final int sampleRate;
+    private final int metricsLimit;
+    private final Map<ToscaConceptIdentifier, PolicyCounters> policies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters decision execution parameters
+     */
+    public XacmlPdpPolicyStatisticsManager(XacmlDecisionParameters parameters) {
+        this.sampleRate = parameters.getPolicySampleRate();
+        this.metricsLimit = parameters.getPolicyMetricsLimit();
+    }
+
+    /**
+     * Records the policies that applied to a decision.
+     *
+     * @param xacmlResponse response of the PDP engine
+     * @param decideNanos time, in nanoseconds, the PDP engine took to make the decision,
+     *        or zero if it is unknown
+     */
+    public void record(Response xacmlResponse, long decideNanos) {
+        if (xacmlResponse == null) {
+            return;
+        }
+        var sampled = (decideNanos > 0 && sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+        var now = System.currentTimeMillis();
+        for (Result result : xacmlResponse.getResults()) {
+            Collection<IdReference> references = result.getPolicyIdentifiers();
+            if (references == null) {
+                continue;
+            }
+            for (IdReference reference : references) {
+                var counters = getCounters(toIdentifier(reference));
+                counters.hit(now);
+                if (sampled) {
+                    counters.sample(decideNanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets a policy, once it has been undeployed.
+     *
+     * @param policyId name and version of the policy
+     */
+    public void remove(ToscaConceptIdentifier policyId) {
+        policies.remove(policyId);
+    }
+
+    /**
+     * Gets the statistics of a policy.
+     *
+     * @param policyId name and version of the policy
+     * @return the statistics of the policy, all zero if it never applied to a decision
+     */
+    public PolicySnapshot getPolicy(ToscaConceptIdentifier policyId) {
+        var counters = policies.get(policyId);
+        return (counters == null ? new PolicySnapshot(policyId, 0, 0, 0, 0) : counters.snapshot(policyId));
+    }
+
+    /**
+     * Gets the statistics of every policy that applied to a decision.
+     *
+     * @return the statistics of the policies, from the most to the least used
+     */
+    public List<PolicySnapshot> getPolicies() {
+        return policies.entrySet().stream().map(entry -> entry.getValue().snapshot(entry.getKey())).sorted(BY_HITS)
+                        .toList();
+    }
+
+    /**
+     * Counts the policies that never applied to a decision.
+     *
+     * @param deployed the deployed policies
+     * @return the number of deployed policies that never applied to a decision
+     */
+    public long countUnusedPolicies(Collection<ToscaPolicy> deployed) {
+        return deployed.stream().filter(policy -> !policies.containsKey(policy.getIdentifier())).count();
+    }
+
+    private List<PolicySnapshot> getTopPolicies(Comparator<PolicySnapshot> order) {
+        return policies.entrySet().stream().map(entry -> entry.getValue().snapshot(entry.getKey())).sorted(order)
+                        .limit(metricsLimit).toList();
+    }
+
+    private PolicyCounters getCounters(ToscaConceptIdentifier policyId) {
+        var counters = policies.get(policyId);
+        return (counters != null ? counters : policies.computeIfAbsent(policyId, key -> new PolicyCounters()));
+    }
+
+    private static ToscaConceptIdentifier toIdentifier(IdReference reference) {
+        var version = reference.getVersion();
+        return new ToscaConceptIdentifier(reference.getId().stringValue(),
+                        (version == null ? NO_VERSION : version.stringValue()));
+    }
+
+    /**
+     * Point-in-time copy of the statistics of a policy.
+     *
+     * @param policyId name and version of the policy
+     * @param hitCount number of decisions the policy applied to
+     * @param lastHitMillis time of the last such decision, in milliseconds since the epoch
+     * @param sampledCount number of those decisions whose evaluation time was sampled
+     * @param sampledNanos total evaluation time of the sampled decisions, in nanoseconds
+     */
+    public record PolicySnapshot(ToscaConceptIdentifier policyId, long hitCount, long lastHitMillis, long sampledCount,
+                    long sampledNanos) {
+
+        /**
+         * Gets the average evaluation time of the sampled decisions.
+         *
+         * @return the average evaluation time, in nanoseconds
+         */
+        public double getAverageEvaluationNanos() {
+            return (sampledCount == 0 ? 0.0 : (double) sampledNanos / sampledCount);
+        }
+    }
+
+    /**
+     * Counters of a single policy.
+     */
+    private static class PolicyCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private volatile long lastHitMillis = 0;
+
+        void hit(long now) {
+            hits.increment();
+            lastHitMillis = now;
+        }
+
+        void sample(long nanos) {
+            sampled.increment();
+            sampledNanos.add(nanos);
+        }
+
+        PolicySnapshot snapshot(ToscaConceptIdentifier policyId) {
+            return new PolicySnapshot(policyId, hits.sum(), lastHitMillis, sampled.sum(), sampledNanos.sum());
+        }
+    }
+}
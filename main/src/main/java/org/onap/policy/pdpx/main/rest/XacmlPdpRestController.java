@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2021-2023 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,16 +29,27 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import org.onap.policy.models.decisions.concepts.DecisionException;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
 import org.onap.policy.pdpx.main.rest.provider.HealthCheckProvider;
+import org.onap.policy.pdpx.main.rest.provider.PolicyStatisticsProvider;
 import org.onap.policy.pdpx.main.rest.provider.StatisticsProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,7 +61,7 @@ import org.slf4j.LoggerFactory;
 @Path("/policy/pdpx/v1")
 @Produces({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML})
 @Consumes({MediaType.APPLICATION_JSON, XacmlPdpRestController.APPLICATION_YAML})
-public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, DecisionApi, XacmlApi {
+public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, TraceApi {
     private static final Logger LOGGER = LoggerFactory.getLogger(XacmlPdpRestController.class);
     public static final String APPLICATION_YAML = "application/yaml";
     public static final String APPLICATION_XACML_JSON = "application/xacml+json";
@@ -74,33 +86,77 @@ public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, De
                 .entity(new StatisticsProvider().fetchCurrentStatistics()).build();
     }
 
-    @POST
-    @Path("/decision")
+    @GET
+    @Path("/statistics/policies")
+    @Override
+    public Response policyStatistics(
+            @HeaderParam("X-ONAP-RequestID") UUID requestId) {
+        return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
+                .entity(new PolicyStatisticsProvider().fetchCurrentStatistics()).build();
+    }
+
+    @GET
+    @Path("/traces")
     @Override
-    public Response decision(DecisionRequest body, @HeaderParam("X-ONAP-RequestID") UUID requestId) {
-        return decision(body, requestId, request);
+    public Response traces(
+            @HeaderParam("X-ONAP-RequestID") UUID requestId) {
+        var buffer = XacmlPdpTraceBuffer.getCurrent();
+        return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
+                .entity(buffer == null ? List.of() : buffer.getTraces()).build();
+    }
+
+    @GET
+    @Path("/traces/{requestId}")
+    @Override
+    public Response trace(@PathParam("requestId") UUID traceRequestId,
+            @HeaderParam("X-ONAP-RequestID") UUID requestId) {
+        var buffer = XacmlPdpTraceBuffer.getCurrent();
+        var traces = (buffer == null ? List.of() : buffer.getTraces(traceRequestId.toString()));
+        if (traces.isEmpty()) {
+            return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.NOT_FOUND)), requestId)
+                    .build();
+        }
+        return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
+                .entity(traces).build();
     }
 
     /**
-     * Our decision entry point.
+     * Our decision entry point. The decision is evaluated by the decision executor,
+     * releasing the request thread while it runs.
      *
      * @param body Should be a DecisionRequest object
      * @param requestId Unique request id
-     * @return DecisionResponse or ErrorResponse object
+     * @param asyncResponse resumed with the DecisionResponse or ErrorResponse object
      */
-    private Response decision(DecisionRequest body,
-            @HeaderParam("X-ONAP-RequestID") UUID requestId,
-            @Context HttpServletRequest request) {
-        try {
-            return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
-                    .entity(new DecisionProvider().fetchDecision(body, request.getParameterMap())).build();
-        } catch (DecisionException e) {
-            LOGGER.error("Decision exception", e);
-            XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
-            return addLoggingHeaders(
-                    addVersionControlHeaders(Response.status((e.getErrorResponse().getResponseCode()))), requestId)
-                    .entity(e.getErrorResponse()).build();
-        }
+    @POST
+    @Path("/decision")
+    public void decision(DecisionRequest body, @HeaderParam("X-ONAP-RequestID") UUID requestId,
+            @Suspended AsyncResponse asyncResponse) {
+        Map<String, String[]> queryParams = getQueryParams();
+        var timings = getTimings();
+        var id = getRequestId(requestId);
+        var traced = isTraced();
+        resume(asyncResponse, id, timings,
+            () -> new DecisionProvider(timings, id.toString(), traced).fetchDecisionAsync(body, queryParams));
+    }
+
+    /**
+     * Our batch decision entry point.
+     *
+     * @param body Should be a list of DecisionRequest objects
+     * @param requestId Unique request id
+     * @param asyncResponse resumed with the list of DecisionResponse or ErrorResponse object
+     */
+    @POST
+    @Path("/decisions")
+    public void decisions(List<DecisionRequest> body, @HeaderParam("X-ONAP-RequestID") UUID requestId,
+            @Suspended AsyncResponse asyncResponse) {
+        Map<String, String[]> queryParams = getQueryParams();
+        var timings = getTimings();
+        var id = getRequestId(requestId);
+        var traced = isTraced();
+        resume(asyncResponse, id, timings,
+            () -> new DecisionProvider(timings, id.toString(), traced).fetchDecisionsAsync(body, queryParams));
     }
 
     /**
@@ -108,31 +164,110 @@ public class XacmlPdpRestController implements HealthcheckApi, StatisticsApi, De
      *
      * @param body Should be an Xacml Request object
      * @param requestId Unique request id
-     * @return Xacml Response or ErrorResponse object
+     * @param asyncResponse resumed with the Xacml Response or ErrorResponse object
      */
     @POST
     @Path("/xacml")
     @Produces({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML})
     @Consumes({XacmlPdpRestController.APPLICATION_XACML_JSON, XacmlPdpRestController.APPLICATION_XACML_XML})
-    @Override
-    public Response xacml(Request body,
-            @HeaderParam("X-ONAP-RequestID") UUID requestId) {
+    public void xacml(Request body, @HeaderParam("X-ONAP-RequestID") UUID requestId,
+            @Suspended AsyncResponse asyncResponse) {
+        var timings = getTimings();
+        var id = getRequestId(requestId);
+        var traced = isTraced();
+        resume(asyncResponse, id, timings,
+            () -> new DecisionProvider(timings, id.toString(), traced).fetchNativeDecisionAsync(body));
+    }
+
+    /**
+     * Copies the query parameters, as the injected request may only be used by the
+     * request thread.
+     */
+    private Map<String, String[]> getQueryParams() {
+        return new HashMap<>(request.getParameterMap());
+    }
+
+    /**
+     * Gets the timings of the request, which were started when its body was read.
+     */
+    private DecisionTimings getTimings() {
+        var timings = (request.getAttribute(DecisionTimings.PROPERTY) instanceof DecisionTimings existing ? existing
+                        : new DecisionTimings());
+        timings.setServerTimingRequested(Boolean.parseBoolean(request.getHeader(DecisionTimings.REQUEST_HEADER)));
+        return timings;
+    }
+
+    /**
+     * Gets the id of a decision request, generating one if the client did not provide
+     * it, so that the request is audited and traced under the id returned to the client.
+     */
+    private UUID getRequestId(UUID requestId) {
+        return (requestId == null ? UUID.randomUUID() : requestId);
+    }
+
+    /**
+     * Determines if the decisions of the request are to be traced.
+     */
+    private boolean isTraced() {
+        var buffer = XacmlPdpTraceBuffer.getCurrent();
+        return (buffer != null
+                && buffer.shouldTrace(Boolean.parseBoolean(request.getHeader(XacmlPdpTraceBuffer.REQUEST_HEADER))));
+    }
+
+    private void resume(AsyncResponse asyncResponse, UUID requestId, DecisionTimings timings,
+            Supplier<CompletableFuture<?>> decision) {
         try {
-            return addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)), requestId)
-                    .entity(new DecisionProvider().fetchNativeDecision(body)).build();
+            decision.get().whenComplete((entity, error) -> asyncResponse.resume(makeResponse(requestId, timings,
+                            entity, error)));
         } catch (DecisionException e) {
-            LOGGER.error("Decision exception", e);
+            asyncResponse.resume(makeErrorResponse(requestId, timings, e));
+        }
+    }
+
+    private Response makeResponse(UUID requestId, DecisionTimings timings, Object entity, Throwable error) {
+        if (error == null) {
+            return addTimingHeaders(addLoggingHeaders(addVersionControlHeaders(Response.status(Response.Status.OK)),
+                    requestId), timings).entity(entity).build();
+        }
+        Throwable cause = (error instanceof CompletionException ? error.getCause() : error);
+        if (cause instanceof DecisionException decisionException) {
+            return makeErrorResponse(requestId, timings, decisionException);
+        }
+        LOGGER.error("Decision failed", cause);
+        return makeErrorResponse(requestId, timings,
+                new DecisionException(Response.Status.INTERNAL_SERVER_ERROR, cause.getMessage()));
+    }
+
+    private Response makeErrorResponse(UUID requestId, DecisionTimings timings, DecisionException exception) {
+        var status = exception.getErrorResponse().getResponseCode();
+        var rb = addTimingHeaders(addLoggingHeaders(addVersionControlHeaders(Response.status(status)), requestId),
+                timings);
+        if (status == Response.Status.TOO_MANY_REQUESTS) {
+            //
+            // Load shedding is not an error of the PDP, so it is counted separately, by
+            // pdpx_decisions_rejected, rather than logged for every rejected request
+            //
+            LOGGER.debug("Decision rejected: {}", exception.getMessage());
+            rb.header(HttpHeaders.RETRY_AFTER, XacmlPdpDecisionExecutor.getCurrent().getRetryAfterSec());
+        } else {
+            LOGGER.error("Decision exception", exception);
             XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
-            return addLoggingHeaders(
-                    addVersionControlHeaders(Response.status((e.getErrorResponse().getResponseCode()))), requestId)
-                    .entity(e.getErrorResponse()).build();
         }
+        return rb.entity(exception.getErrorResponse()).build();
     }
 
     private ResponseBuilder addVersionControlHeaders(ResponseBuilder rb) {
         return rb.header("X-MinorVersion", "0").header("X-PatchVersion", "0").header("X-LatestVersion", "1.0.0");
     }
 
+    private ResponseBuilder addTimingHeaders(ResponseBuilder rb, DecisionTimings timings) {
+        timings.observeDeserialization();
+        if (timings.isServerTimingRequested()) {
+            return rb.header(DecisionTimings.SERVER_TIMING_HEADER, timings.toServerTiming());
+        }
+        return rb;
+    }
+
     private ResponseBuilder addLoggingHeaders(ResponseBuilder rb, UUID requestId) {
         if (requestId == null) {
             // Generate a random uuid if client does not embed requestId in rest request
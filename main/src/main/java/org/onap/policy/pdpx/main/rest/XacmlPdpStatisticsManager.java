@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019, 2021-2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,24 +22,31 @@
 
 package org.onap.policy.pdpx.main.rest;
 
+import io.prometheus.metrics.core.datapoints.CounterDataPoint;
 import io.prometheus.metrics.core.metrics.Counter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.Synchronized;
 import org.onap.policy.common.utils.resources.PrometheusUtils;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
+import org.onap.policy.pdpx.main.rest.model.DeploymentSummary;
 
 /**
- * Class to hold statistical data for xacmlPdp component.
+ * Class to hold statistical data for xacmlPdp component. Every decision updates these
+ * statistics, thus they are kept in {@link LongAdder}s rather than behind a lock, and
+ * each application's counters are resolved once and then reused.
  */
-@Getter(onMethod_ = @Synchronized)
 public class XacmlPdpStatisticsManager {
     @Getter
     @Setter
     private static XacmlPdpStatisticsManager current = null;
-    protected static final String PROMETHEUS_NAMESPACE = "pdpx";
+    public static final String PROMETHEUS_NAMESPACE = "pdpx";
     protected static final String POLICY_DECISIONS_METRIC = "policy_decisions";
     public static final String POLICY_DECISIONS_HELP = "The total number of policy decisions.";
     public static final String PERMIT_OPERATION = "permit";
@@ -62,21 +70,47 @@ public class XacmlPdpStatisticsManager {
             .help(POLICY_DECISIONS_HELP)
             .register();
 
-    private long totalPolicyTypesCount;
-    private long totalPoliciesCount;
-    private long errorCount;
-    private long permitDecisionsCount;
-    private long denyDecisionsCount;
-    private long deploySuccessCount;
-    private long deployFailureCount;
-    private long undeploySuccessCount;
-    private long undeployFailureCount;
-    private long indeterminantDecisionsCount;
-    private long notApplicableDecisionsCount;
-    private final Map<String, Map<String, Integer>> applicationMetrics = new HashMap<>();
-
-    /**
-     * Used to update our Map of ApplicationNames to statistics.
+    private volatile long totalPolicyTypesCount;
+    private volatile long totalPoliciesCount;
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder deploySuccessCount = new LongAdder();
+    private final LongAdder deployFailureCount = new LongAdder();
+    private final LongAdder undeploySuccessCount = new LongAdder();
+    private final LongAdder undeployFailureCount = new LongAdder();
+    private final Map<String, ApplicationStatistics> applications = new ConcurrentHashMap<>();
+
+    /**
+     * Summary of the most recent PDP update, or {@code null} if none was handled yet.
+     */
+    @Getter
+    @Setter
+    private volatile DeploymentSummary lastDeployment = null;
+
+    /**
+     * Gets the decision counters of an application, creating them on first use.
+     *
+     * @param appName name of the application
+     * @return the application's decision counters
+     */
+    public ApplicationStatistics getApplicationStatistics(String appName) {
+        //
+        // get() first, as computeIfAbsent() may lock even when the entry exists
+        //
+        var stats = applications.get(appName);
+        return (stats != null ? stats : applications.computeIfAbsent(appName, ApplicationStatistics::new));
+    }
+
+    /**
+     * Gets the names of the applications that made decisions.
+     *
+     * @return a new set of application names
+     */
+    public Set<String> getApplicationNames() {
+        return new TreeSet<>(applications.keySet());
+    }
+
+    /**
+     * Gets the decisions made by each application.
      * A typical applicationsMetric map could look something like this:
      * {
      *     "app_1_name": {
@@ -88,19 +122,95 @@ public class XacmlPdpStatisticsManager {
      *         "not_applicable_decisions_count": 1
      *     }
      * }
-     * @param appName - the current app we are updating decisions for
-     * @param updateMethod - the kind of decision we made for our app
+     * @return a new map of application names to decision counts
      */
-    @Synchronized
-    public void updateApplicationMetrics(String appName, String updateMethod) {
-        if (!applicationMetrics.containsKey(appName)) {
-            Map<String, Integer> appMap = new HashMap<>();
-            appMap.put(updateMethod, 1);
-            applicationMetrics.put(appName, appMap);
-        } else {
-            int newTotal = applicationMetrics.get(appName).getOrDefault(updateMethod, 0) + 1;
-            applicationMetrics.get(appName).put(updateMethod, newTotal);
+    public Map<String, Map<String, Integer>> getApplicationMetrics() {
+        Map<String, Map<String, Integer>> metrics = new HashMap<>();
+        applications.forEach((appName, stats) -> {
+            var appMetrics = stats.toMap();
+            if (!appMetrics.isEmpty()) {
+                metrics.put(appName, appMetrics);
+            }
+        });
+        return metrics;
+    }
+
+    /**
+     * Takes a snapshot of all the statistics. Decisions made while the snapshot is
+     * being taken may or may not be included, but every value is read exactly once.
+     *
+     * @return a snapshot of the statistics
+     */
+    public Snapshot snapshot() {
+        long permit = 0;
+        long deny = 0;
+        long indeterminant = 0;
+        long notApplicable = 0;
+        Map<String, Map<String, Integer>> metrics = new HashMap<>();
+        for (var entry : applications.entrySet()) {
+            var stats = entry.getValue();
+            var appPermit = stats.permit.sum();
+            var appDeny = stats.deny.sum();
+            var appIndeterminant = stats.indeterminant.sum();
+            var appNotApplicable = stats.notApplicable.sum();
+            permit += appPermit;
+            deny += appDeny;
+            indeterminant += appIndeterminant;
+            notApplicable += appNotApplicable;
+
+            var appMetrics = ApplicationStatistics.toMap(appPermit, appDeny, appIndeterminant, appNotApplicable);
+            if (!appMetrics.isEmpty()) {
+                metrics.put(entry.getKey(), appMetrics);
+            }
         }
+
+        return new Snapshot(totalPolicyTypesCount, totalPoliciesCount, errorCount.sum(), permit, deny,
+                        indeterminant, notApplicable, deploySuccessCount.sum(), deployFailureCount.sum(),
+                        undeploySuccessCount.sum(), undeployFailureCount.sum(), metrics, lastDeployment);
+    }
+
+    public long getTotalPolicyTypesCount() {
+        return totalPolicyTypesCount;
+    }
+
+    public long getTotalPoliciesCount() {
+        return totalPoliciesCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getPermitDecisionsCount() {
+        return sum(ApplicationStatistics::getPermitDecisionsCount);
+    }
+
+    public long getDenyDecisionsCount() {
+        return sum(ApplicationStatistics::getDenyDecisionsCount);
+    }
+
+    public long getIndeterminantDecisionsCount() {
+        return sum(ApplicationStatistics::getIndeterminantDecisionsCount);
+    }
+
+    public long getNotApplicableDecisionsCount() {
+        return sum(ApplicationStatistics::getNotApplicableDecisionsCount);
+    }
+
+    public long getDeploySuccessCount() {
+        return deploySuccessCount.sum();
+    }
+
+    public long getDeployFailureCount() {
+        return deployFailureCount.sum();
+    }
+
+    public long getUndeploySuccessCount() {
+        return undeploySuccessCount.sum();
+    }
+
+    public long getUndeployFailureCount() {
+        return undeployFailureCount.sum();
     }
 
     /**
@@ -108,7 +218,6 @@ public class XacmlPdpStatisticsManager {
      * doesn't really increment, it depends on the applications
      * that are loaded. Which can be dynamic.
      */
-    @Synchronized
     public void setTotalPolicyTypesCount(long newCount) {
         totalPolicyTypesCount = newCount;
     }
@@ -118,7 +227,6 @@ public class XacmlPdpStatisticsManager {
      * doesn't really increment, it depends on the applications
      * that are loaded. Which can be dynamic.
      */
-    @Synchronized
     public void setTotalPolicyCount(long newCount) {
         totalPoliciesCount = newCount;
     }
@@ -126,107 +234,181 @@ public class XacmlPdpStatisticsManager {
     /**
      * Method to update the number of error decisions.
      */
-    @Synchronized
     public void updateErrorCount() {
-        ++errorCount;
+        errorCount.increment();
     }
 
     /**
      * Method to update the number of permit decisions.
      */
-    @Synchronized
     public void updatePermitDecisionsCount(String appName) {
-        decisionsCounter.labelValues(appName, PERMIT_OPERATION).inc();
-        updateApplicationMetrics(appName, "permit_decisions_count");
-        ++permitDecisionsCount;
+        getApplicationStatistics(appName).updatePermitDecisionsCount();
     }
 
     /**
      * Method to update the number of deny decisions.
      */
-    @Synchronized
     public void updateDenyDecisionsCount(String appName) {
-        decisionsCounter.labelValues(appName, DENY_OPERATION).inc();
-        updateApplicationMetrics(appName, "deny_decisions_count");
-        ++denyDecisionsCount;
+        getApplicationStatistics(appName).updateDenyDecisionsCount();
     }
 
     /**
      * Method to update the number of indeterminant decisions.
      */
-    @Synchronized
     public void updateIndeterminantDecisionsCount(String appName) {
-        decisionsCounter.labelValues(appName, INDETERMINANT_OPERATION).inc();
-        updateApplicationMetrics(appName, "indeterminant_decisions_count");
-        ++indeterminantDecisionsCount;
+        getApplicationStatistics(appName).updateIndeterminantDecisionsCount();
     }
 
     /**
      * Method to update the number of not applicable decisions.
      */
-    @Synchronized
     public void updateNotApplicableDecisionsCount(String appName) {
-        decisionsCounter.labelValues(appName, NOT_APPLICABLE_OPERATION).inc();
-        updateApplicationMetrics(appName, "not_applicable_decisions_count");
-        ++notApplicableDecisionsCount;
+        getApplicationStatistics(appName).updateNotApplicableDecisionsCount();
     }
 
     /**
      * Method to update the number of successful deploys.
      */
-    @Synchronized
     public void updateDeploySuccessCount() {
         deploymentsCounter.labelValues(PrometheusUtils.DEPLOY_OPERATION,
             PdpResponseStatus.SUCCESS.name()).inc();
-        ++deploySuccessCount;
+        deploySuccessCount.increment();
     }
 
     /**
      * Method to update the number of failed deploys.
      */
-    @Synchronized
     public void updateDeployFailureCount() {
         deploymentsCounter.labelValues(PrometheusUtils.DEPLOY_OPERATION,
             PdpResponseStatus.FAIL.name()).inc();
-        ++deployFailureCount;
+        deployFailureCount.increment();
     }
 
     /**
      * Method to update the number of successful undeploys.
      */
-    @Synchronized
     public void updateUndeploySuccessCount() {
         deploymentsCounter.labelValues(PrometheusUtils.UNDEPLOY_OPERATION,
             PdpResponseStatus.SUCCESS.name()).inc();
-        ++undeploySuccessCount;
+        undeploySuccessCount.increment();
     }
 
     /**
      * Method to update the number of failed undeploys.
      */
-    @Synchronized
     public void updateUndeployFailureCount() {
         deploymentsCounter.labelValues(PrometheusUtils.UNDEPLOY_OPERATION,
             PdpResponseStatus.FAIL.name()).inc();
-        ++undeployFailureCount;
+        undeployFailureCount.increment();
     }
 
     /**
-     * Reset all the statistics counts to 0.
+     * Reset all the statistics counts to 0. Prometheus counters are not reset.
      */
-    @Synchronized
     public void resetAllStatistics() {
         totalPolicyTypesCount = 0L;
         totalPoliciesCount = 0L;
-        errorCount = 0L;
-        permitDecisionsCount = 0L;
-        denyDecisionsCount = 0L;
-        deploySuccessCount = 0L;
-        deployFailureCount = 0L;
-        undeploySuccessCount = 0L;
-        undeployFailureCount = 0L;
-        indeterminantDecisionsCount = 0L;
-        notApplicableDecisionsCount = 0L;
-        applicationMetrics.clear();
+        errorCount.reset();
+        deploySuccessCount.reset();
+        deployFailureCount.reset();
+        undeploySuccessCount.reset();
+        undeployFailureCount.reset();
+        applications.clear();
+        lastDeployment = null;
+    }
+
+    private long sum(ToLongFunction<ApplicationStatistics> counter) {
+        return applications.values().stream().mapToLong(counter).sum();
+    }
+
+    /**
+     * Point-in-time copy of the statistics.
+     */
+    public record Snapshot(long totalPolicyTypesCount, long totalPoliciesCount, long errorCount,
+                    long permitDecisionsCount, long denyDecisionsCount, long indeterminantDecisionsCount,
+                    long notApplicableDecisionsCount, long deploySuccessCount, long deployFailureCount,
+                    long undeploySuccessCount, long undeployFailureCount,
+                    Map<String, Map<String, Integer>> applicationMetrics, DeploymentSummary lastDeployment) {
+    }
+
+    /**
+     * Decision counters of a single application. The Prometheus data points are
+     * resolved once, so that updating them does not look the labels up each time.
+     */
+    public static class ApplicationStatistics {
+        private final LongAdder permit = new LongAdder();
+        private final LongAdder deny = new LongAdder();
+        private final LongAdder indeterminant = new LongAdder();
+        private final LongAdder notApplicable = new LongAdder();
+        private final CounterDataPoint permitMetric;
+        private final CounterDataPoint denyMetric;
+        private final CounterDataPoint indeterminantMetric;
+        private final CounterDataPoint notApplicableMetric;
+
+        ApplicationStatistics(String appName) {
+            permitMetric = decisionsCounter.labelValues(appName, PERMIT_OPERATION);
+            denyMetric = decisionsCounter.labelValues(appName, DENY_OPERATION);
+            indeterminantMetric = decisionsCounter.labelValues(appName, INDETERMINANT_OPERATION);
+            notApplicableMetric = decisionsCounter.labelValues(appName, NOT_APPLICABLE_OPERATION);
+        }
+
+        public void updatePermitDecisionsCount() {
+            permitMetric.inc();
+            permit.increment();
+        }
+
+        public void updateDenyDecisionsCount() {
+            denyMetric.inc();
+            deny.increment();
+        }
+
+        public void updateIndeterminantDecisionsCount() {
+            indeterminantMetric.inc();
+            indeterminant.increment();
+        }
+
+        public void updateNotApplicableDecisionsCount() {
+            notApplicableMetric.inc();
+            notApplicable.increment();
+        }
+
+        public long getPermitDecisionsCount() {
+            return permit.sum();
+        }
+
+        public long getDenyDecisionsCount() {
+            return deny.sum();
+        }
+
+        public long getIndeterminantDecisionsCount() {
+            return indeterminant.sum();
+        }
+
+        public long getNotApplicableDecisionsCount() {
+            return notApplicable.sum();
+        }
+
+        Map<String, Integer> toMap() {
+            return toMap(permit.sum(), deny.sum(), indeterminant.sum(), notApplicable.sum());
+        }
+
+        /**
+         * Builds the application's entry of the applicationMetrics map, which only
+         * contains the kinds of decisions that were made.
+         */
+        static Map<String, Integer> toMap(long permit, long deny, long indeterminant, long notApplicable) {
+            Map<String, Integer> appMap = new HashMap<>();
+            put(appMap, "permit_decisions_count", permit);
+            put(appMap, "deny_decisions_count", deny);
+            put(appMap, "indeterminant_decisions_count", indeterminant);
+            put(appMap, "not_applicable_decisions_count", notApplicable);
+            return appMap;
+        }
+
+        private static void put(Map<String, Integer> appMap, String name, long count) {
+            if (count > 0) {
+                appMap.put(name, (int) count);
+            }
+        }
     }
 }
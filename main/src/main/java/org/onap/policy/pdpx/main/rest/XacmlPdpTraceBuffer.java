@@ -0,0 +1,117 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+import org.onap.policy.pdpx.main.rest.model.DecisionTrace;
+
+/**
+ * Keeps the traces of the most recent sampled or requested decisions, so that slow or
+ * unexpected decisions can be diagnosed without enabling trace logging. The traces are
+ * kept in a fixed-size ring, which the newest trace overwrites once it is full; adding
+ * a trace claims a slot with a single atomic increment, thus it never blocks.
+ */
+public class XacmlPdpTraceBuffer {
+    @Getter
+    @Setter
+    private static XacmlPdpTraceBuffer current = null;
+
+    /**
+     * Request header asking for the decisions of the request to be traced.
+     */
+    public static final String REQUEST_HEADER = "X-ONAP-Trace";
+
+    private final int sampleRate;
+    private final AtomicReferenceArray<DecisionTrace> traces;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param parameters decision execution parameters
+     */
+    public XacmlPdpTraceBuffer(XacmlDecisionParameters parameters) {
+        this.sampleRate = parameters.getTraceSampleRate();
+        this.traces = new AtomicReferenceArray<>(parameters.getTraceBufferSize());
+    }
+
+    /**
+     * Determines if the decisions of a request are to be traced.
+     *
+     * @param requested {@code true} if the request asked to be traced
+     * @return {@code true} if the decisions are to be traced
+     */
+    public boolean shouldTrace(boolean requested) {
+        if (traces.length() == 0) {
+            return false;
+        }
+        return (requested || (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0));
+    }
+
+    /**
+     * Adds a trace, replacing the oldest one if the buffer is full.
+     *
+     * @param trace trace to be added
+     */
+    public void add(DecisionTrace trace) {
+        if (traces.length() > 0) {
+            traces.set((int) (next.getAndIncrement() % traces.length()), trace);
+        }
+    }
+
+    /**
+     * Gets the traces of a request.
+     *
+     * @param requestId X-ONAP-RequestID of the request
+     * @return the traces of the request's decisions, most recent first
+     */
+    public List<DecisionTrace> getTraces(String requestId) {
+        return getTraces().stream().filter(trace -> requestId.equals(trace.getRequestId())).toList();
+    }
+
+    /**
+     * Gets every trace in the buffer.
+     *
+     * @return the traces, most recent first
+     */
+    public List<DecisionTrace> getTraces() {
+        List<DecisionTrace> result = new ArrayList<>(traces.length());
+        var last = next.get() - 1;
+        for (var index = last; index >= 0 && index > last - traces.length(); --index) {
+            //
+            // A slot that was claimed, but not yet written, may still be empty or hold an
+            // older trace
+            //
+            var trace = traces.get((int) (index % traces.length()));
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+}
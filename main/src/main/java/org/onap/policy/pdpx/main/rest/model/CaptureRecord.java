@@ -0,0 +1,77 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Class to represent a record of a decision capture: a decision, or the policies that
+ * were deployed from then on.
+ */
+@Getter
+@Setter
+@ToString
+public class CaptureRecord {
+
+    /**
+     * Kinds of capture records.
+     */
+    public enum Kind {
+        /**
+         * A decision request and its response.
+         */
+        DECISION,
+
+        /**
+         * A native XACML request and its response.
+         */
+        NATIVE_DECISION,
+
+        /**
+         * The policies deployed in the PDP.
+         */
+        POLICIES
+    }
+
+    private Kind kind;
+
+    /**
+     * Time, in microseconds since the start of the capture, at which the decision
+     * started or the policies were deployed.
+     */
+    private long offsetMicros;
+
+    private long latencyMicros;
+    private String application;
+    private boolean abbreviated;
+
+    /**
+     * JSON of the request or, for {@link Kind#POLICIES}, of the array of policies.
+     */
+    private String request;
+
+    /**
+     * JSON of the response, {@code null} for {@link Kind#POLICIES}.
+     */
+    private String response;
+}
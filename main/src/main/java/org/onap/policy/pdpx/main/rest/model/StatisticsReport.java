@@ -47,4 +47,7 @@ public class StatisticsReport {
     private long indeterminantDecisionsCount;
     private long notApplicableDecisionsCount;
     private Map<String, Map<String, Integer>> applicationMetrics;
+    private DeploymentSummary lastDeployment;
+    private Map<String, Map<String, Long>> memoryFootprint;
+    private StartupSummary startup;
 }
@@ -0,0 +1,161 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.provider;
+
+import com.att.research.xacml.api.Response;
+import io.prometheus.metrics.core.metrics.Counter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.onap.policy.common.utils.coder.Coder;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces identical decision requests that are being evaluated at the same time.
+ * The first request evaluates the decision, while the others wait for it and receive
+ * their own copy of its response. Nothing is kept once the evaluation completes, thus
+ * this is not a cache.
+ */
+public class DecisionCoalescer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionCoalescer.class);
+    private static final Coder CODER = new StandardCoder();
+
+    @Getter
+    @Setter
+    private static DecisionCoalescer current = null;
+
+    protected static final String COALESCED_DECISIONS_METRIC = "coalesced_decisions";
+    public static final String COALESCED_DECISIONS_HELP =
+                    "The number of decisions answered by an identical decision already being evaluated.";
+
+    protected static final Counter coalescedCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_" + COALESCED_DECISIONS_METRIC)
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION)
+            .help(COALESCED_DECISIONS_HELP)
+            .register();
+
+    private final Map<DecisionKey, CompletableFuture<Pair<DecisionResponse, Response>>> inFlight =
+                    new ConcurrentHashMap<>();
+
+    /**
+     * Makes a decision, sharing the evaluation with any identical request that is
+     * already in flight.
+     *
+     * @param application application making the decision
+     * @param generation policy generation of the application
+     * @param request the decision request
+     * @param queryParams http request query parameters
+     * @return the decision
+     */
+    public Pair<DecisionResponse, Response> decide(XacmlApplicationServiceProvider application, long generation,
+                    DecisionRequest request, Map<String, String[]> queryParams) {
+        DecisionKey key;
+        try {
+            key = new DecisionKey(application.applicationName(), generation, CODER.encode(request),
+                            normalize(queryParams));
+        } catch (CoderException | RuntimeException e) {
+            LOGGER.warn("cannot coalesce decision request {}", request, e);
+            return application.makeDecision(request, queryParams);
+        }
+
+        var flight = new CompletableFuture<Pair<DecisionResponse, Response>>();
+        var leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return follow(application, leader, request, queryParams);
+        }
+
+        try {
+            Pair<DecisionResponse, Response> decision = application.makeDecision(request, queryParams);
+            flight.complete(decision);
+            return decision;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Gets the number of distinct decisions currently being evaluated.
+     *
+     * @return the number of distinct decisions in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Pair<DecisionResponse, Response> follow(XacmlApplicationServiceProvider application,
+                    CompletableFuture<Pair<DecisionResponse, Response>> leader, DecisionRequest request,
+                    Map<String, String[]> queryParams) {
+        coalescedCounter.labelValues(application.applicationName()).inc();
+
+        Pair<DecisionResponse, Response> decision;
+        try {
+            decision = leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        if (decision.getKey() == null) {
+            return decision;
+        }
+
+        //
+        // The caller may modify the response, thus it gets its own copy
+        //
+        try {
+            return Pair.of(CODER.convert(decision.getKey(), DecisionResponse.class), decision.getValue());
+        } catch (CoderException e) {
+            LOGGER.warn("cannot copy coalesced decision, evaluating it again", e);
+            return application.makeDecision(request, queryParams);
+        }
+    }
+
+    private static String normalize(Map<String, String[]> queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return "";
+        }
+        var sorted = new TreeMap<String, String>();
+        queryParams.forEach((name, values) -> sorted.put(name, Arrays.toString(values)));
+        return sorted.toString();
+    }
+
+    private record DecisionKey(String application, long generation, String request, String queryParams) {
+    }
+}
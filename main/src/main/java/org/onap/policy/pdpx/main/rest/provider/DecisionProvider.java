@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2020, 2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,14 +25,33 @@ package org.onap.policy.pdpx.main.rest.provider;
 import com.att.research.xacml.api.Request;
 import com.att.research.xacml.api.Response;
 import com.att.research.xacml.api.Result;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onap.policy.models.decisions.concepts.DecisionException;
 import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer;
+import org.onap.policy.pdp.xacml.application.common.DecisionTraceEngine;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdp.xacml.application.common.jfr.FetchDecisionEvent;
+import org.onap.policy.pdp.xacml.application.common.jfr.XacmlDecisionEvent;
+import org.onap.policy.pdpx.main.rest.DecisionTimings;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpAuditLog;
+import org.onap.policy.pdpx.main.rest.XacmlPdpCaptureLog;
+import org.onap.policy.pdpx.main.rest.XacmlPdpDecisionExecutor;
+import org.onap.policy.pdpx.main.rest.XacmlPdpPolicyStatisticsManager;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpTraceBuffer;
+import org.onap.policy.pdpx.main.rest.model.DecisionTrace;
+import org.onap.policy.pdpx.main.rest.model.DecisionTraceEvent;
 import org.onap.policy.xacml.pdp.application.nativ.NativePdpApplication;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +60,28 @@ import org.slf4j.LoggerFactory;
 public class DecisionProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(DecisionProvider.class);
 
+    private final DecisionTimings timings;
+    private final String requestId;
+    private final boolean traced;
+
+    public DecisionProvider() {
+        this(new DecisionTimings(), null, false);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param timings where to record the phases of the decisions
+     * @param requestId X-ONAP-RequestID of the decision request, under which its
+     *        decisions are audited and traced
+     * @param traced {@code true} if the traces of the decisions are to be recorded
+     */
+    public DecisionProvider(DecisionTimings timings, String requestId, boolean traced) {
+        this.timings = timings;
+        this.requestId = requestId;
+        this.traced = traced;
+    }
+
     /**
      * Retrieves the policy decision for the specified parameters.
      *
@@ -56,15 +98,78 @@ public class DecisionProvider {
         //
         // Found application for action
         //
-        Pair<DecisionResponse, Response> decision = application.makeDecision(request, queryParams);
-        //
-        // Calculate statistics
-        //
-        this.calculateStatistic(decision.getValue(), application.applicationName());
+        return makeDecision(application, request, queryParams);
+    }
+
+    /**
+     * Retrieves the policy decision for the specified parameters, without blocking the
+     * caller. The application is resolved before returning, thus a request for an
+     * unsupported action fails immediately.
+     *
+     * @param request DecisionRequest
+     * @param queryParams Map of parameters
+     * @return a future for the DecisionResponse
+     */
+    public CompletableFuture<DecisionResponse> fetchDecisionAsync(DecisionRequest request,
+            Map<String, String[]> queryParams) {
+        LOGGER.debug("Fetching decision {}", request);
+        XacmlApplicationServiceProvider application = findApplication(request);
+        return XacmlPdpDecisionExecutor.getCurrent().submit(application.applicationName(), request.getAction(),
+            () -> makeDecision(application, request, queryParams));
+    }
+
+    /**
+     * Retrieves the policy decisions for a batch of requests. Each decision of the batch
+     * is admitted on its own, thus the batch counts against the admission limits as many
+     * times as it holds decisions, and the decisions are evaluated in parallel. A request
+     * that cannot be evaluated, including one whose application is saturated, produces an
+     * error response at its position rather than failing the batch.
+     *
+     * @param requests list of DecisionRequest
+     * @param queryParams Map of parameters
+     * @return a future for the list of DecisionResponse, in the same order as the requests
+     * @throws DecisionException if the batch holds no requests
+     */
+    public CompletableFuture<List<DecisionResponse>> fetchDecisionsAsync(List<DecisionRequest> requests,
+            Map<String, String[]> queryParams) {
+        if (requests == null || requests.isEmpty()) {
+            throw new DecisionException(jakarta.ws.rs.core.Response.Status.BAD_REQUEST, "No decision requests");
+        }
+        LOGGER.debug("Fetching {} decisions", requests.size());
+        var responses = new DecisionResponse[requests.size()];
+        var applications = new XacmlApplicationServiceProvider[requests.size()];
+        for (var index = 0; index < requests.size(); ++index) {
+            DecisionRequest request = requests.get(index);
+            applications[index] = (request == null ? null
+                    : XacmlPdpApplicationManager.getCurrent().findApplication(request));
+            if (applications[index] == null) {
+                XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
+                responses[index] = errorResponse(request == null ? "Missing decision request"
+                        : "No application for action " + request.getAction());
+            }
+        }
         //
-        // Return the decision
+        // Each application serializes its own decisions, so evaluate them in parallel
         //
-        return decision.getKey();
+        var executor = XacmlPdpDecisionExecutor.getCurrent();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (var index = 0; index < requests.size(); ++index) {
+            if (applications[index] == null) {
+                continue;
+            }
+            var position = index;
+            var application = applications[index];
+            var request = requests.get(index);
+            futures.add(executor.submit(application.applicationName(), request.getAction(),
+                    () -> makeBatchDecision(application, request, queryParams))
+                .thenAccept(response -> responses[position] = response)
+                .exceptionally(error -> {
+                    responses[position] = errorResponse(error);
+                    return null;
+                }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new))
+            .thenApply(done -> Arrays.asList(responses));
     }
 
     /**
@@ -78,11 +183,43 @@ public class DecisionProvider {
         //
         // Assign native request to native application directly
         //
+        return makeNativeDecision(findNativeApplication(), request);
+    }
+
+    /**
+     * Retrieves the policy decision for the native xacml request, without blocking the caller.
+     *
+     * @param request the xacml request
+     * @return a future for the xacml response
+     */
+    public CompletableFuture<Response> fetchNativeDecisionAsync(Request request) {
+        LOGGER.debug("Fetching decision {}", request);
         XacmlApplicationServiceProvider nativeApp = findNativeApplication();
+        return XacmlPdpDecisionExecutor.getCurrent().submit(nativeApp.applicationName(),
+            () -> makeNativeDecision(nativeApp, request));
+    }
+
+    private Response makeNativeDecision(XacmlApplicationServiceProvider nativeApp, Request request) {
         //
         // Make xacml decision
         //
-        Response decision = ((NativePdpApplication) nativeApp).makeNativeDecision(request);
+        Response decision = null;
+        var event = new FetchDecisionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        startTrace();
+        DecisionPhaseTimer.start();
+        try {
+            decision = ((NativePdpApplication) nativeApp).makeNativeDecision(request);
+        } finally {
+            recordTimings(nativeApp, decision);
+            recordDecision(event, nativeApp, null, start, decision);
+        }
+        var capture = XacmlPdpCaptureLog.getCurrent();
+        if (capture != null) {
+            capture.recordNativeDecision(nativeApp.applicationName(), request, decision, start,
+                System.nanoTime() - start);
+        }
         LOGGER.debug("Xacml decision {}", decision);
         //
         // Calculate statistics
@@ -94,6 +231,76 @@ public class DecisionProvider {
         return decision;
     }
 
+    private DecisionResponse makeDecision(XacmlApplicationServiceProvider application, DecisionRequest request,
+            Map<String, String[]> queryParams) {
+        //
+        // Identical requests already being evaluated share that evaluation, unless this
+        // one is traced, as its trace would then be empty
+        //
+        var coalescer = DecisionCoalescer.getCurrent();
+        Pair<DecisionResponse, Response> decision = null;
+        var event = new FetchDecisionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        startTrace();
+        DecisionPhaseTimer.start();
+        try {
+            if (coalescer == null || traced) {
+                decision = application.makeDecision(request, queryParams);
+            } else {
+                long generation = XacmlPdpApplicationManager.getCurrent().getPolicyGeneration(application);
+                decision = coalescer.decide(application, generation, request, queryParams);
+            }
+        } finally {
+            recordTimings(application, decision == null ? null : decision.getValue());
+            recordDecision(event, application, request.getAction(), start,
+                decision == null ? null : decision.getValue());
+        }
+        var capture = XacmlPdpCaptureLog.getCurrent();
+        if (capture != null) {
+            capture.recordDecision(application.applicationName(), request, queryParams, decision.getKey(), start,
+                System.nanoTime() - start);
+        }
+        //
+        // Calculate statistics
+        //
+        this.calculateStatistic(decision.getValue(), application.applicationName());
+        //
+        // Return the decision
+        //
+        return decision.getKey();
+    }
+
+    private DecisionResponse makeBatchDecision(XacmlApplicationServiceProvider application, DecisionRequest request,
+            Map<String, String[]> queryParams) {
+        try {
+            return makeDecision(application, request, queryParams);
+        } catch (RuntimeException e) {
+            LOGGER.error("Batch decision failed for {}", application.applicationName(), e);
+            XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
+            return errorResponse(e.getMessage());
+        }
+    }
+
+    private DecisionResponse errorResponse(Throwable error) {
+        Throwable cause = (error instanceof CompletionException ? error.getCause() : error);
+        if (cause instanceof DecisionException decisionException) {
+            //
+            // A rejected decision carries its status, so that the client can tell load shedding apart
+            //
+            return errorResponse(decisionException.getErrorResponse().getResponseCode().getStatusCode() + " "
+                    + decisionException.getMessage());
+        }
+        return errorResponse(cause.getMessage());
+    }
+
+    private DecisionResponse errorResponse(String message) {
+        var response = new DecisionResponse();
+        response.setStatus("error");
+        response.setMessage(message);
+        return response;
+    }
+
     private XacmlApplicationServiceProvider findApplication(DecisionRequest request) {
         XacmlApplicationServiceProvider application = XacmlPdpApplicationManager.getCurrent().findApplication(request);
         if (application != null) {
@@ -112,27 +319,142 @@ public class DecisionProvider {
                 "Native PDP application cannot be found");
     }
 
+    /**
+     * Stops the phase timer started on the current thread and records its timings, along
+     * with the policies that applied to the decision. A follower of a coalesced decision
+     * evaluated nothing, thus it only records the outcome and the policies.
+     */
+    private void recordTimings(XacmlApplicationServiceProvider application, Response xacmlResponse) {
+        long[] phases = DecisionPhaseTimer.stop();
+        timings.addDecision(application.applicationName(), getOutcome(xacmlResponse), phases);
+
+        var executor = XacmlPdpDecisionExecutor.getCurrent();
+        if (executor != null) {
+            executor.recordContention(application.applicationName(), phases);
+        }
+
+        var policyStats = XacmlPdpPolicyStatisticsManager.getCurrent();
+        if (policyStats != null) {
+            policyStats.record(xacmlResponse, phases == null ? 0 : phases[DecisionPhaseTimer.Phase.DECIDE.ordinal()]);
+        }
+    }
+
+    /**
+     * Starts tracing the decisions made on the current thread, if they are to be traced.
+     */
+    private void startTrace() {
+        if (traced) {
+            DecisionTraceEngine.start();
+        }
+    }
+
+    /**
+     * Records a decision in the flight recorder, the latency statistics, the audit log
+     * and, if it is traced, its trace.
+     */
+    private void recordDecision(FetchDecisionEvent event, XacmlApplicationServiceProvider application, String action,
+            long start, Response xacmlResponse) {
+        var elapsedNanos = System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestId = requestId;
+            event.application = application.applicationName();
+            event.action = action;
+            event.policyCount = countPolicies(xacmlResponse);
+            event.outcome = XacmlDecisionEvent.getOutcome(xacmlResponse);
+            event.commit();
+        }
+
+        if (traced) {
+            recordTrace(application, action, elapsedNanos, xacmlResponse);
+        }
+
+        DecisionTimings.observeDecision(application.applicationName(), getOutcome(xacmlResponse), elapsedNanos);
+
+        var audit = XacmlPdpAuditLog.getCurrent();
+        if (audit != null) {
+            audit.record(requestId, application.applicationName(), action, xacmlResponse, elapsedNanos);
+        }
+    }
+
+    private void recordTrace(XacmlApplicationServiceProvider application, String action, long elapsedNanos,
+            Response xacmlResponse) {
+        var events = DecisionTraceEngine.stop();
+        var buffer = XacmlPdpTraceBuffer.getCurrent();
+        if (buffer == null || events == null) {
+            return;
+        }
+        var trace = new DecisionTrace();
+        trace.setRequestId(requestId);
+        trace.setApplication(application.applicationName());
+        trace.setAction(action);
+        trace.setStartTime(Instant.now().minusNanos(elapsedNanos).toString());
+        trace.setElapsedMs((double) elapsedNanos / TimeUnit.MILLISECONDS.toNanos(1));
+        trace.setOutcome(getOutcome(xacmlResponse));
+        trace.setEvents(events.stream().map(event -> {
+            var traceEvent = new DecisionTraceEvent();
+            traceEvent.setOffsetMicros(event.offsetMicros());
+            traceEvent.setSource(event.source());
+            traceEvent.setMessage(event.message());
+            traceEvent.setValue(event.value());
+            return traceEvent;
+        }).toList());
+        buffer.add(trace);
+    }
+
+    private static int countPolicies(Response xacmlResponse) {
+        if (xacmlResponse == null) {
+            return 0;
+        }
+        var count = 0;
+        for (Result result : xacmlResponse.getResults()) {
+            count += (result.getPolicyIdentifiers() == null ? 0 : result.getPolicyIdentifiers().size());
+        }
+        return count;
+    }
+
+    private static String getOutcome(Response xacmlResponse) {
+        if (xacmlResponse == null || xacmlResponse.getResults().isEmpty()) {
+            return DecisionTimings.ERROR_OUTCOME;
+        }
+        var decision = xacmlResponse.getResults().iterator().next().getDecision();
+        if (decision == null) {
+            return DecisionTimings.ERROR_OUTCOME;
+        }
+        switch (decision) {
+            case PERMIT:
+                return XacmlPdpStatisticsManager.PERMIT_OPERATION;
+            case DENY:
+                return XacmlPdpStatisticsManager.DENY_OPERATION;
+            case NOTAPPLICABLE:
+                return XacmlPdpStatisticsManager.NOT_APPLICABLE_OPERATION;
+            default:
+                return XacmlPdpStatisticsManager.INDETERMINANT_OPERATION;
+        }
+    }
+
     private void calculateStatistic(Response xacmlResponse, String appName) {
         if (xacmlResponse == null) {
             XacmlPdpStatisticsManager.getCurrent().updateErrorCount();
             return;
         }
+        var stats = XacmlPdpStatisticsManager.getCurrent().getApplicationStatistics(appName);
         for (Result result : xacmlResponse.getResults()) {
             switch (result.getDecision()) {
                 case PERMIT:
-                    XacmlPdpStatisticsManager.getCurrent().updatePermitDecisionsCount(appName);
+                    stats.updatePermitDecisionsCount();
                     break;
 
                 case DENY:
-                    XacmlPdpStatisticsManager.getCurrent().updateDenyDecisionsCount(appName);
+                    stats.updateDenyDecisionsCount();
                     break;
 
                 case INDETERMINATE, INDETERMINATE_DENY, INDETERMINATE_DENYPERMIT, INDETERMINATE_PERMIT:
-                    XacmlPdpStatisticsManager.getCurrent().updateIndeterminantDecisionsCount(appName);
+                    stats.updateIndeterminantDecisionsCount();
                     break;
 
                 case NOTAPPLICABLE:
-                    XacmlPdpStatisticsManager.getCurrent().updateNotApplicableDecisionsCount(appName);
+                    stats.updateNotApplicableDecisionsCount();
                     break;
 
                 default:
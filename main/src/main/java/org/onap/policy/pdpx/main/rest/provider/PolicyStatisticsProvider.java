@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.provider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpPolicyStatisticsManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpPolicyStatisticsManager.PolicySnapshot;
+import org.onap.policy.pdpx.main.rest.model.PolicyStatistics;
+import org.onap.policy.pdpx.main.rest.model.PolicyStatisticsReport;
+import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
+
+/**
+ * Class to fetch the per-policy statistics of xacmlPdp service.
+ */
+public class PolicyStatisticsProvider {
+
+    /**
+     * Returns the current statistics of every deployed policy, and of any other policy
+     * that applied to a decision.
+     *
+     * @return Report containing the per-policy statistics of xacmlPdp service
+     */
+    public PolicyStatisticsReport fetchCurrentStatistics() {
+        final var report = new PolicyStatisticsReport();
+        report.setCode(XacmlPdpActivator.getCurrent().isAlive() ? 200 : 500);
+
+        var stats = XacmlPdpPolicyStatisticsManager.getCurrent();
+        //
+        // Most used first, then the deployed policies that were never used
+        //
+        List<PolicyStatistics> policies = new ArrayList<>();
+        Map<ToscaConceptIdentifier, PolicyStatistics> byId = new HashMap<>();
+        for (var snapshot : stats.getPolicies()) {
+            var policy = toPolicyStatistics(snapshot);
+            policies.add(policy);
+            byId.put(snapshot.policyId(), policy);
+        }
+
+        Map<ToscaPolicy, XacmlApplicationServiceProvider> deployed =
+                        new HashMap<>(XacmlPdpApplicationManager.getCurrent().getToscaPolicies());
+        long unused = 0;
+        for (var entry : deployed.entrySet()) {
+            var policy = byId.get(entry.getKey().getIdentifier());
+            if (policy == null) {
+                ++unused;
+                policy = toPolicyStatistics(stats.getPolicy(entry.getKey().getIdentifier()));
+                policies.add(policy);
+            }
+            policy.setDeployed(true);
+            policy.setApplication(entry.getValue().applicationName());
+            policy.setEstimatedBytes(entry.getValue().estimateFootprint(entry.getKey()));
+        }
+
+        report.setTotalPoliciesCount(deployed.size());
+        report.setUnusedPoliciesCount(unused);
+        report.setPolicies(policies);
+        return report;
+    }
+
+    private static PolicyStatistics toPolicyStatistics(PolicySnapshot snapshot) {
+        var policy = new PolicyStatistics();
+        policy.setPolicyId(snapshot.policyId().getName());
+        policy.setPolicyVersion(snapshot.policyId().getVersion());
+        policy.setHitCount(snapshot.hitCount());
+        if (snapshot.lastHitMillis() > 0) {
+            policy.setLastHitTime(Instant.ofEpochMilli(snapshot.lastHitMillis()).toString());
+        }
+        policy.setSampledEvaluationsCount(snapshot.sampledCount());
+        policy.setAverageEvaluationMs(snapshot.getAverageEvaluationNanos() / TimeUnit.MILLISECONDS.toNanos(1));
+        return policy;
+    }
+}
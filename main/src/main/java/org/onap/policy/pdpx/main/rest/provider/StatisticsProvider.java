@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019, 2021-2022 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +21,7 @@
 
 package org.onap.policy.pdpx.main.rest.provider;
 
+import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 import org.onap.policy.pdpx.main.rest.model.StatisticsReport;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
@@ -37,21 +39,29 @@ public class StatisticsProvider {
      */
     public StatisticsReport fetchCurrentStatistics() {
         final var report = new StatisticsReport();
-        report.setCode(XacmlPdpActivator.getCurrent().isAlive() ? 200 : 500);
+        var activator = XacmlPdpActivator.getCurrent();
+        report.setCode(activator.isAlive() ? 200 : 500);
+        report.setStartup(activator.getStartupSummary());
 
-        var stats = XacmlPdpStatisticsManager.getCurrent();
-        report.setTotalPolicyTypesCount(stats.getTotalPolicyTypesCount());
-        report.setTotalPoliciesCount(stats.getTotalPoliciesCount());
-        report.setTotalErrorCount(stats.getErrorCount());
-        report.setPermitDecisionsCount(stats.getPermitDecisionsCount());
-        report.setDenyDecisionsCount(stats.getDenyDecisionsCount());
-        report.setDeploySuccessCount(stats.getDeploySuccessCount());
-        report.setDeployFailureCount(stats.getDeployFailureCount());
-        report.setUndeploySuccessCount(stats.getUndeploySuccessCount());
-        report.setUndeployFailureCount(stats.getUndeployFailureCount());
-        report.setIndeterminantDecisionsCount(stats.getIndeterminantDecisionsCount());
-        report.setNotApplicableDecisionsCount(stats.getNotApplicableDecisionsCount());
-        report.setApplicationMetrics(stats.getApplicationMetrics());
+        var stats = XacmlPdpStatisticsManager.getCurrent().snapshot();
+        report.setTotalPolicyTypesCount(stats.totalPolicyTypesCount());
+        report.setTotalPoliciesCount(stats.totalPoliciesCount());
+        report.setTotalErrorCount(stats.errorCount());
+        report.setPermitDecisionsCount(stats.permitDecisionsCount());
+        report.setDenyDecisionsCount(stats.denyDecisionsCount());
+        report.setDeploySuccessCount(stats.deploySuccessCount());
+        report.setDeployFailureCount(stats.deployFailureCount());
+        report.setUndeploySuccessCount(stats.undeploySuccessCount());
+        report.setUndeployFailureCount(stats.undeployFailureCount());
+        report.setIndeterminantDecisionsCount(stats.indeterminantDecisionsCount());
+        report.setNotApplicableDecisionsCount(stats.notApplicableDecisionsCount());
+        report.setApplicationMetrics(stats.applicationMetrics());
+        report.setLastDeployment(stats.lastDeployment());
+
+        var appManager = XacmlPdpApplicationManager.getCurrent();
+        if (appManager != null) {
+            report.setMemoryFootprint(appManager.getFootprints());
+        }
         return report;
     }
 }
@@ -0,0 +1,65 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.serialization;
+
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import org.onap.policy.pdpx.main.rest.DecisionTimings;
+
+/**
+ * Times the deserialization of request bodies and the serialization of response
+ * bodies. The timings are kept in a request property, where the decision endpoints
+ * pick them up.
+ */
+@Provider
+public class DecisionTimingInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+        var start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            var timings = new DecisionTimings();
+            timings.setDeserializationNanos(System.nanoTime() - start);
+            context.setProperty(DecisionTimings.PROPERTY, timings);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (!(context.getProperty(DecisionTimings.PROPERTY) instanceof DecisionTimings timings)) {
+            context.proceed();
+            return;
+        }
+
+        var start = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            timings.observeSerialization(System.nanoTime() - start);
+        }
+    }
+}
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +23,7 @@
 package org.onap.policy.pdpx.main.startstop;
 
 import java.util.List;
+import java.util.Locale;
 import lombok.Getter;
 import lombok.Setter;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
@@ -34,6 +36,7 @@ import org.onap.policy.common.message.bus.event.client.BidirectionalTopicClientE
 import org.onap.policy.common.message.bus.event.client.TopicSinkClient;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.common.parameters.rest.RestClientParameters;
+import org.onap.policy.common.utils.services.ServiceManager.RunnableWithEx;
 import org.onap.policy.common.utils.services.ServiceManagerContainer;
 import org.onap.policy.models.pdp.concepts.PdpStatus;
 import org.onap.policy.models.pdp.enums.PdpMessageType;
@@ -43,10 +46,18 @@ import org.onap.policy.pdpx.main.comm.XacmlPdpHearbeatPublisher;
 import org.onap.policy.pdpx.main.comm.listeners.XacmlPdpStateChangeListener;
 import org.onap.policy.pdpx.main.comm.listeners.XacmlPdpUpdateListener;
 import org.onap.policy.pdpx.main.parameters.XacmlPdpParameterGroup;
+import org.onap.policy.pdpx.main.rest.StartupTimings;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpAuditLog;
+import org.onap.policy.pdpx.main.rest.XacmlPdpCaptureLog;
+import org.onap.policy.pdpx.main.rest.XacmlPdpDecisionExecutor;
+import org.onap.policy.pdpx.main.rest.XacmlPdpPolicyStatisticsManager;
 import org.onap.policy.pdpx.main.rest.XacmlPdpRestController;
 import org.onap.policy.pdpx.main.rest.XacmlPdpServiceFilter;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpTraceBuffer;
+import org.onap.policy.pdpx.main.rest.model.StartupSummary;
+import org.onap.policy.pdpx.main.rest.provider.DecisionCoalescer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +91,17 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
      */
     private final MessageTypeDispatcher msgDispatcher;
 
+    /**
+     * Time spent in each phase of the startup.
+     */
+    private final StartupTimings startupTimings = new StartupTimings();
+
+    /**
+     * Summary of the startup, once it is complete.
+     */
+    @Getter
+    private volatile StartupSummary startupSummary = null;
+
     /**
      * Instantiate the activator for policy xacml pdp as a complete service.
      *
@@ -90,24 +112,45 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
 
         RestClientParameters apiClientParams = xacmlPdpParameterGroup.getPolicyApiParameters();
 
+        var phaseStart = System.nanoTime();
         TopicEndpointManager.getManager().addTopics(xacmlPdpParameterGroup.getTopicParameterGroup());
+        startupTimings.record("topic_registration", phaseStart);
 
         final XacmlPdpHearbeatPublisher heartbeat;
         final TopicSinkClient sinkClient;
         final XacmlState state;
+        final XacmlPdpDecisionExecutor decisionExecutor;
+        final XacmlPdpAuditLog auditLog;
+        final XacmlPdpCaptureLog captureLog;
 
         XacmlPdpRestServer restServer;
         try {
             HttpClient apiClient = HttpClientFactoryInstance.getClientFactory().build(apiClientParams);
 
+            phaseStart = System.nanoTime();
             var appmgr = new XacmlPdpApplicationManager(xacmlPdpParameterGroup.getApplicationParameters(),
-                apiClient);
+                apiClient, startupTimings);
             XacmlPdpApplicationManager.setCurrent(appmgr);
+            startupTimings.record("application_manager", phaseStart);
 
             var stats = new XacmlPdpStatisticsManager();
             XacmlPdpStatisticsManager.setCurrent(stats);
             stats.setTotalPolicyTypesCount(appmgr.getPolicyTypeCount());
             stats.setTotalPolicyCount(appmgr.getPolicyCount());
+            XacmlPdpPolicyStatisticsManager.setCurrent(
+                new XacmlPdpPolicyStatisticsManager(xacmlPdpParameterGroup.getDecisionParameters()));
+            XacmlPdpTraceBuffer.setCurrent(new XacmlPdpTraceBuffer(xacmlPdpParameterGroup.getDecisionParameters()));
+            auditLog = (xacmlPdpParameterGroup.getAuditParameters().isEnabled()
+                ? new XacmlPdpAuditLog(xacmlPdpParameterGroup.getAuditParameters()) : null);
+            XacmlPdpAuditLog.setCurrent(auditLog);
+            captureLog = (xacmlPdpParameterGroup.getCaptureParameters().isEnabled()
+                ? new XacmlPdpCaptureLog(xacmlPdpParameterGroup.getCaptureParameters()) : null);
+            XacmlPdpCaptureLog.setCurrent(captureLog);
+
+            decisionExecutor = new XacmlPdpDecisionExecutor(xacmlPdpParameterGroup.getDecisionParameters());
+            XacmlPdpDecisionExecutor.setCurrent(decisionExecutor);
+            DecisionCoalescer.setCurrent(
+                xacmlPdpParameterGroup.getDecisionParameters().isCoalesceDecisions() ? new DecisionCoalescer() : null);
 
             state = new XacmlState(appmgr, xacmlPdpParameterGroup.getPdpGroup(), xacmlPdpParameterGroup.getPdpType());
 
@@ -131,8 +174,10 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
 
             XacmlPdpServiceFilter.disableApi();
 
+            phaseStart = System.nanoTime();
             restServer = new XacmlPdpRestServer(xacmlPdpParameterGroup.getRestServerParameters(),
                 List.of(XacmlPdpServiceFilter.class), List.of(XacmlPdpRestController.class));
+            startupTimings.record("rest_server_setup", phaseStart);
 
         } catch (RuntimeException | HttpClientConfigException | BidirectionalTopicClientException e) {
             throw new PolicyXacmlPdpRuntimeException(e.getMessage(), e);
@@ -149,6 +194,13 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
             this::registerMsgDispatcher,
             this::unregisterMsgDispatcher);
 
+        // started before the topics, so that the policies of the first update are captured
+        if (captureLog != null) {
+            addAction("Decision Capture",
+                captureLog::start,
+                captureLog::shutdown);
+        }
+
         addAction("topics",
             TopicEndpointManager.getManager()::start,
             TopicEndpointManager.getManager()::shutdown);
@@ -161,10 +213,47 @@ public class XacmlPdpActivator extends ServiceManagerContainer {
             heartbeat::start,
             heartbeat::terminate);
 
+        if (auditLog != null) {
+            addAction("Decision Audit Log",
+                auditLog::start,
+                auditLog::shutdown);
+        }
+
+        addAction("Decision Executor",
+            () -> { },
+            decisionExecutor::shutdown);
+
         // @formatter:on
         addAction("REST Server",
             restServer::start,
             restServer::stop);
+
+        // last, so that every other action has been timed
+        super.addAction("Startup Timings",
+            this::completeStartup,
+            () -> { });
+    }
+
+    /**
+     * Adds an action whose start is recorded as a phase of the startup.
+     */
+    @Override
+    protected void addAction(String stepName, RunnableWithEx starter, RunnableWithEx stopper) {
+        var phase = stepName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+        super.addAction(stepName, () -> {
+            var start = System.nanoTime();
+            starter.run();
+            startupTimings.record(phase, start);
+        }, stopper);
+    }
+
+    /*
+     * Method used to summarize and log the startup, once everything has started.
+     */
+    private void completeStartup() {
+        startupSummary = startupTimings.complete();
+        LOGGER.info("XACML PDP started in {} ms ({} ms since the JVM started) {}", startupSummary.getTotalMs(),
+            startupSummary.getJvmUptimeMs(), startupSummary);
     }
 
     /*
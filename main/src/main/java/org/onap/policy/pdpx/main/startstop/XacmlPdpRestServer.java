@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +32,7 @@ import org.onap.policy.common.endpoints.http.server.YamlMessageBodyHandler;
 import org.onap.policy.common.endpoints.properties.PolicyEndPointProperties;
 import org.onap.policy.common.gson.GsonMessageBodyHandler;
 import org.onap.policy.common.parameters.rest.RestServerParameters;
+import org.onap.policy.pdpx.main.rest.serialization.DecisionTimingInterceptor;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlJsonExceptionMapper;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlJsonMessageBodyHandler;
 import org.onap.policy.pdpx.main.rest.serialization.XacmlXmlExceptionMapper;
@@ -67,7 +69,8 @@ public class XacmlPdpRestServer extends RestServer {
                 String.join(",", GsonMessageBodyHandler.class.getName(), YamlMessageBodyHandler.class.getName(),
                                 JsonExceptionMapper.class.getName(), YamlExceptionMapper.class.getName(),
                                 XacmlJsonMessageBodyHandler.class.getName(), XacmlJsonExceptionMapper.class.getName(),
-                                XacmlXmlMessageBodyHandler.class.getName(), XacmlXmlExceptionMapper.class.getName()));
+                                XacmlXmlMessageBodyHandler.class.getName(), XacmlXmlExceptionMapper.class.getName(),
+                                DecisionTimingInterceptor.class.getName()));
         return props;
     }
 }
@@ -44,6 +44,7 @@ import org.onap.policy.models.pdp.enums.PdpHealthStatus;
 import org.onap.policy.models.pdp.enums.PdpResponseStatus;
 import org.onap.policy.models.pdp.enums.PdpState;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
 
 @ExtendWith(MockitoExtension.class)
@@ -90,7 +91,8 @@ class XacmlStateTest {
 
     @Test
     void testGenHeartbeat() {
-        // not healthy
+        // not healthy, and no statistics
+        XacmlPdpStatisticsManager.setCurrent(null);
         PdpStatus status = state.genHeartbeat();
         assertEquals(PdpHealthStatus.NOT_HEALTHY, status.getHealthy());
         assertEquals(pdpName, status.getName());
@@ -98,6 +100,7 @@ class XacmlStateTest {
         assertEquals(PDP_TYPE, status.getPdpType());
         assertEquals(PdpState.PASSIVE, status.getState());
         assertTrue(status.getPolicies().isEmpty());
+        assertNull(status.getStatistics());
 
         // healthy
         when(act.isAlive()).thenReturn(true);
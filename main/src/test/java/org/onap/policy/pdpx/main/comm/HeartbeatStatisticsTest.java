@@ -0,0 +1,119 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.comm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.pdp.concepts.PdpStatus;
+import org.onap.policy.pdpx.main.rest.DecisionTimings;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+
+class HeartbeatStatisticsTest {
+    private static final String APP = "heartbeat-test-app";
+    private static final String PDP = "my-pdp";
+    private static final String GROUP = "my-group";
+    private static final String SUBGROUP = "my-subgroup";
+
+    private XacmlPdpStatisticsManager stats;
+    private PdpStatus status;
+
+    /**
+     * Sets up the statistics manager and the heartbeat.
+     */
+    @BeforeEach
+    void setUp() {
+        stats = new XacmlPdpStatisticsManager();
+        XacmlPdpStatisticsManager.setCurrent(stats);
+
+        status = new PdpStatus();
+        status.setName(PDP);
+        status.setPdpGroup(GROUP);
+        status.setPdpSubgroup(SUBGROUP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        XacmlPdpStatisticsManager.setCurrent(null);
+    }
+
+    @Test
+    void testGenerate_NoStatistics() {
+        XacmlPdpStatisticsManager.setCurrent(null);
+        assertThat(new HeartbeatStatistics().generate(status)).isNull();
+    }
+
+    @Test
+    void testGenerate() {
+        var heartbeat = new HeartbeatStatistics();
+
+        // 99 fast decisions and a slow one
+        for (var count = 0; count < 99; ++count) {
+            DecisionTimings.observeDecision(APP, "permit", TimeUnit.MICROSECONDS.toNanos(500));
+            stats.updatePermitDecisionsCount(APP);
+        }
+        DecisionTimings.observeDecision(APP, "indeterminant", TimeUnit.MILLISECONDS.toNanos(50));
+        stats.updateIndeterminantDecisionsCount(APP);
+        stats.updateDeploySuccessCount();
+
+        var pdpStats = heartbeat.generate(status);
+        assertThat(pdpStats.getPdpInstanceId()).isEqualTo(PDP);
+        assertThat(pdpStats.getPdpGroupName()).isEqualTo(GROUP);
+        assertThat(pdpStats.getPdpSubGroupName()).isEqualTo(SUBGROUP);
+        assertThat(pdpStats.getTimeStamp()).isNotNull();
+        assertThat(pdpStats.getPolicyDeployCount()).isEqualTo(1);
+        assertThat(pdpStats.getPolicyDeploySuccessCount()).isEqualTo(1);
+        assertThat(pdpStats.getPolicyExecutedCount()).isEqualTo(100);
+        assertThat(pdpStats.getPolicyExecutedSuccessCount()).isEqualTo(99);
+        assertThat(pdpStats.getPolicyExecutedFailCount()).isEqualTo(1);
+
+        assertThat(pdpStats.getEngineStats()).hasSize(1);
+        var engine = pdpStats.getEngineStats().get(0);
+        assertThat(engine.getEngineId()).isEqualTo(APP);
+        assertThat(engine.getEventCount()).isEqualTo(100);
+        assertThat(engine.getAverageExecutionTime()).isEqualTo(0.995, offset(0.001));
+        // 500 microseconds are in the bucket bounded by 0.5 milliseconds
+        assertThat(engine.getLastExecutionTime()).isEqualTo(1);
+        assertThat(engine.getEngineTimeStamp()).isGreaterThanOrEqualTo(engine.getLastStart());
+
+        // the next heartbeat only covers the decisions made since
+        DecisionTimings.observeDecision(APP, "deny", TimeUnit.MILLISECONDS.toNanos(3));
+        stats.updateDenyDecisionsCount(APP);
+
+        pdpStats = heartbeat.generate(status);
+        assertThat(pdpStats.getPolicyExecutedCount()).isEqualTo(101);
+        var next = pdpStats.getEngineStats().get(0);
+        assertThat(next.getEventCount()).isEqualTo(1);
+        assertThat(next.getAverageExecutionTime()).isEqualTo(3.0, offset(0.001));
+        // 3 milliseconds are in the bucket bounded by 5
+        assertThat(next.getLastExecutionTime()).isEqualTo(5);
+        assertThat(next.getLastStart()).isEqualTo(engine.getEngineTimeStamp());
+
+        // nothing happened since
+        next = heartbeat.generate(status).getEngineStats().get(0);
+        assertThat(next.getEventCount()).isZero();
+        assertThat(next.getAverageExecutionTime()).isZero();
+    }
+}
@@ -21,6 +21,7 @@
 
 package org.onap.policy.pdpx.main.comm;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.startsWith;
@@ -44,6 +45,7 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
 import org.onap.policy.pdpx.main.XacmlState;
+import org.onap.policy.pdpx.main.rest.DeploymentTimings;
 import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
 import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
 
@@ -179,6 +181,17 @@ class XacmlPdpUpdatePublisherTest {
 
         assertEquals(NEW_COUNT, statmgr.getTotalPoliciesCount());
 
+        // one undeploy is not deployed and the other is also being deployed
+        var summary = statmgr.getLastDeployment();
+        assertThat(summary.getDeployedCount()).isEqualTo(2);
+        assertThat(summary.getUndeployedCount()).isEqualTo(2);
+        assertThat(summary.getFailedCount()).isEqualTo(2);
+        assertThat(summary.getApplicationPolicies()).containsEntry(DeploymentTimings.UNKNOWN, 4);
+        assertThat(summary.getStageTimesMs()).containsOnlyKeys("convert", "write_policy", "delete_policy",
+                        "store_properties", "create_engine");
+        assertThat(summary.getWallTimeMs()).isPositive();
+        assertThat(statmgr.snapshot().lastDeployment()).isSameAs(summary);
+
         verify(client).send(status);
     }
 
@@ -236,6 +249,12 @@ class XacmlPdpUpdatePublisherTest {
         verify(appmgr, never()).removeUndeployedPolicy(deployed5);
 
         verify(state).updateInternalState(any(), startsWith("Failed to load policy"));
+        assertThat(statmgr.getLastDeployment().getDeployedCount()).isEqualTo(1);
+        assertThat(statmgr.getLastDeployment().getFailedCount()).isEqualTo(4);
+
+        // the failures are labeled with the application their type belongs to
+        verify(appmgr).findApplication(failPolicy1);
+        verify(appmgr).findApplication(failPolicy2);
         verify(client).send(status);
     }
 
@@ -0,0 +1,70 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TestXacmlDecisionParameters {
+
+    @Test
+    void testValidate() {
+        var params = new XacmlDecisionParameters();
+        params.setApplicationConcurrencyLimits(Map.of("guard", 0, "naming", 4));
+        params.setApplicationThreads(Map.of("guard", 8));
+        assertThat(params.validate().isValid()).isTrue();
+        assertThat(params.getConcurrencyLimit("guard")).isZero();
+        assertThat(params.getConcurrencyLimit("naming")).isEqualTo(4);
+    }
+
+    @Test
+    void testValidate_BadApplicationThreads() {
+        var params = new XacmlDecisionParameters();
+        params.setApplicationThreads(Map.of("guard", 0));
+        var result = params.validate();
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getResult()).contains("applicationThreads").contains("guard");
+
+        Map<String, Integer> threads = new HashMap<>();
+        threads.put("guard", null);
+        params.setApplicationThreads(threads);
+        result = params.validate();
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getResult()).contains("applicationThreads").contains("is null");
+    }
+
+    @Test
+    void testValidate_BadConcurrencyLimit() {
+        var params = new XacmlDecisionParameters();
+        params.setApplicationConcurrencyLimits(Map.of("guard", -1));
+        var result = params.validate();
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getResult()).contains("applicationConcurrencyLimits").contains("guard");
+
+        Map<String, Integer> limits = new HashMap<>();
+        limits.put("guard", null);
+        params.setApplicationConcurrencyLimits(limits);
+        assertThat(params.validate().isValid()).isFalse();
+    }
+}
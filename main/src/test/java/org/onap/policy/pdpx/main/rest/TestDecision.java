@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2019, 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,7 +39,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -58,7 +63,9 @@ import org.onap.policy.models.errors.concepts.ErrorResponse;
 import org.onap.policy.pdpx.main.PolicyXacmlPdpException;
 import org.onap.policy.pdpx.main.parameters.CommonTestData;
 import org.onap.policy.pdpx.main.parameters.XacmlApplicationParameters;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
 import org.onap.policy.pdpx.main.parameters.XacmlPdpParameterGroup;
+import org.onap.policy.pdpx.main.rest.model.DecisionTrace;
 import org.onap.policy.pdpx.main.startstop.Main;
 import org.onap.policy.pdpx.main.startstop.XacmlPdpActivator;
 import org.slf4j.Logger;
@@ -182,6 +189,106 @@ class TestDecision {
         assertThat(response.getStatus()).isEqualTo("Permit");
     }
 
+    @Test
+    void testDecision_Trace() {
+        LOGGER.info("Running test testDecision_Trace");
+
+        DecisionRequest request = new DecisionRequest();
+        request.setOnapName("DROOLS");
+        request.setAction("guard");
+        request.setResource(Map.of("actor", "foo", "recipe", "bar", "target", "somevnf", "clname", "phoneyloop"));
+
+        String requestId = UUID.randomUUID().toString();
+        assertEquals(404, client.get("/traces/" + requestId).getStatus());
+
+        Entity<DecisionRequest> entityRequest = Entity.entity(request, MediaType.APPLICATION_JSON);
+        Response response = client.post("/decision", entityRequest,
+            Map.of("X-ONAP-RequestID", requestId, XacmlPdpTraceBuffer.REQUEST_HEADER, "true"));
+        assertEquals(200, response.getStatus());
+
+        response = client.get("/traces/" + requestId);
+        assertEquals(200, response.getStatus());
+        DecisionTrace[] traces = HttpClient.getBody(response, DecisionTrace[].class);
+        assertThat(traces).hasSize(1);
+        assertThat(traces[0].getRequestId()).isEqualTo(requestId);
+        assertThat(traces[0].getApplication()).isEqualTo("guard");
+        assertThat(traces[0].getOutcome()).isEqualTo(XacmlPdpStatisticsManager.PERMIT_OPERATION);
+        assertThat(traces[0].getEvents()).isNotNull();
+    }
+
+    @Test
+    void testDecisions_Batch() {
+        LOGGER.info("Running test testDecisions_Batch");
+
+        DecisionRequest guardRequest = new DecisionRequest();
+        guardRequest.setOnapName("DROOLS");
+        guardRequest.setAction("guard");
+        guardRequest.setResource(Map.of("actor", "foo", "recipe", "bar", "target", "somevnf",
+            "clname", "phoneyloop"));
+
+        DecisionRequest unsupportedRequest = new DecisionRequest(guardRequest);
+        unsupportedRequest.setAction("foo");
+
+        DecisionResponse[] responses = getDecisions(List.of(guardRequest, unsupportedRequest, guardRequest));
+        LOGGER.info("Responses {}", (Object) responses);
+        assertThat(responses).hasSize(3);
+        assertThat(responses[0].getStatus()).isEqualTo("Permit");
+        assertThat(responses[1].getStatus()).isEqualTo("error");
+        assertThat(responses[1].getMessage()).isEqualToIgnoringCase("No application for action foo");
+        assertThat(responses[2].getStatus()).isEqualTo("Permit");
+    }
+
+    @Test
+    void testDecisions_BatchSaturated() throws Exception {
+        LOGGER.info("Running test testDecisions_BatchSaturated");
+
+        DecisionRequest guardRequest = new DecisionRequest();
+        guardRequest.setOnapName("DROOLS");
+        guardRequest.setAction("guard");
+        guardRequest.setResource(Map.of("actor", "foo", "recipe", "bar", "target", "somevnf",
+            "clname", "phoneyloop"));
+
+        var params = new XacmlDecisionParameters();
+        params.setUseVirtualThreads(false);
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(0);
+        var saturated = new XacmlPdpDecisionExecutor(params);
+        var original = XacmlPdpDecisionExecutor.getCurrent();
+        var release = new CountDownLatch(1);
+        XacmlPdpDecisionExecutor.setCurrent(saturated);
+        try {
+            //
+            // Hold guard's only permit, thus the batch exceeds its limit and queue
+            //
+            var blocker = saturated.submit("guard", () -> await(release));
+
+            DecisionResponse[] responses = getDecisions(List.of(guardRequest, guardRequest));
+            LOGGER.info("Responses {}", (Object) responses);
+            assertThat(responses).hasSize(2).allSatisfy(response -> {
+                assertThat(response.getStatus()).isEqualTo("error");
+                assertThat(response.getMessage()).startsWith("429");
+            });
+
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+            assertThat(getDecisions(List.of(guardRequest))[0].getStatus()).isEqualTo("Permit");
+        } finally {
+            release.countDown();
+            XacmlPdpDecisionExecutor.setCurrent(original);
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void testDecisions_Empty() {
+        LOGGER.info("Running test testDecisions_Empty");
+
+        Entity<List<DecisionRequest>> entityRequest = Entity.entity(List.of(), MediaType.APPLICATION_JSON);
+        Response response = client.post("/decisions", entityRequest, Collections.emptyMap());
+
+        assertEquals(400, response.getStatus());
+    }
+
     @Test
     void testDecision_Native() throws IOException {
         LOGGER.info("Running test testDecision_Native");
@@ -207,6 +314,15 @@ class TestDecision {
         assertThat(responseFromJsonRequest).contains("\"Response\":").contains("NotApplicable");
     }
 
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private static Main startXacmlPdpService(File params) throws PolicyXacmlPdpException {
         final String[] xacmlPdpConfigParameters = {"-c", params.getAbsolutePath()};
         return new Main(xacmlPdpConfigParameters);
@@ -225,6 +341,15 @@ class TestDecision {
         return HttpClient.getBody(response, DecisionResponse.class);
     }
 
+    private DecisionResponse[] getDecisions(List<DecisionRequest> requests) {
+        Entity<List<DecisionRequest>> entityRequest = Entity.entity(requests, MediaType.APPLICATION_JSON);
+        Response response = client.post("/decisions", entityRequest, Collections.emptyMap());
+
+        assertEquals(200, response.getStatus());
+
+        return HttpClient.getBody(response, DecisionResponse[].class);
+    }
+
     private String getNativeDecision(String request, String mediaType) {
         Entity<String> entityRequest = Entity.entity(request, mediaType);
         Response response = client.post("/xacml", entityRequest, Map.of("Accept", mediaType));
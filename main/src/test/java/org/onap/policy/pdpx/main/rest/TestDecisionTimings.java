@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
+
+class TestDecisionTimings {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testNoDecision() {
+        var timings = new DecisionTimings();
+        assertThat(timings.getApplication()).isEqualTo(DecisionTimings.UNKNOWN_APPLICATION);
+        assertThat(timings.getOutcome()).isEqualTo(DecisionTimings.ERROR_OUTCOME);
+        assertThat(timings.isServerTimingRequested()).isFalse();
+
+        timings.observeDeserialization();
+        timings.observeSerialization(MS);
+        assertThat(timings.toServerTiming()).isEqualTo("deserialization;dur=0.000, convert_request;dur=0.000, "
+                        + "lock_wait;dur=0.000, decide;dur=0.000, pip_wait;dur=0.000, pip;dur=0.000, "
+                        + "convert_response;dur=0.000");
+    }
+
+    @Test
+    void testAddDecision() {
+        var timings = new DecisionTimings();
+        timings.setDeserializationNanos(MS);
+        timings.addDecision("guard", "permit", makePhases(2, 3, 1, 0));
+
+        assertThat(timings.getApplication()).isEqualTo("guard");
+        assertThat(timings.getOutcome()).isEqualTo("permit");
+        assertThat(timings.getPhaseNanos(Phase.DECIDE)).isEqualTo(3 * MS);
+        assertThat(timings.toServerTiming()).isEqualTo("deserialization;dur=1.000, convert_request;dur=2.000, "
+                        + "lock_wait;dur=0.000, decide;dur=3.000, pip_wait;dur=0.000, pip;dur=1.000, "
+                        + "convert_response;dur=0.000");
+        timings.observeDeserialization();
+    }
+
+    @Test
+    void testGetLatencies() {
+        var app = "latencies-test-app";
+        assertThat(DecisionTimings.getLatencies(app).counts()).containsOnly(0L);
+
+        DecisionTimings.observeDecision(app, "permit", MS);
+        DecisionTimings.observeDecision(app, "deny", 3 * MS);
+        DecisionTimings.observeDecision(app, "deny", 10 * TimeUnit.SECONDS.toNanos(1));
+        // the other phases are not latencies
+        new DecisionTimings().addDecision(app, "permit", makePhases(2, 3, 1, 0));
+
+        var latencies = DecisionTimings.getLatencies(app);
+        var counts = latencies.counts();
+        assertThat(counts).hasSize(16);
+        assertThat(counts[4]).isEqualTo(1);
+        assertThat(counts[6]).isEqualTo(1);
+        assertThat(counts[15]).isEqualTo(1);
+        assertThat(counts).containsOnly(0L, 1L);
+        assertThat(latencies.nanos()).isBetween(10_004 * MS - 1000, 10_004 * MS + 1000);
+
+        assertThat(DecisionTimings.getUpperBound(4)).isEqualTo(0.001);
+        assertThat(DecisionTimings.getUpperBound(15)).isEqualTo(2.5);
+    }
+
+    @Test
+    void testAddDecision_Batch() {
+        var timings = new DecisionTimings();
+        timings.addDecision("guard", "permit", makePhases(1, 1, 0, 1));
+        timings.addDecision("guard", "deny", makePhases(1, 1, 0, 1));
+        timings.addDecision("monitoring", "permit", null);
+
+        assertThat(timings.getApplication()).isEqualTo(DecisionTimings.MIXED);
+        assertThat(timings.getOutcome()).isEqualTo(DecisionTimings.MIXED);
+        assertThat(timings.getPhaseNanos(Phase.CONVERT_REQUEST)).isEqualTo(2 * MS);
+        assertThat(timings.getPhaseNanos(Phase.PIP)).isZero();
+    }
+
+    private static long[] makePhases(long convertRequest, long decide, long pip, long convertResponse) {
+        var phases = new long[Phase.values().length];
+        phases[Phase.CONVERT_REQUEST.ordinal()] = convertRequest * MS;
+        phases[Phase.DECIDE.ordinal()] = decide * MS;
+        phases[Phase.PIP.ordinal()] = pip * MS;
+        phases[Phase.CONVERT_RESPONSE.ordinal()] = convertResponse * MS;
+        return phases;
+    }
+}
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TestStartupTimings {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testNothingRecorded() {
+        var summary = new StartupTimings().toSummary();
+        assertThat(summary.getStartTime()).isNotBlank();
+        assertThat(summary.getTotalMs()).isNotNegative();
+        assertThat(summary.getJvmUptimeMs()).isPositive();
+        assertThat(summary.getPhaseTimesMs()).isEmpty();
+        assertThat(summary.getApplicationTimesMs()).isEmpty();
+    }
+
+    @Test
+    void testRecord() {
+        var timings = new StartupTimings();
+        timings.record("topics", System.nanoTime() - 5 * MS);
+        timings.record("application_manager", System.nanoTime() - 2 * MS);
+        timings.record("topics", System.nanoTime() - 5 * MS);
+
+        // phases are kept in order, and accumulate
+        var summary = timings.toSummary();
+        assertThat(summary.getPhaseTimesMs().keySet()).containsExactly("topics", "application_manager");
+        assertThat(summary.getPhaseTimesMs().get("topics")).isGreaterThanOrEqualTo(10.0);
+        assertThat(summary.getPhaseTimesMs().get("application_manager")).isGreaterThanOrEqualTo(2.0);
+    }
+
+    @Test
+    void testRecordApplication() {
+        var timings = new StartupTimings();
+        timings.recordApplication("monitoring", StartupTimings.DISCOVERY_PHASE, MS);
+        timings.recordApplication("monitoring", StartupTimings.INITIALIZE_PHASE, 4 * MS);
+        timings.recordApplication("monitoring", StartupTimings.CREATE_ENGINE_PHASE, 3 * MS);
+        timings.recordApplication("guard", StartupTimings.INITIALIZE_PHASE, 2 * MS);
+
+        var summary = timings.complete();
+        assertThat(summary.getApplicationTimesMs().keySet()).containsExactly("guard", "monitoring");
+        assertThat(summary.getApplicationTimesMs().get("monitoring")).containsExactly(
+            entry(StartupTimings.DISCOVERY_PHASE, 1.0), entry(StartupTimings.INITIALIZE_PHASE, 4.0),
+            entry(StartupTimings.CREATE_ENGINE_PHASE, 3.0));
+        assertThat(summary.getApplicationTimesMs().get("guard"))
+            .containsExactly(entry(StartupTimings.INITIALIZE_PHASE, 2.0));
+        assertThat(summary.toString()).contains("applicationTimesMs={guard={initialize=2.0}");
+    }
+}
@@ -0,0 +1,189 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.decisions.concepts.DecisionException;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+
+class TestXacmlPdpAdmissionController {
+    private static final String APP = "admission-test-app";
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private XacmlDecisionParameters params;
+    private AtomicInteger started;
+
+    @BeforeEach
+    void setUp() {
+        params = new XacmlDecisionParameters();
+        params.setMaxConcurrentDecisions(2);
+        params.setMaxQueuedDecisions(1);
+        params.setTargetLatencyMs(100);
+        params.setRetryAfterSec(3);
+        started = new AtomicInteger();
+    }
+
+    @Test
+    void testAdmit_Unlimited() {
+        params.setMaxConcurrentDecisions(0);
+        var admission = new XacmlPdpAdmissionController(params);
+
+        for (var count = 0; count < 100; ++count) {
+            admission.admit(APP).acquire(0, 0, started::incrementAndGet);
+        }
+        assertThat(started.get()).isEqualTo(100);
+        assertThat(admission.getLimit(APP)).isZero();
+    }
+
+    @Test
+    void testAdmit_Rejected() {
+        var admission = new XacmlPdpAdmissionController(params);
+        assertThat(admission.getRetryAfterSec()).isEqualTo(3);
+        assertThat(admission.getLimit(APP)).isEqualTo(2);
+
+        var permit1 = admission.admit(APP);
+        permit1.acquire(0, 0, started::incrementAndGet);
+        var permit2 = admission.admit(APP);
+        permit2.acquire(0, 0, started::incrementAndGet);
+        assertThat(started.get()).isEqualTo(2);
+
+        // the third one waits, without blocking, the fourth one is rejected
+        var permit3 = admission.admit(APP);
+        permit3.acquire(0, 0, started::incrementAndGet);
+        assertThat(started.get()).isEqualTo(2);
+        assertThatThrownBy(() -> admission.admit(APP)).isInstanceOf(DecisionException.class)
+            .satisfies(exc -> assertThat(((DecisionException) exc).getErrorResponse().getResponseCode())
+                .isEqualTo(Response.Status.TOO_MANY_REQUESTS));
+
+        // the waiting decision is started once a running one is done
+        permit1.release(FAST);
+        assertThat(started.get()).isEqualTo(3);
+
+        // nothing is waiting any more, thus there is room for one more
+        var permit4 = admission.admit(APP);
+        permit4.cancel();
+        permit2.release(FAST);
+        permit3.release(FAST);
+    }
+
+    @Test
+    void testPriority() {
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(3);
+        var admission = new XacmlPdpAdmissionController(params);
+
+        var running = admission.admit(APP);
+        running.acquire(0, 0, started::incrementAndGet);
+
+        // the guard decisions take the next permits, ahead of the earlier one
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        var configure = admission.admit(APP);
+        configure.acquire(0, 1, () -> order.add("configure"));
+        var guard1 = admission.admit(APP);
+        guard1.acquire(10, 2, () -> order.add("guard1"));
+        var guard2 = admission.admit(APP);
+        guard2.acquire(10, 3, () -> order.add("guard2"));
+        assertThat(order).isEmpty();
+
+        running.release(FAST);
+        guard1.release(FAST);
+        guard2.release(FAST);
+        configure.release(FAST);
+        assertThat(order).containsExactly("guard1", "guard2", "configure");
+    }
+
+    @Test
+    void testCancel() {
+        params.setMaxConcurrentDecisions(1);
+        var admission = new XacmlPdpAdmissionController(params);
+
+        var running = admission.admit(APP);
+        running.acquire(0, 0, started::incrementAndGet);
+        var waiting = admission.admit(APP);
+        waiting.acquire(0, 0, started::incrementAndGet);
+
+        // a cancelled decision is never started, and frees its place in the queue
+        waiting.cancel();
+        var next = admission.admit(APP);
+        next.acquire(0, 0, started::incrementAndGet);
+        assertThat(started.get()).isEqualTo(1);
+
+        // cancelling a running decision starts the next one
+        running.cancel();
+        assertThat(started.get()).isEqualTo(2);
+
+        // releasing or cancelling it again has no effect
+        running.release(FAST);
+        running.cancel();
+        next.release(FAST);
+        admission.admit(APP).acquire(0, 0, started::incrementAndGet);
+        assertThat(started.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testAdmit_ApplicationLimit() {
+        params.setApplicationConcurrencyLimits(Map.of(APP, 0));
+        var admission = new XacmlPdpAdmissionController(params);
+
+        // the override disables admission control for the application
+        for (var count = 0; count < 10; ++count) {
+            admission.admit(APP).acquire(0, 0, started::incrementAndGet);
+        }
+        assertThat(started.get()).isEqualTo(10);
+        assertThat(admission.getLimit("other-app")).isEqualTo(2);
+    }
+
+    @Test
+    void testAdaptiveLimits() {
+        params.setMaxConcurrentDecisions(10);
+        params.setAdaptiveLimits(true);
+        var admission = new XacmlPdpAdmissionController(params);
+
+        // slow decisions lower the limit, but never below one
+        for (var count = 0; count < 50; ++count) {
+            var permit = admission.admit(APP);
+            permit.acquire(0, 0, started::incrementAndGet);
+            permit.release(SLOW);
+        }
+        assertThat(admission.getLimit(APP)).isEqualTo(1);
+
+        // fast decisions raise it back, but never above the configured limit
+        for (var count = 0; count < 200; ++count) {
+            var permit = admission.admit(APP);
+            permit.acquire(0, 0, started::incrementAndGet);
+            permit.release(FAST);
+        }
+        assertThat(admission.getLimit(APP)).isEqualTo(10);
+        assertThat(started.get()).isEqualTo(250);
+    }
+}
@@ -0,0 +1,205 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.att.research.xacml.api.Decision;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.std.StdIdReference;
+import com.att.research.xacml.std.StdMutableResponse;
+import com.att.research.xacml.std.StdMutableResult;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.pdpx.main.parameters.XacmlAuditParameters;
+
+class TestXacmlPdpAuditLog {
+    private static final String APP = "guard";
+    private static final long LATENCY = TimeUnit.MICROSECONDS.toNanos(1500);
+
+    @TempDir
+    Path dir;
+
+    private XacmlAuditParameters params;
+    private Path file;
+    private XacmlPdpAuditLog audit;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("audit/decision-audit.log");
+        params = new XacmlAuditParameters();
+        params.setEnabled(true);
+        params.setFile(file.toString());
+        params.setBufferSize(4);
+        params.setFlushIntervalMs(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (audit != null) {
+            audit.shutdown();
+        }
+    }
+
+    @Test
+    void testRecord() throws Exception {
+        audit = new XacmlPdpAuditLog(params);
+        audit.start();
+
+        var result = new StdMutableResult(Decision.PERMIT);
+        result.addPolicyIdentifier(new StdIdReference(new IdentifierImpl("policy1"), null));
+        result.addPolicyIdentifier(new StdIdReference(new IdentifierImpl("policy|2"), null));
+        audit.record("request1", APP, "guard", new StdMutableResponse(result), LATENCY);
+        audit.record("request2", APP, null, null, LATENCY);
+
+        audit.shutdown();
+        assertThat(audit.getBacklog()).isZero();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).endsWith("|request1|guard|guard|Permit|1500|policy1,policy_2");
+        assertThat(lines.get(1)).endsWith("|request2|guard||error|1500|");
+    }
+
+    @Test
+    void testRecord_Applications() throws Exception {
+        params.setApplications(Set.of("other"));
+        audit = new XacmlPdpAuditLog(params);
+        audit.start();
+
+        audit.record("request1", APP, "guard", null, LATENCY);
+        audit.record("request2", "other", "other", null, LATENCY);
+        audit.shutdown();
+
+        assertThat(Files.readAllLines(file)).hasSize(1).allMatch(line -> line.contains("|request2|"));
+    }
+
+    @Test
+    void testRecord_NotStarted() {
+        audit = new XacmlPdpAuditLog(params);
+        audit.record("request1", APP, "guard", null, LATENCY);
+        assertThat(audit.getBacklog()).isZero();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testRecord_Drop() throws Exception {
+        var stalled = new CountDownLatch(1);
+        audit = new XacmlPdpAuditLog(params) {
+            @Override
+            protected Writer makeWriter(Path path) throws IOException {
+                return new StalledWriter(super.makeWriter(path), stalled);
+            }
+        };
+        audit.start();
+
+        // the writer takes the first record, then stalls
+        audit.record("request0", APP, "guard", null, LATENCY);
+        for (var count = 0; count < 100 && audit.getBacklog() > 0; ++count) {
+            Thread.sleep(10);
+        }
+        assertThat(audit.getBacklog()).isZero();
+
+        // the buffer holds four records, the others are dropped
+        for (var count = 1; count < 10; ++count) {
+            audit.record("request" + count, APP, "guard", null, LATENCY);
+        }
+        assertThat(audit.getBacklog()).isEqualTo(4);
+
+        stalled.countDown();
+        audit.shutdown();
+        assertThat(Files.readAllLines(file)).hasSize(5);
+    }
+
+    @Test
+    void testRecord_Block() throws Exception {
+        params.setBlockWhenFull(true);
+        audit = new XacmlPdpAuditLog(params);
+        audit.start();
+
+        var producers = new CompletableFuture<?>[4];
+        for (var index = 0; index < producers.length; ++index) {
+            producers[index] = CompletableFuture.runAsync(() -> {
+                for (var count = 0; count < 100; ++count) {
+                    audit.record("request", APP, "guard", null, LATENCY);
+                }
+            });
+        }
+        CompletableFuture.allOf(producers).get(10, TimeUnit.SECONDS);
+        audit.shutdown();
+
+        // nothing was dropped
+        assertThat(Files.readAllLines(file)).hasSize(400);
+    }
+
+    @Test
+    void testRotate() throws Exception {
+        params.setMaxFileSizeKb(1);
+        params.setMaxFiles(2);
+        params.setBlockWhenFull(true);
+        audit = new XacmlPdpAuditLog(params);
+        audit.start();
+
+        for (var count = 0; count < 100; ++count) {
+            audit.record("request" + count, APP, "guard", null, LATENCY);
+        }
+        audit.shutdown();
+
+        assertThat(audit.getRotatedFile(1)).exists();
+        assertThat(audit.getRotatedFile(2)).exists();
+        assertThat(audit.getRotatedFile(3)).doesNotExist();
+        assertThat(Files.size(audit.getRotatedFile(1))).isGreaterThanOrEqualTo(1024);
+    }
+
+    /**
+     * Writer that waits for a latch before writing anything.
+     */
+    private static class StalledWriter extends FilterWriter {
+        private final CountDownLatch latch;
+
+        StalledWriter(Writer writer, CountDownLatch latch) {
+            super(writer);
+            this.latch = latch;
+        }
+
+        @Override
+        public Writer append(CharSequence csq) throws IOException {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.append(csq);
+        }
+    }
+}
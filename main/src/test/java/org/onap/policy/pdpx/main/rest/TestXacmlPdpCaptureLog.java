@@ -0,0 +1,259 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdpx.main.parameters.XacmlCaptureParameters;
+import org.onap.policy.pdpx.main.rest.model.CaptureRecord;
+
+class TestXacmlPdpCaptureLog {
+    private static final String APP = "monitoring";
+    private static final long LATENCY = TimeUnit.MICROSECONDS.toNanos(1500);
+
+    @TempDir
+    Path dir;
+
+    private XacmlCaptureParameters params;
+    private Path file;
+    private XacmlPdpCaptureLog capture;
+    private DecisionRequest request;
+    private DecisionResponse response;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("capture/decision-capture.bin");
+        params = new XacmlCaptureParameters();
+        params.setEnabled(true);
+        params.setFile(file.toString());
+        params.setBufferSize(4);
+
+        request = new DecisionRequest();
+        request.setOnapName("DCAE");
+        request.setAction("configure");
+        response = new DecisionResponse();
+        response.setStatus("Permit");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (capture != null) {
+            capture.shutdown();
+        }
+    }
+
+    @Test
+    void testRecord() throws Exception {
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        var policy = new ToscaPolicy();
+        policy.setName("policy1");
+        policy.setVersion("1.0.0");
+        capture.recordPolicies(List.of(policy));
+        capture.recordDecision(APP, request, Map.of("abbrev", new String[] {"true"}), response, System.nanoTime(),
+                        LATENCY);
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), TimeUnit.HOURS.toNanos(1));
+        capture.shutdown();
+
+        var records = read();
+        assertThat(records).hasSize(3);
+
+        assertThat(records.get(0).getKind()).isEqualTo(CaptureRecord.Kind.POLICIES);
+        assertThat(records.get(0).getApplication()).isNull();
+        assertThat(records.get(0).getRequest()).contains("policy1");
+        assertThat(records.get(0).getResponse()).isNull();
+
+        var decision = records.get(1);
+        assertThat(decision.getKind()).isEqualTo(CaptureRecord.Kind.DECISION);
+        assertThat(decision.getApplication()).isEqualTo(APP);
+        assertThat(decision.isAbbreviated()).isTrue();
+        assertThat(decision.getLatencyMicros()).isEqualTo(1500);
+        assertThat(decision.getOffsetMicros()).isNotNegative();
+        assertThat(decision.getRequest()).contains("\"action\":\"configure\"");
+        assertThat(decision.getResponse()).contains("Permit");
+
+        assertThat(records.get(2).isAbbreviated()).isFalse();
+        assertThat(records.get(2).getLatencyMicros()).isEqualTo(TimeUnit.HOURS.toMicros(1));
+        assertThat(records.get(2).getOffsetMicros()).isGreaterThanOrEqualTo(decision.getOffsetMicros());
+    }
+
+    @Test
+    void testRecord_EncodedWhenCaptured() throws Exception {
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        // changes made after the decision was captured are not
+        request.setAction("guard");
+        response.setStatus("Deny");
+        capture.shutdown();
+
+        var records = read();
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getRequest()).contains("\"action\":\"configure\"");
+        assertThat(records.get(0).getResponse()).contains("Permit");
+    }
+
+    @Test
+    void testRecordPolicies_BufferFull() throws Exception {
+        params.setBufferSize(1);
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        for (var count = 0; count < 100; ++count) {
+            capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        }
+        // the policies do not wait for room in the buffer, yet they are captured
+        capture.recordPolicies(List.of());
+        capture.shutdown();
+
+        assertThat(read()).anyMatch(rec -> rec.getKind() == CaptureRecord.Kind.POLICIES);
+    }
+
+    @Test
+    void testRecord_Applications() throws Exception {
+        params.setApplications(Set.of("other"));
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        capture.recordDecision("other", request, null, response, System.nanoTime(), LATENCY);
+        capture.shutdown();
+
+        assertThat(read()).hasSize(1).allMatch(rec -> "other".equals(rec.getApplication()));
+    }
+
+    @Test
+    void testRecord_NotSampled() throws Exception {
+        params.setSampleRate(0);
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        capture.shutdown();
+
+        assertThat(read()).isEmpty();
+    }
+
+    @Test
+    void testRecord_NotStarted() {
+        capture = new XacmlPdpCaptureLog(params);
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        capture.recordPolicies(List.of());
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testRecord_Full() throws Exception {
+        params.setMaxFileSizeKb(1);
+        params.setBufferSize(32);
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+
+        //
+        // random requests do not compress, thus a few of them fill the file
+        //
+        var random = new Random(42);
+        for (var count = 0; count < 20; ++count) {
+            var bigRequest = new DecisionRequest();
+            bigRequest.setAction("configure");
+            bigRequest.setOnapInstance(random.ints(4096, 'a', 'z' + 1)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString());
+            capture.recordDecision(APP, bigRequest, null, response, System.nanoTime(), LATENCY);
+            Thread.sleep(5);
+        }
+        capture.shutdown();
+
+        assertThat(read()).hasSizeLessThan(20);
+    }
+
+    @Test
+    void testReader_NotCapture() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var stream = new GZIPOutputStream(bytes)) {
+            stream.write(new byte[16]);
+        }
+        var input = new ByteArrayInputStream(bytes.toByteArray());
+        assertThatThrownBy(() -> new DecisionCaptureReader(input)).isInstanceOf(IOException.class)
+            .hasMessage("not a decision capture");
+    }
+
+    @Test
+    void testReader_Truncated() throws Exception {
+        capture = new XacmlPdpCaptureLog(params);
+        capture.start();
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        capture.recordDecision(APP, request, null, response, System.nanoTime(), LATENCY);
+        capture.shutdown();
+
+        //
+        // cut the second record short, as if the PDP had been killed
+        //
+        var bytes = Files.readAllBytes(file);
+        var uncompressed = new ByteArrayOutputStream();
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            stream.transferTo(uncompressed);
+        }
+        var whole = uncompressed.toByteArray();
+        var truncated = new ByteArrayOutputStream();
+        try (var stream = new GZIPOutputStream(truncated)) {
+            stream.write(whole, 0, whole.length - 5);
+        }
+
+        try (var reader = new DecisionCaptureReader(new ByteArrayInputStream(truncated.toByteArray()))) {
+            assertThat(reader.next()).isNotNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private List<CaptureRecord> read() throws IOException {
+        List<CaptureRecord> records = new ArrayList<>();
+        try (var reader = new DecisionCaptureReader(Files.newInputStream(file))) {
+            assertThat(reader.getStartTime()).isNotNull();
+            for (var rec = reader.next(); rec != null; rec = reader.next()) {
+                records.add(rec);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,359 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.decisions.concepts.DecisionException;
+import org.onap.policy.pdp.xacml.application.common.DecisionPhaseTimer.Phase;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+
+class TestXacmlPdpDecisionExecutor {
+    private static final String APP = "executor-test-app";
+
+    private XacmlDecisionParameters params;
+    private XacmlPdpDecisionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        params = new XacmlDecisionParameters();
+        params.setUseVirtualThreads(false);
+        params.setMaxThreads(1);
+        executor = new XacmlPdpDecisionExecutor(params);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testSubmit() throws Exception {
+        assertThat(executor.submit(APP, () -> "hello").get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+        assertThat(executor.getQueueDepth(APP)).isZero();
+        assertThat(executor.getInFlight(APP)).isZero();
+    }
+
+    @Test
+    void testSubmit_QueueDepthAndInFlight() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var first = executor.submit(APP, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // only one thread, thus the second decision must wait
+        var second = executor.submit(APP, () -> true);
+        assertThat(executor.getInFlight(APP)).isEqualTo(1);
+        assertThat(executor.getQueueDepth(APP)).isEqualTo(1);
+        assertThat(executor.getQueueDepth("unknown-app")).isZero();
+        assertThat(executor.getInFlight("unknown-app")).isZero();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getQueueDepth(APP)).isZero();
+        assertThat(executor.getInFlight(APP)).isZero();
+    }
+
+    @Test
+    void testSubmit_Exception() {
+        var future = executor.submit(APP, () -> {
+            throw new IllegalStateException("expected exception");
+        });
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(executor.getInFlight(APP)).isZero();
+    }
+
+    @Test
+    void testSubmit_AfterShutdown() {
+        executor.shutdown();
+        var future = executor.submit(APP, () -> "hello");
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(DecisionException.class);
+        assertThat(executor.getQueueDepth(APP)).isZero();
+    }
+
+    @Test
+    void testSubmit_Rejected() throws Exception {
+        params.setMaxThreads(2);
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(0);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            assertThat(executor2.getConcurrencyLimit(APP)).isEqualTo(1);
+            assertThat(executor2.getRetryAfterSec()).isEqualTo(params.getRetryAfterSec());
+
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var first = executor2.submit(APP, () -> {
+                started.countDown();
+                return await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            var second = executor2.submit(APP, () -> true);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DecisionException.class);
+            assertThat(executor2.getQueueDepth(APP)).isZero();
+
+            // other applications are not affected
+            assertThat(executor2.submit("other-app", () -> true).get(5, TimeUnit.SECONDS)).isTrue();
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor2.submit(APP, () -> true).get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_WaitingHoldsNoThread() throws Exception {
+        params.setMaxThreads(2);
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(1);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var first = executor2.submit(APP, () -> {
+                started.countDown();
+                return await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // the second decision waits for the limit, leaving the other thread free
+            var second = executor2.submit(APP, () -> true);
+            assertThat(executor2.submit("other-app", () -> true).get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second).isNotDone();
+            assertThat(executor2.getQueueDepth(APP)).isEqualTo(1);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor2.getQueueDepth(APP)).isZero();
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testAdmit() throws Exception {
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(0);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            var admission = executor2.admit(APP, "guard");
+            assertThat(admission.priority()).isEqualTo(10);
+            assertThatThrownBy(() -> executor2.admit(APP, null)).isInstanceOf(DecisionException.class);
+
+            // a cancelled admission makes room for another one
+            admission.cancel();
+            assertThat(executor2.submit(executor2.admit(APP, null), () -> "hello").get(5, TimeUnit.SECONDS))
+                .isEqualTo("hello");
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_Priority() throws Exception {
+        assertThat(executor.getPriority("guard")).isEqualTo(10);
+        assertThat(executor.getPriority("configure")).isZero();
+        assertThat(executor.getPriority(null)).isZero();
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blocker = executor.submit(APP, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // both wait for the only thread, the guard decision must run first
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        var monitoring = executor.submit(APP, "configure", () -> order.add("configure"));
+        var guard = executor.submit(APP, "guard", () -> order.add("guard"));
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        monitoring.get(5, TimeUnit.SECONDS);
+        guard.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("guard", "configure");
+    }
+
+    @Test
+    void testSubmit_PriorityWithinLimit() throws Exception {
+        params.setMaxThreads(4);
+        params.setMaxConcurrentDecisions(1);
+        params.setMaxQueuedDecisions(2);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var blocker = executor2.submit(APP, () -> {
+                started.countDown();
+                return await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // threads are available, but both wait for the limit, the guard decision must run first
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            var monitoring = executor2.submit(APP, "configure", () -> order.add("configure"));
+            var guard = executor2.submit(APP, "guard", () -> order.add("guard"));
+
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+            monitoring.get(5, TimeUnit.SECONDS);
+            guard.get(5, TimeUnit.SECONDS);
+            assertThat(order).containsExactly("guard", "configure");
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_Bulkhead() throws Exception {
+        params.setApplicationThreads(Map.of(APP, 1));
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            assertThat(executor2.hasBulkhead(APP)).isTrue();
+            assertThat(executor2.hasBulkhead("other-app")).isFalse();
+
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var first = executor2.submit(APP, () -> {
+                started.countDown();
+                return await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // the application's own thread is busy, but other applications are not affected
+            var second = executor2.submit(APP, () -> true);
+            assertThat(executor2.submit("other-app", () -> true).get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second).isNotDone();
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testSaturation() throws Exception {
+        assertThat(executor.getCapacity(APP)).isEqualTo(1);
+        assertThat(executor.getSaturation(APP)).isZero();
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var first = executor.submit(APP, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // one running and one waiting for the only thread
+        var second = executor.submit(APP, () -> true);
+        assertThat(executor.getSaturation(APP)).isEqualTo(2.0);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getSaturation(APP)).isZero();
+
+        // decisions that mostly wait for their engine saturate the application too
+        assertThat(executor.submit(APP, () -> true).get(5, TimeUnit.SECONDS)).isTrue();
+        var phases = new long[Phase.values().length];
+        phases[Phase.LOCK_WAIT.ordinal()] = TimeUnit.SECONDS.toNanos(10);
+        executor.recordContention(APP, phases);
+        executor.recordContention(APP, null);
+        assertThat(executor.getSaturation(APP)).isEqualTo(1.0);
+
+        // reading it does not change it
+        assertThat(executor.getSaturation(APP)).isEqualTo(1.0);
+
+        // the contention lasts a window, and is gone once a window passed without any
+        var now = System.nanoTime();
+        var window = XacmlPdpDecisionExecutor.CONTENTION_WINDOW_NANOS;
+        assertThat(executor.getSaturation(APP, now + window)).isEqualTo(1.0);
+        assertThat(executor.getSaturation(APP, now + window)).isEqualTo(1.0);
+        assertThat(executor.getSaturation(APP, now + 2 * window)).isZero();
+    }
+
+    @Test
+    void testGetCapacity() {
+        params.setMaxConcurrentDecisions(5);
+        params.setApplicationConcurrencyLimits(Map.of(APP, 0));
+        params.setApplicationThreads(Map.of(APP, 3));
+        params.setUseVirtualThreads(true);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            assertThat(executor2.getCapacity(APP)).isEqualTo(3);
+            assertThat(executor2.getCapacity("other-app")).isEqualTo(5);
+
+            params.setMaxConcurrentDecisions(0);
+            assertThat(executor2.getCapacity("other-app")).isZero();
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        params.setUseVirtualThreads(true);
+        var executor2 = new XacmlPdpDecisionExecutor(params);
+        try {
+            // virtual threads are only used where the JVM supports them
+            assertThat(executor.isVirtualThreads()).isFalse();
+            assertThat(executor2.isVirtualThreads()).isEqualTo(Runtime.version().feature() >= 21);
+            assertThat(executor2.submit(APP, () -> "hello").get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+        } finally {
+            executor2.shutdown();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.att.research.xacml.api.Decision;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.std.IdentifierImpl;
+import com.att.research.xacml.std.StdIdReference;
+import com.att.research.xacml.std.StdMutableResponse;
+import com.att.research.xacml.std.StdMutableResult;
+import com.att.research.xacml.std.StdVersion;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+import org.onap.policy.pdpx.main.rest.XacmlPdpPolicyStatisticsManager.PolicySnapshot;
+
+class TestXacmlPdpPolicyStatisticsManager {
+    private static final ToscaConceptIdentifier POLICY1 = new ToscaConceptIdentifier("policy1", "1.0.0");
+    private static final ToscaConceptIdentifier POLICY2 = new ToscaConceptIdentifier("policy2", "1.0.0");
+    private static final ToscaConceptIdentifier POLICY2_V2 = new ToscaConceptIdentifier("policy2", "2.0.0");
+    private static final long DECIDE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private XacmlDecisionParameters params;
+    private XacmlPdpPolicyStatisticsManager stats;
+
+    @BeforeEach
+    void setUp() {
+        params = new XacmlDecisionParameters();
+        params.setPolicySampleRate(1);
+        stats = new XacmlPdpPolicyStatisticsManager(params);
+    }
+
+    @Test
+    void testRecord() throws ParseException {
+        stats.record(null, DECIDE_NANOS);
+        stats.record(makeResponse(), DECIDE_NANOS);
+        assertThat(stats.getPolicies()).isEmpty();
+
+        stats.record(makeResponse(POLICY1, POLICY2), DECIDE_NANOS);
+        stats.record(makeResponse(POLICY2), 0);
+
+        PolicySnapshot policy1 = stats.getPolicy(POLICY1);
+        assertThat(policy1.hitCount()).isEqualTo(1);
+        assertThat(policy1.lastHitMillis()).isPositive();
+        assertThat(policy1.sampledCount()).isEqualTo(1);
+        assertThat(policy1.getAverageEvaluationNanos()).isEqualTo(DECIDE_NANOS);
+
+        // decisions of unknown cost are counted, but not sampled
+        PolicySnapshot policy2 = stats.getPolicy(POLICY2);
+        assertThat(policy2.hitCount()).isEqualTo(2);
+        assertThat(policy2.sampledCount()).isEqualTo(1);
+
+        // most used first
+        assertThat(stats.getPolicies()).extracting(PolicySnapshot::policyId).containsExactly(POLICY2, POLICY1);
+    }
+
+    @Test
+    void testRecord_NotSampled() throws ParseException {
+        params.setPolicySampleRate(0);
+        stats = new XacmlPdpPolicyStatisticsManager(params);
+
+        stats.record(makeResponse(POLICY1), DECIDE_NANOS);
+        PolicySnapshot policy1 = stats.getPolicy(POLICY1);
+        assertThat(policy1.hitCount()).isEqualTo(1);
+        assertThat(policy1.sampledCount()).isZero();
+        assertThat(policy1.getAverageEvaluationNanos()).isZero();
+    }
+
+    @Test
+    void testRecord_Versions() throws ParseException {
+        stats.record(makeResponse(POLICY2, POLICY2_V2), DECIDE_NANOS);
+        stats.record(makeResponse(POLICY2_V2), DECIDE_NANOS);
+
+        assertThat(stats.getPolicy(POLICY2).hitCount()).isEqualTo(1);
+        assertThat(stats.getPolicy(POLICY2_V2).hitCount()).isEqualTo(2);
+
+        // references without a version
+        var result = new StdMutableResult(Decision.PERMIT);
+        result.addPolicyIdentifier(new StdIdReference(new IdentifierImpl("policy3"), null));
+        stats.record(new StdMutableResponse(result), DECIDE_NANOS);
+        assertThat(stats.getPolicy(new ToscaConceptIdentifier("policy3", "0.0.0")).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRemove() throws ParseException {
+        stats.record(makeResponse(POLICY1, POLICY2, POLICY2_V2), DECIDE_NANOS);
+        stats.remove(POLICY1);
+        stats.remove(POLICY2);
+
+        // the other version of an undeployed policy keeps its statistics
+        assertThat(stats.getPolicies()).extracting(PolicySnapshot::policyId).containsExactly(POLICY2_V2);
+        assertThat(stats.getPolicy(POLICY1).hitCount()).isZero();
+        assertThat(stats.getPolicy(POLICY2_V2).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCountUnusedPolicies() throws ParseException {
+        stats.record(makeResponse(POLICY1), DECIDE_NANOS);
+
+        assertThat(stats.countUnusedPolicies(List.of())).isZero();
+        assertThat(stats.countUnusedPolicies(List.of(makePolicy(POLICY1)))).isZero();
+        assertThat(stats.countUnusedPolicies(List.of(makePolicy(POLICY1), makePolicy(POLICY2)))).isEqualTo(1);
+    }
+
+    private static Response makeResponse(ToscaConceptIdentifier... policyIds) throws ParseException {
+        var result = new StdMutableResult(Decision.PERMIT);
+        for (var policyId : policyIds) {
+            result.addPolicyIdentifier(new StdIdReference(new IdentifierImpl(policyId.getName()),
+                            StdVersion.newInstance(policyId.getVersion())));
+        }
+        return new StdMutableResponse(result);
+    }
+
+    private static ToscaPolicy makePolicy(ToscaConceptIdentifier policyId) {
+        var policy = new ToscaPolicy();
+        policy.setName(policyId.getName());
+        policy.setVersion(policyId.getVersion());
+        return policy;
+    }
+}
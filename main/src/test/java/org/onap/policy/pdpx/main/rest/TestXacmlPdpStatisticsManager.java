@@ -0,0 +1,125 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestXacmlPdpStatisticsManager {
+    private static final String APP1 = "stats-test-app1";
+    private static final String APP2 = "stats-test-app2";
+
+    private XacmlPdpStatisticsManager stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new XacmlPdpStatisticsManager();
+    }
+
+    @Test
+    void testUpdates() {
+        stats.setTotalPolicyCount(3);
+        stats.setTotalPolicyTypesCount(2);
+        stats.updateErrorCount();
+        stats.updatePermitDecisionsCount(APP1);
+        stats.updatePermitDecisionsCount(APP1);
+        stats.updateDenyDecisionsCount(APP1);
+        stats.updateIndeterminantDecisionsCount(APP2);
+        stats.updateNotApplicableDecisionsCount(APP2);
+        stats.updateDeploySuccessCount();
+        stats.updateDeployFailureCount();
+        stats.updateUndeploySuccessCount();
+        stats.updateUndeployFailureCount();
+
+        assertThat(stats.getTotalPoliciesCount()).isEqualTo(3);
+        assertThat(stats.getTotalPolicyTypesCount()).isEqualTo(2);
+        assertThat(stats.getErrorCount()).isEqualTo(1);
+        assertThat(stats.getPermitDecisionsCount()).isEqualTo(2);
+        assertThat(stats.getDenyDecisionsCount()).isEqualTo(1);
+        assertThat(stats.getIndeterminantDecisionsCount()).isEqualTo(1);
+        assertThat(stats.getNotApplicableDecisionsCount()).isEqualTo(1);
+        assertThat(stats.getDeploySuccessCount()).isEqualTo(1);
+        assertThat(stats.getDeployFailureCount()).isEqualTo(1);
+        assertThat(stats.getUndeploySuccessCount()).isEqualTo(1);
+        assertThat(stats.getUndeployFailureCount()).isEqualTo(1);
+
+        var expected = Map.of(APP1, Map.of("permit_decisions_count", 2, "deny_decisions_count", 1),
+                        APP2, Map.of("indeterminant_decisions_count", 1, "not_applicable_decisions_count", 1));
+        assertThat(stats.getApplicationMetrics()).isEqualTo(expected);
+
+        var snapshot = stats.snapshot();
+        assertThat(snapshot.permitDecisionsCount()).isEqualTo(2);
+        assertThat(snapshot.notApplicableDecisionsCount()).isEqualTo(1);
+        assertThat(snapshot.errorCount()).isEqualTo(1);
+        assertThat(snapshot.applicationMetrics()).isEqualTo(expected);
+
+        stats.resetAllStatistics();
+        assertThat(stats.getTotalPoliciesCount()).isZero();
+        assertThat(stats.getErrorCount()).isZero();
+        assertThat(stats.getPermitDecisionsCount()).isZero();
+        assertThat(stats.getDeploySuccessCount()).isZero();
+        assertThat(stats.getApplicationMetrics()).isEmpty();
+    }
+
+    @Test
+    void testApplicationStatistics() {
+        var app = stats.getApplicationStatistics(APP1);
+        assertThat(stats.getApplicationStatistics(APP1)).isSameAs(app);
+
+        // an application without decisions does not appear in the metrics
+        assertThat(stats.getApplicationMetrics()).isEmpty();
+
+        app.updateDenyDecisionsCount();
+        assertThat(app.getDenyDecisionsCount()).isEqualTo(1);
+        assertThat(stats.getApplicationMetrics()).isEqualTo(Map.of(APP1, Map.of("deny_decisions_count", 1)));
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        final int nthreads = 8;
+        final int nupdates = 10_000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var thread = 0; thread < nthreads; ++thread) {
+            var appName = (thread % 2 == 0 ? APP1 : APP2);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (var count = 0; count < nupdates; ++count) {
+                    stats.updatePermitDecisionsCount(appName);
+                    stats.updateErrorCount();
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        var snapshot = stats.snapshot();
+        assertThat(snapshot.permitDecisionsCount()).isEqualTo((long) nthreads * nupdates);
+        assertThat(snapshot.errorCount()).isEqualTo((long) nthreads * nupdates);
+        assertThat(snapshot.applicationMetrics().get(APP1)).containsEntry("permit_decisions_count",
+                        nthreads / 2 * nupdates);
+    }
+}
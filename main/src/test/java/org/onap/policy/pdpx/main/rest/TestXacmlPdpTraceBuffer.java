@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+import org.onap.policy.pdpx.main.rest.model.DecisionTrace;
+
+class TestXacmlPdpTraceBuffer {
+    private static final String REQUEST1 = "request1";
+    private static final String REQUEST2 = "request2";
+
+    private XacmlDecisionParameters params;
+
+    @BeforeEach
+    void setUp() {
+        params = new XacmlDecisionParameters();
+        params.setTraceBufferSize(3);
+    }
+
+    @Test
+    void testShouldTrace() {
+        var buffer = new XacmlPdpTraceBuffer(params);
+        assertThat(buffer.shouldTrace(true)).isTrue();
+        assertThat(buffer.shouldTrace(false)).isFalse();
+
+        params.setTraceSampleRate(1);
+        assertThat(new XacmlPdpTraceBuffer(params).shouldTrace(false)).isTrue();
+
+        params.setTraceBufferSize(0);
+        buffer = new XacmlPdpTraceBuffer(params);
+        assertThat(buffer.shouldTrace(true)).isFalse();
+        buffer.add(makeTrace(REQUEST1, "app"));
+        assertThat(buffer.getTraces()).isEmpty();
+    }
+
+    @Test
+    void testGetTraces() {
+        var buffer = new XacmlPdpTraceBuffer(params);
+        assertThat(buffer.getTraces()).isEmpty();
+
+        buffer.add(makeTrace(REQUEST1, "app1"));
+        buffer.add(makeTrace(REQUEST2, "app2"));
+        buffer.add(makeTrace(REQUEST1, "app3"));
+
+        assertThat(buffer.getTraces()).extracting(DecisionTrace::getApplication)
+            .containsExactly("app3", "app2", "app1");
+        assertThat(buffer.getTraces(REQUEST1)).extracting(DecisionTrace::getApplication)
+            .containsExactly("app3", "app1");
+        assertThat(buffer.getTraces("unknown")).isEmpty();
+    }
+
+    @Test
+    void testAdd_Full() {
+        var buffer = new XacmlPdpTraceBuffer(params);
+        for (var count = 1; count <= 5; ++count) {
+            buffer.add(makeTrace(REQUEST1, "app" + count));
+        }
+
+        // the oldest traces were overwritten
+        assertThat(buffer.getTraces()).extracting(DecisionTrace::getApplication)
+            .containsExactly("app5", "app4", "app3");
+    }
+
+    private static DecisionTrace makeTrace(String requestId, String application) {
+        var trace = new DecisionTrace();
+        trace.setRequestId(requestId);
+        trace.setApplication(application);
+        return trace;
+    }
+}
@@ -43,7 +43,9 @@ import org.onap.policy.models.decisions.concepts.DecisionRequest;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.pdp.xacml.application.common.FootprintEstimator;
 import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
 import org.onap.policy.pdpx.main.parameters.CommonTestData;
 import org.onap.policy.pdpx.main.parameters.XacmlApplicationParameters;
 import org.onap.policy.xacml.pdp.application.nativ.NativePdpApplication;
@@ -139,11 +141,17 @@ class XacmlPdpApplicationManagerTest {
         final XacmlApplicationParameters xacmlApplicationParameters =
             testData.toObject(testData.getXacmlapplicationParametersMap(false,
                 appsDirectory.toString(), exclusions), XacmlApplicationParameters.class);
-        XacmlPdpApplicationManager manager = new XacmlPdpApplicationManager(xacmlApplicationParameters, null);
+        var startupTimings = new StartupTimings();
+        XacmlPdpApplicationManager manager =
+            new XacmlPdpApplicationManager(xacmlApplicationParameters, null, startupTimings);
         //
         // Test the basics from the startup
         //
         assertThat(manager).isNotNull();
+        var applicationTimes = startupTimings.toSummary().getApplicationTimesMs();
+        assertThat(applicationTimes).containsKey("optimization").doesNotContainKey("match");
+        assertThat(applicationTimes.get("optimization")).containsOnlyKeys(StartupTimings.DISCOVERY_PHASE,
+            StartupTimings.INITIALIZE_PHASE, StartupTimings.CREATE_ENGINE_PHASE);
         assertThat(manager.getPolicyCount()).isZero();
         assertThat(manager.getPolicyTypeCount()).isEqualTo(19);
         assertThat(manager.getToscaPolicies()).isEmpty();
@@ -178,13 +186,25 @@ class XacmlPdpApplicationManagerTest {
         // Try loading and unloading
         //
         final ToscaPolicy policyFinal = policy;
+        request.setAction("configure");
+        final XacmlApplicationServiceProvider monitoring = manager.findApplication(request);
+        assertThat(manager.findApplication(policyFinal)).isSameAs(monitoring);
+        assertThat(manager.getPolicyGeneration(monitoring)).isZero();
         assertThatCode(() -> {
             manager.removeUndeployedPolicy(policyFinal);
             assertThat(manager.getPolicyCount()).isZero();
+            assertThat(manager.getPolicyGeneration(monitoring)).isZero();
             manager.loadDeployedPolicy(policyFinal);
             assertThat(manager.getPolicyCount()).isEqualTo(1);
+            assertThat(manager.getPolicyGeneration(monitoring)).isEqualTo(1);
+            assertThat(monitoring.estimateFootprint(policyFinal)).isPositive();
+            assertThat(manager.getFootprints().get(monitoring.applicationName()))
+                .hasEntrySatisfying(FootprintEstimator.TOSCA_POLICIES, bytes -> assertThat(bytes).isPositive())
+                .hasEntrySatisfying(FootprintEstimator.XACML_POLICIES, bytes -> assertThat(bytes).isPositive());
             manager.removeUndeployedPolicy(policyFinal);
             assertThat(manager.getPolicyCount()).isZero();
+            assertThat(manager.getPolicyGeneration(monitoring)).isEqualTo(2);
+            assertThat(monitoring.estimateFootprint(policyFinal)).isZero();
         }).doesNotThrowAnyException();
         //
         // try loading something unsupported
@@ -193,6 +213,7 @@ class XacmlPdpApplicationManagerTest {
             ToscaPolicy unsupportedPolicy = new ToscaPolicy();
             unsupportedPolicy.setType("I.am.not.supported");
             unsupportedPolicy.setTypeVersion("5.5.5");
+            assertThat(manager.findApplication(unsupportedPolicy)).isNull();
             manager.loadDeployedPolicy(unsupportedPolicy);
         });
     }
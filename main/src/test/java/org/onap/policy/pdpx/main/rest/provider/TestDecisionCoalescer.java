@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.main.rest.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.att.research.xacml.api.Response;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+
+@ExtendWith(MockitoExtension.class)
+class TestDecisionCoalescer {
+    private static final Map<String, String[]> NO_PARAMS = Collections.emptyMap();
+
+    @Mock
+    private XacmlApplicationServiceProvider application;
+
+    @Mock
+    private Response xacmlResponse;
+
+    private DecisionCoalescer coalescer;
+    private DecisionRequest request;
+
+    /**
+     * Initializes the fields.
+     */
+    @BeforeEach
+    void setUp() {
+        when(application.applicationName()).thenReturn("coalesce-test");
+
+        coalescer = new DecisionCoalescer();
+
+        request = new DecisionRequest();
+        request.setOnapName("DCAE");
+        request.setAction("configure");
+        request.setResource(Map.of("policy-id", "onap.scaleout.tca"));
+    }
+
+    @Test
+    void testDecide() {
+        var response = makeResponse();
+        when(application.makeDecision(any(), any())).thenReturn(Pair.of(response, xacmlResponse));
+
+        var decision = coalescer.decide(application, 1, request, NO_PARAMS);
+        assertThat(decision.getKey()).isSameAs(response);
+        assertThat(decision.getValue()).isSameAs(xacmlResponse);
+        assertThat(coalescer.getInFlightCount()).isZero();
+
+        // nothing is cached, thus the next request is evaluated again
+        coalescer.decide(application, 1, request, NO_PARAMS);
+        verify(application, times(2)).makeDecision(any(), any());
+    }
+
+    @Test
+    void testDecide_Coalesced() throws Exception {
+        var response = makeResponse();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(application.makeDecision(any(), any())).thenAnswer(args -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Pair.of(response, xacmlResponse);
+        });
+
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.decide(application, 1, request, NO_PARAMS));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(coalescer.getInFlightCount()).isEqualTo(1);
+
+        var identical = new DecisionRequest(request);
+        var follower = CompletableFuture.supplyAsync(() -> coalescer.decide(application, 1, identical, NO_PARAMS));
+
+        // give the follower time to join the leader
+        Thread.sleep(200);
+        release.countDown();
+
+        var leaderDecision = leader.get(5, TimeUnit.SECONDS);
+        var followerDecision = follower.get(5, TimeUnit.SECONDS);
+
+        verify(application, times(1)).makeDecision(any(), any());
+        assertThat(leaderDecision.getKey()).isSameAs(response);
+        assertThat(followerDecision.getKey()).isNotSameAs(response).isEqualTo(response);
+        assertThat(followerDecision.getValue()).isSameAs(xacmlResponse);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testDecide_DifferentGeneration() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(application.makeDecision(any(), any())).thenAnswer(args -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Pair.of(makeResponse(), xacmlResponse);
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> coalescer.decide(application, 1, request, NO_PARAMS));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // policies changed, thus the in-flight decision must not be shared
+        var second = CompletableFuture.supplyAsync(() -> coalescer.decide(application, 2, request, NO_PARAMS));
+        Thread.sleep(200);
+        assertThat(coalescer.getInFlightCount()).isEqualTo(2);
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(application, times(2)).makeDecision(any(), any());
+    }
+
+    @Test
+    void testDecide_Exception() {
+        when(application.makeDecision(any(), any())).thenThrow(new IllegalStateException("expected exception"));
+
+        assertThatIllegalStateException().isThrownBy(() -> coalescer.decide(application, 1, request, NO_PARAMS));
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    private static DecisionResponse makeResponse() {
+        var response = new DecisionResponse();
+        response.setStatus("Permit");
+        response.setPolicies(Map.of("onap.scaleout.tca", Map.of("type", "onap.policies.monitoring.tcagen2")));
+        return response;
+    }
+}
@@ -0,0 +1,167 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.Getter;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationException;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdp.xacml.application.common.XacmlPolicyUtils;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+
+/**
+ * An application initialized in a temporary data path, with a generated corpus of
+ * policies deployed, and a workload of requests against them.
+ */
+public class ApplicationFixture implements AutoCloseable {
+    /**
+     * Number of distinct requests in the workload.
+     */
+    public static final int REQUEST_COUNT = 1024;
+
+    @Getter
+    private final BenchmarkApplication application;
+
+    @Getter
+    private final PolicyCorpusGenerator generator;
+
+    @Getter
+    private final XacmlApplicationServiceProvider provider;
+
+    @Getter
+    private final Path dataPath;
+
+    @Getter
+    private final List<ToscaPolicy> policies;
+
+    private final Object[] requests;
+
+    /**
+     * Constructs the object, with the default corpus, every request matching a policy.
+     *
+     * @param application application to be initialized
+     * @param policyCount number of policies to deploy
+     * @throws IOException if the data path cannot be created
+     * @throws XacmlApplicationException if the application cannot be initialized or
+     *         rejects a policy
+     */
+    public ApplicationFixture(BenchmarkApplication application, int policyCount)
+                    throws IOException, XacmlApplicationException {
+        this(application, policyCount, new CorpusParameters(), 1.0);
+    }
+
+    /**
+     * Constructs the object, initializing the application and deploying its policies.
+     *
+     * @param application application to be initialized
+     * @param policyCount number of policies to deploy
+     * @param params shape of the policies and requests
+     * @param hitRatio fraction of the requests that match a policy
+     * @throws IOException if the data path cannot be created
+     * @throws XacmlApplicationException if the application cannot be initialized or
+     *         rejects a policy
+     */
+    public ApplicationFixture(BenchmarkApplication application, int policyCount, CorpusParameters params,
+                    double hitRatio) throws IOException, XacmlApplicationException {
+        this.application = application;
+        this.generator = new PolicyCorpusGenerator(params);
+        this.dataPath = Files.createTempDirectory("xacml-" + application.getApplicationName());
+
+        prepareDataPath(application, generator, dataPath);
+
+        this.provider = application.create();
+        provider.initialize(dataPath, null);
+
+        this.policies = generator.generate(application.getPolicyTypes(), policyCount);
+        for (var policy : policies) {
+            provider.loadPolicy(policy);
+        }
+
+        this.requests = (policies.isEmpty() ? new Object[0]
+                        : application.requests(generator, policies, REQUEST_COUNT, hitRatio).toArray());
+    }
+
+    /**
+     * Makes a decision.
+     *
+     * @param sequence sequence number of the decision, used to pick the request
+     * @return the response
+     */
+    public Object decide(int sequence) {
+        return application.decide(provider, requests[Math.floorMod(sequence, requests.length)]);
+    }
+
+    /**
+     * Deletes the data path.
+     */
+    @Override
+    public void close() throws IOException {
+        deleteDataPath(dataPath);
+    }
+
+    /**
+     * Writes the files an application expects in its data path: its XACML properties
+     * and the policy types of its policies.
+     *
+     * @param application application whose data path is to be prepared
+     * @param generator generator of the application's policies
+     * @param dataPath data path of the application
+     * @throws IOException if a file cannot be written
+     */
+    static void prepareDataPath(BenchmarkApplication application, PolicyCorpusGenerator generator, Path dataPath)
+                    throws IOException {
+        write(dataPath.resolve(XacmlPolicyUtils.XACML_PROPERTY_FILE),
+                        ResourceUtils.getResourceAsString(application.getPropertiesResource()));
+        for (var entry : generator.generatePolicyTypes(application.getPolicyTypes()).entrySet()) {
+            write(dataPath.resolve(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Deletes a data path, along with everything in it.
+     *
+     * @param dataPath data path to be deleted
+     * @throws IOException if a file cannot be deleted
+     */
+    static void deleteDataPath(Path dataPath) throws IOException {
+        try (Stream<Path> paths = Files.walk(dataPath)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static void write(Path file, String contents) throws IOException {
+        if (contents == null) {
+            throw new IOException("missing contents of " + file);
+        }
+        Files.writeString(file, contents, StandardCharsets.UTF_8);
+    }
+}
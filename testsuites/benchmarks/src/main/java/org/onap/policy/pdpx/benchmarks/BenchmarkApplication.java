@@ -0,0 +1,133 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import com.att.research.xacml.api.Request;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.XacmlApplicationServiceProvider;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusPolicyType;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+import org.onap.policy.xacml.pdp.application.guard.GuardPdpApplication;
+import org.onap.policy.xacml.pdp.application.match.MatchPdpApplication;
+import org.onap.policy.xacml.pdp.application.monitoring.MonitoringPdpApplication;
+import org.onap.policy.xacml.pdp.application.naming.NamingPdpApplication;
+import org.onap.policy.xacml.pdp.application.nativ.NativePdpApplication;
+import org.onap.policy.xacml.pdp.application.optimization.OptimizationPdpApplication;
+
+/**
+ * Applications that can be benchmarked, along with the types of the policies deployed
+ * in each of them.
+ */
+public enum BenchmarkApplication {
+    //
+    // guard runs without its PIPs, thus without frequency limiters
+    //
+    GUARD("guard", GuardPdpApplication::new, CorpusPolicyType.GUARD_MIN_MAX, CorpusPolicyType.GUARD_BLACKLIST,
+                    CorpusPolicyType.GUARD_FILTER),
+    MATCH("match", MatchPdpApplication::new, CorpusPolicyType.MATCH),
+    MONITORING("monitoring", MonitoringPdpApplication::new, CorpusPolicyType.MONITORING),
+    NAMING("naming", NamingPdpApplication::new, CorpusPolicyType.NAMING),
+    NATIVE("native", NativePdpApplication::new, CorpusPolicyType.NATIVE) {
+        @Override
+        public List<Object> requests(PolicyCorpusGenerator generator, List<ToscaPolicy> policies, int count,
+                        double hitRatio) {
+            return new ArrayList<>(generator.generateXacmlRequests(policies, count, hitRatio));
+        }
+
+        @Override
+        public Object decide(XacmlApplicationServiceProvider application, Object request) {
+            return ((NativePdpApplication) application).makeNativeDecision((Request) request);
+        }
+    },
+    OPTIMIZATION("optimization", OptimizationPdpApplication::new, CorpusPolicyType.OPTIMIZATION_AFFINITY,
+                    CorpusPolicyType.OPTIMIZATION_DISTANCE, CorpusPolicyType.OPTIMIZATION_VIM_FIT);
+
+    private final String applicationName;
+    private final Supplier<XacmlApplicationServiceProvider> factory;
+    private final List<CorpusPolicyType> policyTypes;
+
+    BenchmarkApplication(String applicationName, Supplier<XacmlApplicationServiceProvider> factory,
+                    CorpusPolicyType... policyTypes) {
+        this.applicationName = applicationName;
+        this.factory = factory;
+        this.policyTypes = List.of(policyTypes);
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * Gets the types of the policies to deploy, which take turns.
+     *
+     * @return the policy types
+     */
+    public List<CorpusPolicyType> getPolicyTypes() {
+        return policyTypes;
+    }
+
+    /**
+     * Gets the resource holding the application's XACML properties.
+     *
+     * @return the properties resource
+     */
+    public String getPropertiesResource() {
+        return "apps/" + applicationName + "/xacml.properties";
+    }
+
+    /**
+     * Creates an instance of the application.
+     *
+     * @return a new, uninitialized, application
+     */
+    public XacmlApplicationServiceProvider create() {
+        return factory.get();
+    }
+
+    /**
+     * Generates requests against the application's policies.
+     *
+     * @param generator corpus generator
+     * @param policies policies deployed in the application
+     * @param count number of requests
+     * @param hitRatio fraction of the requests that match a policy
+     * @return the requests, ready to be passed to {@link #decide(XacmlApplicationServiceProvider, Object)}
+     */
+    public List<Object> requests(PolicyCorpusGenerator generator, List<ToscaPolicy> policies, int count,
+                    double hitRatio) {
+        return new ArrayList<>(generator.generateRequests(policies, count, hitRatio));
+    }
+
+    /**
+     * Makes a decision.
+     *
+     * @param application application, as returned by {@link #create()}
+     * @param request request, as returned by {@link #requests(PolicyCorpusGenerator, List, int, double)}
+     * @return the response
+     */
+    public Object decide(XacmlApplicationServiceProvider application, Object request) {
+        return application.makeDecision((DecisionRequest) request, null).getKey();
+    }
+}
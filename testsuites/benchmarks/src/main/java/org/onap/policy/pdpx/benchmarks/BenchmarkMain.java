@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. With arguments, this is the JMH command line. Without, the
+ * decision benchmarks are run with the GC profiler, once per thread count, from one
+ * thread up to the number of processors, doubling each time. The results of each run
+ * are written as JSON to "decision-&lt;threads&gt;t.json".
+ */
+public final class BenchmarkMain {
+    /**
+     * System property holding a comma-separated list of the thread counts to use,
+     * overriding the default ones.
+     */
+    public static final String THREADS_PROPERTY = "benchmark.threads";
+
+    private BenchmarkMain() {
+        super();
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line arguments
+     * @throws Exception if the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        for (var threads : getThreadCounts()) {
+            var options = new OptionsBuilder()
+                            .include(DecisionBenchmark.class.getSimpleName())
+                            .threads(threads)
+                            .addProfiler(GCProfiler.class)
+                            .resultFormat(ResultFormatType.JSON)
+                            .result("decision-" + threads + "t.json")
+                            .build();
+            new Runner(options).run();
+        }
+    }
+
+    private static List<Integer> getThreadCounts() {
+        List<Integer> counts = new ArrayList<>();
+
+        var property = System.getProperty(THREADS_PROPERTY);
+        if (property != null) {
+            for (var count : property.split(",")) {
+                counts.add(Integer.parseInt(count.trim()));
+            }
+            return counts;
+        }
+
+        var processors = Runtime.getRuntime().availableProcessors();
+        for (var count = 1; count < processors; count *= 2) {
+            counts.add(count);
+        }
+        counts.add(processors);
+        return counts;
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the decisions of each application, from the decision request to the
+ * decision response, with a growing number of generated policies deployed. Throughput and the
+ * latency distribution are both reported; run with "-prof gc" for the allocation rate
+ * and with "-t" for the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DecisionBenchmark {
+
+    @Param
+    public BenchmarkApplication application;
+
+    @Param({"1", "100", "1000"})
+    public int policyCount;
+
+    /**
+     * Fraction of the requests that match a deployed policy.
+     */
+    @Param({"1.0"})
+    public double hitRatio;
+
+    private ApplicationFixture fixture;
+
+    /**
+     * Sequence of the decisions made by a thread, so that each thread cycles through
+     * the requests on its own.
+     */
+    @State(Scope.Thread)
+    public static class Sequence {
+        private int next = 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = new ApplicationFixture(application, policyCount, new CorpusParameters(), hitRatio);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Object makeDecision(Sequence sequence) {
+        return fixture.decide(sequence.next++);
+    }
+}
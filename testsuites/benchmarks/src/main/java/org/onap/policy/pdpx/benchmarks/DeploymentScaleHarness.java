@@ -0,0 +1,175 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.DeploymentStageTimer;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdpx.main.rest.model.DeploymentSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how policy deployment scales with the number of policies. For each
+ * application and policy count, a fresh PDP receives every policy in a single PDP
+ * update, as PAP would send it, then a series of updates deploying and undeploying one
+ * policy at a time on top of them. The time taken by each update, the time spent in
+ * each stage, and the heap retained by the deployed policies are written as JSON.
+ *
+ * <p/>This is not a JMH benchmark: a bulk update of the largest counts takes minutes,
+ * and is only worth doing once per fork.
+ */
+public final class DeploymentScaleHarness {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentScaleHarness.class);
+
+    /**
+     * System property holding a comma-separated list of the policy counts to deploy.
+     */
+    public static final String POLICY_COUNTS_PROPERTY = "benchmark.policyCounts";
+
+    /**
+     * System property holding a comma-separated list of the applications to deploy to.
+     */
+    public static final String APPLICATIONS_PROPERTY = "benchmark.applications";
+
+    /**
+     * System property holding the number of single-policy updates made after the bulk
+     * update.
+     */
+    public static final String INCREMENTAL_PROPERTY = "benchmark.incrementalUpdates";
+
+    /**
+     * System property holding the name of the file to which results are written.
+     */
+    public static final String OUTPUT_PROPERTY = "benchmark.output";
+
+    private static final String DEFAULT_POLICY_COUNTS = "100,1000,10000,50000";
+    private static final String DEFAULT_APPLICATIONS = "MONITORING,GUARD,OPTIMIZATION";
+    private static final int DEFAULT_INCREMENTAL = 20;
+    private static final String DEFAULT_OUTPUT = "deployment-scale.json";
+
+    private DeploymentScaleHarness() {
+        super();
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @param args not used
+     * @throws Exception if a PDP cannot be set up or the results cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var counts = Arrays.stream(System.getProperty(POLICY_COUNTS_PROPERTY, DEFAULT_POLICY_COUNTS).split(","))
+                        .map(String::trim).map(Integer::parseInt).toList();
+        var applications = Arrays.stream(System.getProperty(APPLICATIONS_PROPERTY, DEFAULT_APPLICATIONS).split(","))
+                        .map(String::trim).map(BenchmarkApplication::valueOf).toList();
+        var incremental = Integer.getInteger(INCREMENTAL_PROPERTY, DEFAULT_INCREMENTAL);
+
+        List<DeploymentScaleResult> results = new ArrayList<>();
+        for (var application : applications) {
+            for (var count : counts) {
+                var result = measure(application, count, incremental);
+                LOGGER.info("{} {} policies: {} ms, engines {} ms, {} bytes/policy", application, count,
+                                result.getBulkWallTimeMs(), result.getEngineBuildTimeMs(),
+                                result.getRetainedHeapBytesPerPolicy());
+                results.add(result);
+            }
+        }
+
+        new StandardCoder().encode(new File(System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT)), results);
+    }
+
+    /**
+     * Deploys policies to a fresh PDP, then updates one policy at a time.
+     *
+     * @param application application whose policies are deployed
+     * @param count number of policies deployed by the bulk update
+     * @param incremental number of single-policy updates
+     * @return the measurements
+     * @throws Exception if the PDP cannot be set up
+     */
+    public static DeploymentScaleResult measure(BenchmarkApplication application, int count, int incremental)
+                    throws Exception {
+        try (var pdp = new PdpFixture(new CorpusParameters())) {
+            var generator = pdp.getGenerator();
+            var policies = generator.generate(application.getPolicyTypes(), count);
+
+            var result = new DeploymentScaleResult();
+            result.setApplication(application.getApplicationName());
+            result.setPolicyCount(count);
+
+            var heapBefore = HeapSampler.retainedHeap();
+            var start = System.nanoTime();
+            var summary = pdp.deploy(policies);
+            result.setBulkWallTimeMs(toMillis(System.nanoTime() - start));
+            var heapAfter = HeapSampler.retainedHeap();
+
+            result.setBulkSummary(summary);
+            result.setEngineBuildTimeMs(getEngineTime(summary));
+            result.setRetainedHeapBytes(heapAfter - heapBefore);
+            result.setRetainedHeapBytesPerPolicy((heapAfter - heapBefore) / Math.max(1, count));
+
+            //
+            // the extra policies follow on from the bulk ones, thus are new to the PDP
+            //
+            var types = application.getPolicyTypes();
+            var extras = Stream.iterate(count, index -> index + 1).limit(incremental)
+                            .map(index -> generator.generate(types.get(index % types.size()), (long) index))
+                            .toList();
+
+            var deployNanos = new long[incremental];
+            var undeployNanos = new long[incremental];
+            for (var index = 0; index < incremental; ++index) {
+                List<ToscaPolicy> policy = List.of(extras.get(index));
+
+                start = System.nanoTime();
+                pdp.deploy(policy);
+                deployNanos[index] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                pdp.undeploy(policy);
+                undeployNanos[index] = System.nanoTime() - start;
+            }
+
+            result.setIncrementalCount(incremental);
+            result.setIncrementalDeployMeanMs(toMillis((long) Arrays.stream(deployNanos).average().orElse(0)));
+            result.setIncrementalDeployMaxMs(toMillis(Arrays.stream(deployNanos).max().orElse(0)));
+            result.setIncrementalUndeployMeanMs(toMillis((long) Arrays.stream(undeployNanos).average().orElse(0)));
+            result.setIncrementalUndeployMaxMs(toMillis(Arrays.stream(undeployNanos).max().orElse(0)));
+            return result;
+        }
+    }
+
+    private static double getEngineTime(DeploymentSummary summary) {
+        var stages = summary.getStageTimesMs();
+        return (stages == null ? 0 : stages.getOrDefault(DeploymentStageTimer.Stage.CREATE_ENGINE.getLabel(), 0.0));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
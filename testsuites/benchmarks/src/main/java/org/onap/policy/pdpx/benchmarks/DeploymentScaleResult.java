@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.pdpx.main.rest.model.DeploymentSummary;
+
+/**
+ * Result of deploying a number of policies to an application in a single PDP update,
+ * then updating one policy at a time on top of them.
+ */
+@Getter
+@Setter
+public class DeploymentScaleResult {
+    private String application;
+    private int policyCount;
+
+    /**
+     * Time taken to handle the bulk update, response to PAP included.
+     */
+    private double bulkWallTimeMs;
+
+    /**
+     * Time spent building PDP engines during the bulk update.
+     */
+    private double engineBuildTimeMs;
+
+    /**
+     * Summary of the bulk update, with the time spent in each stage.
+     */
+    private DeploymentSummary bulkSummary;
+
+    private long retainedHeapBytes;
+    private long retainedHeapBytesPerPolicy;
+
+    /**
+     * Number of single-policy updates made after the bulk update.
+     */
+    private int incrementalCount;
+    private double incrementalDeployMeanMs;
+    private double incrementalDeployMaxMs;
+    private double incrementalUndeployMeanMs;
+    private double incrementalUndeployMaxMs;
+}
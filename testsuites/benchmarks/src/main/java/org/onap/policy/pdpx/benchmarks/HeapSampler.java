@@ -0,0 +1,55 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Samples the heap retained by live objects.
+ */
+public final class HeapSampler {
+    private static final int GC_ROUNDS = 3;
+    private static final long GC_PAUSE_MS = 100;
+
+    private HeapSampler() {
+        super();
+    }
+
+    /**
+     * Gets the heap retained by live objects, as near as can be told from outside the
+     * collector: the heap used after several full collections.
+     *
+     * @return the retained heap, in bytes
+     */
+    public static long retainedHeap() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (var round = 0; round < GC_ROUNDS; ++round) {
+            memory.gc();
+            try {
+                Thread.sleep(GC_PAUSE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
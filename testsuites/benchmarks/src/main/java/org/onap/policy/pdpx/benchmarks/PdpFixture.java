@@ -0,0 +1,186 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.onap.policy.common.message.bus.event.client.TopicSinkClient;
+import org.onap.policy.common.message.bus.event.noop.NoopTopicSink;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.pdp.concepts.PdpUpdate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+import org.onap.policy.pdpx.main.XacmlState;
+import org.onap.policy.pdpx.main.comm.XacmlPdpUpdatePublisher;
+import org.onap.policy.pdpx.main.parameters.XacmlApplicationParameters;
+import org.onap.policy.pdpx.main.parameters.XacmlDecisionParameters;
+import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpDecisionExecutor;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.onap.policy.pdpx.main.rest.model.DeploymentSummary;
+
+/**
+ * A PDP without its REST server and topics: the application manager, with every
+ * application initialized in a temporary application path, and the publisher that
+ * handles PDP updates. Responses to PAP go to an in-memory topic. The application and
+ * statistics managers are made current, along with a decision executor with the default
+ * parameters, thus decisions may be made through a
+ * {@link org.onap.policy.pdpx.main.rest.provider.DecisionProvider}, asynchronously as the
+ * REST API makes them.
+ */
+public class PdpFixture implements AutoCloseable {
+    public static final String PDP_GROUP = "benchmark-group";
+    public static final String PDP_SUBGROUP = "xacml";
+    public static final String PAP_TOPIC = "POLICY-PDP-PAP";
+
+    @Getter
+    private final PolicyCorpusGenerator generator;
+
+    @Getter
+    private final Path applicationPath;
+
+    @Getter
+    private final XacmlPdpApplicationManager applicationManager;
+
+    @Getter
+    private final XacmlPdpStatisticsManager statistics = new XacmlPdpStatisticsManager();
+
+    @Getter
+    private final XacmlPdpDecisionExecutor decisionExecutor = new XacmlPdpDecisionExecutor(
+                    new XacmlDecisionParameters());
+
+    @Getter
+    private final NoopTopicSink papSink = new NoopTopicSink(List.of("benchmark"), PAP_TOPIC);
+
+    @Getter
+    private final XacmlPdpUpdatePublisher publisher;
+
+    private final boolean temporaryPath;
+
+    /**
+     * Constructs the object, initializing every application.
+     *
+     * @param params shape of the policies that will be deployed
+     * @throws IOException if the application path cannot be created
+     * @throws CoderException if the application parameters cannot be built
+     */
+    public PdpFixture(CorpusParameters params) throws IOException, CoderException {
+        this(params, Files.createTempDirectory("xacml-pdp"), true);
+    }
+
+    /**
+     * Constructs the object, initializing every application in an application path that
+     * is left in place once the fixture is closed, along with the policies deployed in
+     * it.
+     *
+     * @param params shape of the policies that will be deployed
+     * @param applicationPath empty directory in which to initialize the applications
+     * @throws IOException if the application path cannot be prepared
+     * @throws CoderException if the application parameters cannot be built
+     */
+    public PdpFixture(CorpusParameters params, Path applicationPath) throws IOException, CoderException {
+        this(params, applicationPath, false);
+    }
+
+    private PdpFixture(CorpusParameters params, Path applicationPath, boolean temporaryPath)
+                    throws IOException, CoderException {
+        this.generator = new PolicyCorpusGenerator(params);
+        this.applicationPath = applicationPath;
+        this.temporaryPath = temporaryPath;
+        for (var application : BenchmarkApplication.values()) {
+            var dataPath = Files.createDirectory(applicationPath.resolve(application.getApplicationName()));
+            ApplicationFixture.prepareDataPath(application, generator, dataPath);
+        }
+
+        XacmlPdpStatisticsManager.setCurrent(statistics);
+        XacmlPdpDecisionExecutor.setCurrent(decisionExecutor);
+
+        var appParams = new StandardCoder().convert(Map.of("applicationPath", applicationPath.toString()),
+                        XacmlApplicationParameters.class);
+        this.applicationManager = new XacmlPdpApplicationManager(appParams, null);
+        XacmlPdpApplicationManager.setCurrent(applicationManager);
+
+        papSink.start();
+        var state = new XacmlState(applicationManager, PDP_GROUP, "xacml");
+        this.publisher = new XacmlPdpUpdatePublisher(new TopicSinkClient(papSink), state, applicationManager);
+    }
+
+    /**
+     * Deploys policies with a single PDP update.
+     *
+     * @param policies policies to deploy
+     * @return the summary of the update
+     */
+    public DeploymentSummary deploy(List<ToscaPolicy> policies) {
+        return update(policies, List.of());
+    }
+
+    /**
+     * Undeploys policies with a single PDP update.
+     *
+     * @param policies policies to undeploy
+     * @return the summary of the update
+     */
+    public DeploymentSummary undeploy(List<ToscaPolicy> policies) {
+        return update(List.of(), policies);
+    }
+
+    /**
+     * Handles a PDP update, as if it came from PAP.
+     *
+     * @param deploy policies to deploy
+     * @param undeploy policies to undeploy
+     * @return the summary of the update
+     */
+    public DeploymentSummary update(List<ToscaPolicy> deploy, List<ToscaPolicy> undeploy) {
+        var message = new PdpUpdate();
+        message.setName(XacmlState.PDP_NAME);
+        message.setPdpGroup(PDP_GROUP);
+        message.setPdpSubgroup(PDP_SUBGROUP);
+        message.setPoliciesToBeDeployed(deploy);
+        message.setPoliciesToBeUndeployed(undeploy.stream().map(ToscaPolicy::getIdentifier).toList());
+
+        publisher.handlePdpUpdate(message);
+        return statistics.getLastDeployment();
+    }
+
+    /**
+     * Stops the in-memory topic and the decision executor, and deletes the application
+     * path, unless it was provided by the caller.
+     */
+    @Override
+    public void close() throws IOException {
+        papSink.shutdown();
+        XacmlPdpDecisionExecutor.setCurrent(null);
+        decisionExecutor.shutdown();
+        XacmlPdpStatisticsManager.setCurrent(null);
+        XacmlPdpApplicationManager.setCurrent(null);
+        if (temporaryPath) {
+            ApplicationFixture.deleteDataPath(applicationPath);
+        }
+    }
+}
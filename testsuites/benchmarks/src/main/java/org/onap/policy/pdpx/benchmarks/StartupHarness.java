@@ -0,0 +1,176 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long a PDP takes from a cold start to its first decision, depending on
+ * the number of policies persisted in its application path by a previous run. For each
+ * application and policy count, the policies are deployed once to a PDP whose
+ * application path is kept; a {@link StartupProbe} is then started in a fresh JVM, as
+ * many times as requested, to initialize the applications over that path and make a
+ * decision. The time spent in each phase of every run is written as JSON.
+ *
+ * <p/>This is not a JMH benchmark: every measurement needs a JVM of its own, with
+ * nothing loaded or compiled in advance.
+ */
+public final class StartupHarness {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupHarness.class);
+
+    /**
+     * System property holding a comma-separated list of the policy counts to persist.
+     */
+    public static final String POLICY_COUNTS_PROPERTY = "benchmark.policyCounts";
+
+    /**
+     * System property holding a comma-separated list of the applications to persist
+     * policies in.
+     */
+    public static final String APPLICATIONS_PROPERTY = "benchmark.applications";
+
+    /**
+     * System property holding the number of cold starts made for each policy count.
+     */
+    public static final String RUNS_PROPERTY = "benchmark.runs";
+
+    /**
+     * System property holding space-separated options of the JVMs being started, such
+     * as their heap size.
+     */
+    public static final String JVM_ARGS_PROPERTY = "benchmark.jvmArgs";
+
+    /**
+     * System property holding the name of the file to which results are written.
+     */
+    public static final String OUTPUT_PROPERTY = "benchmark.output";
+
+    private static final String DEFAULT_POLICY_COUNTS = "0,1000,10000";
+    private static final String DEFAULT_APPLICATIONS = "MONITORING";
+    private static final int DEFAULT_RUNS = 5;
+    private static final String DEFAULT_OUTPUT = "startup.json";
+
+    private StartupHarness() {
+        super();
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @param args not used
+     * @throws Exception if the policies cannot be persisted, a probe fails, or the
+     *         results cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var counts = Arrays.stream(System.getProperty(POLICY_COUNTS_PROPERTY, DEFAULT_POLICY_COUNTS).split(","))
+                        .map(String::trim).map(Integer::parseInt).toList();
+        var applications = Arrays.stream(System.getProperty(APPLICATIONS_PROPERTY, DEFAULT_APPLICATIONS).split(","))
+                        .map(String::trim).map(BenchmarkApplication::valueOf).toList();
+        var runs = Integer.getInteger(RUNS_PROPERTY, DEFAULT_RUNS);
+        var jvmArgs = System.getProperty(JVM_ARGS_PROPERTY, "").trim();
+
+        List<StartupResult> results = new ArrayList<>();
+        for (var application : applications) {
+            for (var count : counts) {
+                var measured = measure(application, count, runs,
+                                jvmArgs.isEmpty() ? List.of() : List.of(jvmArgs.split("\\s+")));
+                var times = measured.stream().mapToDouble(StartupResult::getTimeToFirstDecisionMs).sorted()
+                                .toArray();
+                LOGGER.info("{} {} policies: first decision {} ms after JVM start (median of {})", application,
+                                count, times[times.length / 2], times.length);
+                results.addAll(measured);
+            }
+        }
+
+        new StandardCoder().encode(new File(System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT)), results);
+    }
+
+    /**
+     * Persists policies in an application path, then starts a PDP over it in fresh JVMs.
+     *
+     * @param application application whose policies are persisted
+     * @param count number of policies persisted
+     * @param runs number of cold starts
+     * @param jvmArgs options of the JVMs being started
+     * @return the result of each run
+     * @throws Exception if the policies cannot be persisted or a probe fails
+     */
+    public static List<StartupResult> measure(BenchmarkApplication application, int count, int runs,
+                    List<String> jvmArgs) throws Exception {
+        var applicationPath = Files.createTempDirectory("xacml-pdp");
+        try {
+            try (var pdp = new PdpFixture(new CorpusParameters(), applicationPath)) {
+                if (count > 0) {
+                    var summary = pdp.deploy(pdp.getGenerator().generate(application.getPolicyTypes(), count));
+                    if (summary.getFailedCount() > 0) {
+                        throw new IllegalStateException("failed to deploy " + summary.getFailedCount() + " policies");
+                    }
+                }
+            }
+
+            var coder = new StandardCoder();
+            List<StartupResult> results = new ArrayList<>(runs);
+            for (var run = 0; run < runs; ++run) {
+                var output = Files.createTempFile("startup", ".json");
+                try {
+                    probe(applicationPath, application, count, run, output, jvmArgs);
+                    results.add(coder.decode(output.toFile(), StartupResult.class));
+                } finally {
+                    Files.delete(output);
+                }
+            }
+            return results;
+
+        } finally {
+            ApplicationFixture.deleteDataPath(applicationPath);
+        }
+    }
+
+    private static void probe(Path applicationPath, BenchmarkApplication application, int count, int run,
+                    Path output, List<String> jvmArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupProbe.class.getName());
+        command.add(applicationPath.toString());
+        command.add(application.name());
+        command.add(String.valueOf(count));
+        command.add(String.valueOf(run));
+        command.add(output.toString());
+
+        var exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (exitCode != 0) {
+            throw new IOException("startup probe exited with " + exitCode);
+        }
+    }
+}
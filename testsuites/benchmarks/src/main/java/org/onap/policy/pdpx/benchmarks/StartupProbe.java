@@ -0,0 +1,100 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+import org.onap.policy.pdpx.main.parameters.XacmlApplicationParameters;
+import org.onap.policy.pdpx.main.rest.StartupTimings;
+import org.onap.policy.pdpx.main.rest.XacmlPdpApplicationManager;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
+
+/**
+ * Starts a PDP over an existing application path and makes its first decision, timing
+ * both. This is run by {@link StartupHarness}, in a fresh JVM for every measurement, so
+ * that class loading and JIT compilation are part of what is measured.
+ */
+public final class StartupProbe {
+    public static final String APPLICATION_MANAGER_PHASE = "application_manager";
+    public static final String FIRST_DECISION_PHASE = "first_decision";
+
+    private StartupProbe() {
+        super();
+    }
+
+    /**
+     * Runs the probe.
+     *
+     * @param args the application path, the name of the {@link BenchmarkApplication}
+     *        whose policies were persisted, the number of policies, the run number, and
+     *        the name of the file to which the result is written
+     * @throws Exception if the PDP cannot be started or the result cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var jvmStartMs = (double) ManagementFactory.getRuntimeMXBean().getUptime();
+
+        var applicationPath = args[0];
+        var application = BenchmarkApplication.valueOf(args[1]);
+        var policyCount = Integer.parseInt(args[2]);
+
+        //
+        // the policies are regenerated from the same seed, thus the request matches the
+        // first policy persisted, if any
+        //
+        var generator = new PolicyCorpusGenerator(new CorpusParameters());
+        var policy = generator.generate(application.getPolicyTypes().get(0), 0L);
+        var request = generator.generateRequests(List.of(policy), 1, 1.0).get(0);
+
+        var coder = new StandardCoder();
+        var appParams = coder.convert(Map.of("applicationPath", applicationPath), XacmlApplicationParameters.class);
+        XacmlPdpStatisticsManager.setCurrent(new XacmlPdpStatisticsManager());
+
+        var timings = new StartupTimings();
+        var start = System.nanoTime();
+        var manager = new XacmlPdpApplicationManager(appParams, null, timings);
+        XacmlPdpApplicationManager.setCurrent(manager);
+        timings.record(APPLICATION_MANAGER_PHASE, start);
+
+        start = System.nanoTime();
+        new DecisionProvider().fetchDecision(request, Map.of());
+        timings.record(FIRST_DECISION_PHASE, start);
+
+        var timeToFirstDecisionMs = (double) ManagementFactory.getRuntimeMXBean().getUptime();
+        var summary = timings.toSummary();
+
+        var result = new StartupResult();
+        result.setApplication(application.getApplicationName());
+        result.setPolicyCount(policyCount);
+        result.setRun(Integer.parseInt(args[3]));
+        result.setJvmStartMs(jvmStartMs);
+        result.setApplicationManagerMs(summary.getPhaseTimesMs().get(APPLICATION_MANAGER_PHASE));
+        result.setFirstDecisionMs(summary.getPhaseTimesMs().get(FIRST_DECISION_PHASE));
+        result.setTimeToFirstDecisionMs(timeToFirstDecisionMs);
+        result.setStartup(summary);
+        coder.encode(new File(args[4]), result);
+    }
+}
@@ -0,0 +1,62 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.pdpx.main.rest.model.StartupSummary;
+
+/**
+ * Result of starting a PDP, in a fresh JVM, over an application path holding policies
+ * persisted by a previous run, and of making its first decision.
+ */
+@Getter
+@Setter
+public class StartupResult {
+    private String application;
+    private int policyCount;
+    private int run;
+
+    /**
+     * Time from the start of the JVM to the start of the probe's main method.
+     */
+    private double jvmStartMs;
+
+    /**
+     * Time taken to discover and initialize every application.
+     */
+    private double applicationManagerMs;
+
+    /**
+     * Time taken by the first decision, once the applications are initialized.
+     */
+    private double firstDecisionMs;
+
+    /**
+     * Time from the start of the JVM to the end of the first decision.
+     */
+    private double timeToFirstDecisionMs;
+
+    /**
+     * Time spent by each application in each phase of its startup.
+     */
+    private StartupSummary startup;
+}
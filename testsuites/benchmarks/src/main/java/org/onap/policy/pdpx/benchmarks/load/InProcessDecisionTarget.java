@@ -0,0 +1,104 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.decisions.concepts.DecisionException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.simple.concepts.JpaToscaServiceTemplate;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdpx.benchmarks.PdpFixture;
+import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
+
+/**
+ * Decisions made by a PDP in the same JVM, through the {@link DecisionProvider} behind
+ * its REST API, leaving out HTTP and JSON. Decisions go through the decision executor,
+ * thus its admission control, bulkheads and priorities, as they would over REST.
+ */
+public class InProcessDecisionTarget implements DecisionTarget {
+    private static final Map<String, String[]> ABBREVIATED = Map.of("abbrev", new String[] {"true"});
+
+    private final PdpFixture pdp;
+
+    /**
+     * Constructs the object, deploying policies to a new PDP.
+     *
+     * @param policies names of the files or resources holding the service templates
+     *        whose policies are to be deployed
+     * @throws Exception if the PDP cannot be set up or a policy cannot be deployed
+     */
+    public InProcessDecisionTarget(List<String> policies) throws Exception {
+        this.pdp = new PdpFixture(new CorpusParameters());
+        try {
+            var summary = pdp.deploy(loadPolicies(policies));
+            if (summary.getFailedCount() > 0) {
+                throw new IllegalStateException("failed to deploy " + summary.getFailedCount() + " policies");
+            }
+        } catch (Exception e) {
+            pdp.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean decide(WorkloadEntry entry) {
+        try {
+            new DecisionProvider().fetchDecisionAsync(entry.getRequest(),
+                            entry.isAbbreviated() ? ABBREVIATED : Map.of()).join();
+            return true;
+        } catch (DecisionException | CompletionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        pdp.close();
+    }
+
+    private static List<ToscaPolicy> loadPolicies(List<String> names) throws CoderException {
+        var coder = new StandardCoder();
+        List<ToscaPolicy> policies = new ArrayList<>();
+        for (var name : names) {
+            var json = ResourceUtils.getResourceAsString(name);
+            if (json == null) {
+                throw new CoderException("cannot find policies " + name);
+            }
+
+            //
+            // round trip through JPA to fill in the names and versions of the policies
+            //
+            var jtst = new JpaToscaServiceTemplate();
+            jtst.fromAuthorative(coder.decode(json, ToscaServiceTemplate.class));
+            for (var map : jtst.toAuthorative().getToscaTopologyTemplate().getPolicies()) {
+                policies.addAll(map.values());
+            }
+        }
+        return policies;
+    }
+}
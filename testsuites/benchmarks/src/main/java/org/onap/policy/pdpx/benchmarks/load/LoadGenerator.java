@@ -0,0 +1,230 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Generates load against a decision target, replaying a workload in order, and records
+ * the latency of each request in HdrHistograms.
+ *
+ * <p/>In an open loop, request i is meant to be issued at start + i / rate, and its
+ * latency is measured from that time, so that requests held up behind a slow one are
+ * charged for the wait. A paced closed loop does the same, each worker having its own
+ * schedule. A closed loop that is not paced has no schedule, thus its latencies cannot
+ * be corrected.
+ */
+public class LoadGenerator {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final LoadProfile profile;
+    private final List<WorkloadEntry> workload;
+    private final DecisionTarget target;
+
+    /**
+     * Constructs the object.
+     *
+     * @param profile shape of the load
+     * @param workload requests to replay
+     * @param target target of the requests
+     */
+    public LoadGenerator(LoadProfile profile, List<WorkloadEntry> workload, DecisionTarget target) {
+        if (workload.isEmpty()) {
+            throw new IllegalArgumentException("the workload is empty");
+        }
+        if (profile.getMode() == LoadMode.OPEN && profile.getRatePerSec() <= 0) {
+            throw new IllegalArgumentException("an open loop needs a rate");
+        }
+        this.profile = profile;
+        this.workload = workload;
+        this.target = target;
+    }
+
+    /**
+     * Generates the load, returning once the duration has elapsed and every request
+     * has completed.
+     *
+     * @return the result of the run
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public LoadReport run() throws InterruptedException {
+        var concurrency = profile.getConcurrency();
+        var start = System.nanoTime() + START_DELAY_NANOS;
+        var measureStart = start + TimeUnit.SECONDS.toNanos(profile.getWarmupSec());
+        var end = measureStart + TimeUnit.SECONDS.toNanos(profile.getDurationSec());
+        var clock = new Clock(start, measureStart, end, new AtomicLong());
+
+        List<Worker> workers = new ArrayList<>(concurrency);
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        var executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (var index = 0; index < concurrency; ++index) {
+                var worker = new Worker(index, clock);
+                workers.add(worker);
+                futures.add(executor.submit(worker));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("load worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return report(workers);
+    }
+
+    private LoadReport report(List<Worker> workers) {
+        var corrected = new Histogram(SIGNIFICANT_DIGITS);
+        var uncorrected = new Histogram(SIGNIFICANT_DIGITS);
+        long errors = 0;
+        for (var worker : workers) {
+            corrected.add(worker.corrected);
+            uncorrected.add(worker.uncorrected);
+            errors += worker.errors;
+        }
+
+        var report = new LoadReport();
+        report.setDescription(profile.getDescription());
+        report.setMode(profile.getMode());
+        report.setConcurrency(profile.getConcurrency());
+        report.setTargetRatePerSec(profile.getRatePerSec());
+        report.setDurationSec(profile.getDurationSec());
+        report.setCount(uncorrected.getTotalCount());
+        report.setErrors(errors);
+        report.setThroughputPerSec((double) uncorrected.getTotalCount() / Math.max(1, profile.getDurationSec()));
+        report.setCorrected(profile.getRatePerSec() > 0);
+        //
+        // Without a schedule, the time a request was meant to be issued is only an
+        // approximation of the time it was, so report the latencies it was issued with
+        //
+        report.setHistograms(report.isCorrected() ? corrected : uncorrected, uncorrected);
+        return report;
+    }
+
+    /**
+     * Times shared by the workers, in {@link System#nanoTime()} terms, and the number of
+     * requests issued so far in an open loop.
+     */
+    private record Clock(long start, long measureStart, long end, AtomicLong issued) {
+    }
+
+    private class Worker implements Runnable {
+        private final Histogram corrected = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram uncorrected = new Histogram(SIGNIFICANT_DIGITS);
+        private final int index;
+        private final Clock clock;
+        private long errors = 0;
+
+        Worker(int index, Clock clock) {
+            this.index = index;
+            this.clock = clock;
+        }
+
+        @Override
+        public void run() {
+            if (profile.getMode() == LoadMode.OPEN) {
+                runOpen();
+            } else {
+                runClosed();
+            }
+        }
+
+        /**
+         * Takes the next request from the shared schedule, until the schedule runs past
+         * the end.
+         */
+        private void runOpen() {
+            var interval = 1_000_000_000.0 / profile.getRatePerSec();
+            for (;;) {
+                var sequence = clock.issued().getAndIncrement();
+                var intended = clock.start() + (long) (sequence * interval);
+                if (intended >= clock.end() || !waitUntil(intended)) {
+                    return;
+                }
+                issue(workload.get((int) (sequence % workload.size())), intended);
+            }
+        }
+
+        /**
+         * Issues requests one after the other, paced to this worker's share of the rate,
+         * if there is one.
+         */
+        private void runClosed() {
+            var concurrency = profile.getConcurrency();
+            var rampUp = TimeUnit.SECONDS.toNanos(profile.getRampUpSec());
+            var first = clock.start() + rampUp * index / concurrency;
+            var interval = (profile.getRatePerSec() > 0 ? 1_000_000_000.0 * concurrency / profile.getRatePerSec()
+                            : 0.0);
+
+            var intended = first;
+            for (long sequence = 0; intended < clock.end(); ++sequence) {
+                if (!waitUntil(intended)) {
+                    return;
+                }
+                var entry = workload.get((int) ((index + sequence) % workload.size()));
+                var completed = issue(entry, intended);
+                intended = (interval > 0 ? first + (long) ((sequence + 1) * interval) : completed);
+            }
+        }
+
+        /**
+         * Issues a request and records its latency, if it was meant to be issued after
+         * the warm-up.
+         *
+         * @return the time at which the request completed
+         */
+        private long issue(WorkloadEntry entry, long intended) {
+            var sent = System.nanoTime();
+            var success = target.decide(entry);
+            var completed = System.nanoTime();
+
+            if (intended >= clock.measureStart()) {
+                corrected.recordValue(completed - intended);
+                uncorrected.recordValue(completed - sent);
+                if (!success) {
+                    ++errors;
+                }
+            }
+            return completed;
+        }
+
+        private boolean waitUntil(long time) {
+            for (var now = System.nanoTime(); now < time; now = System.nanoTime()) {
+                LockSupport.parkNanos(time - now);
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.HdrHistogram.Histogram;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates load against a PDP, as described by a profile, and writes the report as
+ * JSON, along with the percentile distributions of the latencies in HdrHistogram's
+ * text format.
+ */
+public final class LoadMain {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadMain.class);
+
+    /**
+     * System property holding the name of the file or resource holding the profile.
+     */
+    public static final String PROFILE_PROPERTY = "load.profile";
+
+    /**
+     * System property holding the URL of the PDP, or "in-process" to start one in this
+     * JVM.
+     */
+    public static final String TARGET_PROPERTY = "load.target";
+    public static final String USER_PROPERTY = "load.user";
+    public static final String PASSWORD_PROPERTY = "load.password";
+
+    /**
+     * System property holding the prefix of the files to which the report is written.
+     */
+    public static final String OUTPUT_PROPERTY = "load.output";
+
+    /*
+     * System properties overriding the profile.
+     */
+    public static final String WORKLOAD_PROPERTY = "load.workload";
+    public static final String CONCURRENCY_PROPERTY = "load.concurrency";
+    public static final String RATE_PROPERTY = "load.rate";
+    public static final String WARMUP_PROPERTY = "load.warmup";
+    public static final String DURATION_PROPERTY = "load.duration";
+
+    public static final String IN_PROCESS = "in-process";
+
+    private static final String DEFAULT_PROFILE = "load/perf-closed.json";
+    private static final String DEFAULT_OUTPUT = "load-report";
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private LoadMain() {
+        super();
+    }
+
+    /**
+     * Runs the load generator.
+     *
+     * @param args not used
+     * @throws Exception if the target cannot be set up or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var profile = LoadProfile.load(System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE));
+        profile.setWorkload(System.getProperty(WORKLOAD_PROPERTY, profile.getWorkload()));
+        profile.setConcurrency(Integer.getInteger(CONCURRENCY_PROPERTY, profile.getConcurrency()));
+        profile.setWarmupSec(Integer.getInteger(WARMUP_PROPERTY, profile.getWarmupSec()));
+        profile.setDurationSec(Integer.getInteger(DURATION_PROPERTY, profile.getDurationSec()));
+        var rate = System.getProperty(RATE_PROPERTY);
+        if (rate != null) {
+            profile.setRatePerSec(Double.parseDouble(rate));
+        }
+
+        var workload = WorkloadEntry.load(profile.getWorkload());
+        var output = System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT);
+
+        try (var target = createTarget(profile)) {
+            var report = new LoadGenerator(profile, workload, target).run();
+            LOGGER.info("{} requests, {} errors, {}/s, corrected {} ms, uncorrected {} ms", report.getCount(),
+                            report.getErrors(), report.getThroughputPerSec(), report.getCorrectedLatencyMs(),
+                            report.getUncorrectedLatencyMs());
+
+            new StandardCoder().encode(new File(output + ".json"), report);
+            write(report.getCorrectedHistogram(), output + "-corrected.hgrm");
+            write(report.getUncorrectedHistogram(), output + "-uncorrected.hgrm");
+        }
+    }
+
+    private static DecisionTarget createTarget(LoadProfile profile) throws Exception {
+        var target = System.getProperty(TARGET_PROPERTY, IN_PROCESS);
+        if (IN_PROCESS.equals(target)) {
+            return new InProcessDecisionTarget(profile.getPolicies());
+        }
+        return new RestDecisionTarget(target, System.getProperty(USER_PROPERTY),
+                        System.getProperty(PASSWORD_PROPERTY));
+    }
+
+    private static void write(Histogram histogram, String fileName) throws IOException {
+        try (var stream = new PrintStream(new FileOutputStream(fileName), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(stream, NANOS_PER_MS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+/**
+ * How the load generator issues requests.
+ */
+public enum LoadMode {
+    /**
+     * A fixed number of workers, each issuing its next request as soon as the previous
+     * one completes, optionally paced to an overall rate. This is what JMeter does.
+     */
+    CLOSED,
+
+    /**
+     * Requests arrive at a fixed rate, whether or not earlier ones have completed. The
+     * workers only bound the number of requests in flight.
+     */
+    OPEN
+}
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+
+/**
+ * Shape of the load generated against the PDP.
+ */
+@Getter
+@Setter
+public class LoadProfile {
+    private String description;
+    private LoadMode mode = LoadMode.CLOSED;
+
+    /**
+     * Number of workers, thus the most requests in flight at any time.
+     */
+    private int concurrency = 1;
+
+    /**
+     * Rate at which requests are issued. Required in {@link LoadMode#OPEN} mode; in
+     * {@link LoadMode#CLOSED} mode, zero lets every worker go as fast as it can.
+     */
+    private double ratePerSec = 0;
+
+    /**
+     * Time over which the workers of a closed loop are started.
+     */
+    private int rampUpSec = 0;
+
+    /**
+     * Time, after the start, during which latencies are not recorded.
+     */
+    private int warmupSec = 0;
+
+    /**
+     * Time, after the warm-up, during which latencies are recorded.
+     */
+    private int durationSec = 60;
+
+    /**
+     * Name of the file or resource holding the workload.
+     */
+    private String workload;
+
+    /**
+     * Names of the files or resources holding the service templates whose policies are
+     * deployed to an in-process PDP.
+     */
+    private List<String> policies = List.of();
+
+    /**
+     * Loads a profile.
+     *
+     * @param name name of the file or resource holding the profile
+     * @return the profile
+     * @throws CoderException if the profile cannot be found or decoded
+     */
+    public static LoadProfile load(String name) throws CoderException {
+        var json = ResourceUtils.getResourceAsString(name);
+        if (json == null) {
+            throw new CoderException("cannot find load profile " + name);
+        }
+        return new StandardCoder().decode(json, LoadProfile.class);
+    }
+}
@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load run. Latencies are reported twice: measured from the time each
+ * request was meant to be issued, which accounts for coordinated omission, and from the
+ * time it actually was, which does not and is what JMeter reports.
+ */
+@Getter
+@Setter
+public class LoadReport {
+    private static final double NANOS_PER_MS = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private String description;
+    private LoadMode mode;
+    private int concurrency;
+    private double targetRatePerSec;
+    private double durationSec;
+    private long count;
+    private long errors;
+    private double throughputPerSec;
+
+    /**
+     * {@code true} if the latencies are corrected for coordinated omission. They cannot
+     * be in a closed loop that is not paced, as requests then have no intended time.
+     */
+    private boolean corrected;
+
+    private Map<String, Double> correctedLatencyMs;
+    private Map<String, Double> uncorrectedLatencyMs;
+
+    private transient Histogram correctedHistogram;
+    private transient Histogram uncorrectedHistogram;
+
+    /**
+     * Fills in the latencies from the histograms.
+     *
+     * @param corrected latencies from the intended start times, in nanoseconds
+     * @param uncorrected latencies from the actual start times, in nanoseconds
+     */
+    public void setHistograms(Histogram corrected, Histogram uncorrected) {
+        this.correctedHistogram = corrected;
+        this.uncorrectedHistogram = uncorrected;
+        this.correctedLatencyMs = summarize(corrected);
+        this.uncorrectedLatencyMs = summarize(uncorrected);
+    }
+
+    /**
+     * Summarizes a histogram of latencies.
+     *
+     * @param histogram latencies, in nanoseconds
+     * @return the mean, percentiles and maximum, in milliseconds
+     */
+    public static Map<String, Double> summarize(Histogram histogram) {
+        Map<String, Double> summary = new LinkedHashMap<>();
+        summary.put("mean", histogram.getMean() / NANOS_PER_MS);
+        for (var percentile : PERCENTILES) {
+            summary.put("p" + percentile, histogram.getValueAtPercentile(percentile) / NANOS_PER_MS);
+        }
+        summary.put("max", histogram.getMaxValue() / NANOS_PER_MS);
+        return summary;
+    }
+}
@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decisions made by a PDP through its REST API. The policies must already be deployed,
+ * for instance by the setUp thread group of perf.jmx.
+ */
+public class RestDecisionTarget implements DecisionTarget {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestDecisionTarget.class);
+
+    public static final String DECISION_PATH = "/policy/pdpx/v1/decision";
+    public static final String ABBREVIATED_QUERY = "?abbrev=true";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final StandardCoder coder = new StandardCoder();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final URI decisionUri;
+    private final URI abbreviatedUri;
+    private final String authorization;
+
+    /**
+     * Bodies of the requests, encoded once, so that encoding does not count against the
+     * PDP.
+     */
+    private final Map<WorkloadEntry, String> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param baseUrl URL of the PDP, for instance "http://localhost:30004"
+     * @param user user name, or {@code null} if the PDP does not require authentication
+     * @param password password of the user
+     */
+    public RestDecisionTarget(String baseUrl, String user, String password) {
+        this.decisionUri = URI.create(baseUrl + DECISION_PATH);
+        this.abbreviatedUri = URI.create(baseUrl + DECISION_PATH + ABBREVIATED_QUERY);
+        this.authorization = (user == null ? null
+                        : "Basic " + Base64.getEncoder()
+                                        .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public boolean decide(WorkloadEntry entry) {
+        var builder = HttpRequest.newBuilder(entry.isAbbreviated() ? abbreviatedUri : decisionUri)
+                        .timeout(TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .header("Accept", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(bodies.computeIfAbsent(entry, this::encode)));
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+
+        try {
+            var response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            return (response.statusCode() == 200);
+        } catch (IOException e) {
+            LOGGER.debug("decision failed for {}", entry.getName(), e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        // the client has nothing to release
+    }
+
+    private String encode(WorkloadEntry entry) {
+        try {
+            return coder.encode(entry.getRequest());
+        } catch (CoderException e) {
+            throw new IllegalArgumentException("cannot encode request " + entry.getName(), e);
+        }
+    }
+}
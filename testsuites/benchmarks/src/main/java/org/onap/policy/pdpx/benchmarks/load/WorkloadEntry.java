@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+
+/**
+ * A decision request of a workload.
+ */
+@Getter
+@Setter
+public class WorkloadEntry {
+    private String name;
+
+    /**
+     * {@code true} if the decision is to be abbreviated, as with "?abbrev=true".
+     */
+    private boolean abbreviated = false;
+
+    private DecisionRequest request;
+
+    /**
+     * Loads a workload, that is, a JSON array of entries.
+     *
+     * @param name name of the file or resource holding the workload
+     * @return the entries of the workload
+     * @throws CoderException if the workload cannot be found or decoded
+     */
+    public static List<WorkloadEntry> load(String name) throws CoderException {
+        var json = ResourceUtils.getResourceAsString(name);
+        if (json == null) {
+            throw new CoderException("cannot find workload " + name);
+        }
+        return Arrays.asList(new StandardCoder().decode(json, WorkloadEntry[].class));
+    }
+}
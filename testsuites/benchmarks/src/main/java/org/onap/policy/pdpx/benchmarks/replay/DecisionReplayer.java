@@ -0,0 +1,286 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.replay;
+
+import com.att.research.xacml.std.json.JsonRequestTranslator;
+import com.att.research.xacml.std.json.JsonResponseTranslator;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdpx.benchmarks.PdpFixture;
+import org.onap.policy.pdpx.benchmarks.load.LoadReport;
+import org.onap.policy.pdpx.main.rest.DecisionCaptureReader;
+import org.onap.policy.pdpx.main.rest.model.CaptureRecord;
+import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays a decision capture against a PDP in this JVM. The policies captured with the
+ * decisions are deployed at the same points, decisions in flight being allowed to
+ * complete first. Decisions are either issued at the same intervals as they were
+ * captured, scaled by a speed factor, or as fast as the workers can take them. The
+ * schedule starts with the first decision and is held back while policies are being
+ * deployed, thus neither the setup of the PDP nor the deployments are charged to the
+ * decisions. Decisions go through the decision executor, as they would over REST. Each
+ * replayed response is compared with the captured one.
+ */
+public class DecisionReplayer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionReplayer.class);
+
+    private static final Map<String, String[]> ABBREVIATED = Map.of("abbrev", new String[] {"true"});
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int MAX_MISMATCHES = 100;
+
+    /**
+     * Number of decisions that may be waiting for a worker, per worker.
+     */
+    private static final int BACKLOG_PER_WORKER = 4;
+
+    private final StandardCoder coder = new StandardCoder();
+    private final double speed;
+    private final int concurrency;
+    private final Semaphore backlog;
+
+    private final Histogram capturedHistogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram replayedHistogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong mismatched = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final List<ReplayMismatch> mismatches = Collections.synchronizedList(new ArrayList<>());
+
+    private Map<ToscaConceptIdentifier, ToscaPolicy> deployed = new HashMap<>();
+    private long decisions = 0;
+    private long policyUpdates = 0;
+    private long failedPolicies = 0;
+
+    /**
+     * Constructs the object.
+     *
+     * @param speed speed of the replay relative to the capture, or zero to replay as fast
+     *        as possible
+     * @param concurrency number of workers
+     */
+    public DecisionReplayer(double speed, int concurrency) {
+        this.speed = speed;
+        this.concurrency = concurrency;
+        this.backlog = new Semaphore(concurrency * BACKLOG_PER_WORKER);
+    }
+
+    /**
+     * Replays a capture.
+     *
+     * @param reader reader of the capture
+     * @return the result of the replay
+     * @throws Exception if the PDP cannot be set up or the capture cannot be read
+     */
+    public ReplayReport replay(DecisionCaptureReader reader) throws Exception {
+        // the clock starts with the first decision, once the PDP has its first policies
+        var start = -1L;
+        var origin = 0L;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try (var pdp = new PdpFixture(new CorpusParameters())) {
+            for (var rec = reader.next(); rec != null; rec = reader.next()) {
+                if (rec.getKind() == CaptureRecord.Kind.POLICIES) {
+                    // no decision is issued while the policies change, so the schedule waits too
+                    var paused = System.nanoTime();
+                    drain();
+                    deploy(pdp, rec);
+                    origin += System.nanoTime() - paused;
+                    continue;
+                }
+
+                var offset = (long) (TimeUnit.MICROSECONDS.toNanos(rec.getOffsetMicros()) / (speed > 0 ? speed : 1));
+                if (start < 0) {
+                    start = System.nanoTime();
+                    origin = start - offset;
+                }
+
+                // when running as fast as possible, decisions are not due at any time
+                var due = 0L;
+                if (speed > 0) {
+                    due = origin + offset;
+                    waitUntil(due);
+                }
+                backlog.acquire();
+                ++decisions;
+                var decision = rec;
+                var decisionDue = due;
+                executor.execute(() -> {
+                    try {
+                        replay(decision, decisionDue);
+                    } finally {
+                        backlog.release();
+                    }
+                });
+            }
+            drain();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var report = new ReplayReport();
+        report.setCaptureStartTime(reader.getStartTime().toString());
+        report.setSpeed(speed);
+        report.setConcurrency(concurrency);
+        report.setDecisions(decisions);
+        report.setPolicyUpdates(policyUpdates);
+        report.setFailedPolicies(failedPolicies);
+        report.setMatched(matched.get());
+        report.setMismatched(mismatched.get());
+        report.setErrors(errors.get());
+        report.setWallTimeSec(start < 0 ? 0 : (System.nanoTime() - start) / 1_000_000_000.0);
+        report.setCapturedHistogram(capturedHistogram);
+        report.setReplayedHistogram(replayedHistogram);
+        report.setCapturedLatencyMs(LoadReport.summarize(capturedHistogram));
+        report.setReplayedLatencyMs(LoadReport.summarize(replayedHistogram));
+        report.setMismatches(new ArrayList<>(mismatches));
+        return report;
+    }
+
+    /**
+     * Waits for the decisions in flight to complete.
+     */
+    private void drain() throws InterruptedException {
+        var permits = concurrency * BACKLOG_PER_WORKER;
+        backlog.acquire(permits);
+        backlog.release(permits);
+    }
+
+    /**
+     * Brings the PDP to the captured policies, deploying the new ones and undeploying
+     * those that are gone.
+     */
+    private void deploy(PdpFixture pdp, CaptureRecord rec) throws CoderException {
+        Map<ToscaConceptIdentifier, ToscaPolicy> snapshot = new HashMap<>();
+        for (var policy : coder.decode(rec.getRequest(), ToscaPolicy[].class)) {
+            snapshot.put(policy.getIdentifier(), policy);
+        }
+
+        var deploy = snapshot.entrySet().stream().filter(entry -> !deployed.containsKey(entry.getKey()))
+                        .map(Map.Entry::getValue).toList();
+        var undeploy = deployed.entrySet().stream().filter(entry -> !snapshot.containsKey(entry.getKey()))
+                        .map(Map.Entry::getValue).toList();
+
+        var summary = pdp.update(deploy, undeploy);
+        if (summary.getFailedCount() > 0) {
+            LOGGER.warn("{} captured policies could not be deployed", summary.getFailedCount());
+        }
+        failedPolicies += summary.getFailedCount();
+        ++policyUpdates;
+        deployed = snapshot;
+    }
+
+    private void replay(CaptureRecord rec, long due) {
+        capturedHistogram.recordValue(TimeUnit.MICROSECONDS.toNanos(rec.getLatencyMicros()));
+
+        String actual;
+        try {
+            if (rec.getKind() == CaptureRecord.Kind.NATIVE_DECISION) {
+                var request = JsonRequestTranslator
+                                .load(new ByteArrayInputStream(rec.getRequest().getBytes(StandardCharsets.UTF_8)));
+                var sent = System.nanoTime();
+                var response = new DecisionProvider().fetchNativeDecisionAsync(request).join();
+                recordLatency(due, sent);
+                actual = JsonResponseTranslator.toString(response, false);
+            } else {
+                var request = coder.decode(rec.getRequest(), DecisionRequest.class);
+                var sent = System.nanoTime();
+                var response = new DecisionProvider().fetchDecisionAsync(request,
+                                rec.isAbbreviated() ? ABBREVIATED : Map.of()).join();
+                recordLatency(due, sent);
+                actual = coder.encode(response);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("replay failed for {}", rec.getRequest(), e);
+            errors.incrementAndGet();
+            return;
+        }
+
+        if (same(rec.getResponse(), actual)) {
+            matched.incrementAndGet();
+            return;
+        }
+
+        mismatched.incrementAndGet();
+        if (mismatches.size() < MAX_MISMATCHES) {
+            var mismatch = new ReplayMismatch();
+            mismatch.setOffsetMicros(rec.getOffsetMicros());
+            mismatch.setApplication(rec.getApplication());
+            mismatch.setRequest(rec.getRequest());
+            mismatch.setExpected(rec.getResponse());
+            mismatch.setActual(actual);
+            mismatches.add(mismatch);
+        }
+    }
+
+    /**
+     * Records the latency of a decision, from the time it was due, if the replay is
+     * timed, otherwise from the time it was sent.
+     */
+    private void recordLatency(long due, long sent) {
+        var completed = System.nanoTime();
+        replayedHistogram.recordValue(completed - (speed > 0 ? due : sent));
+    }
+
+    /**
+     * Compares two responses as JSON trees, thus ignoring the order of fields.
+     */
+    private static boolean same(String expected, String actual) {
+        if (expected == null || actual == null) {
+            return (expected == actual);
+        }
+        try {
+            return JsonParser.parseString(expected).equals(JsonParser.parseString(actual));
+        } catch (JsonSyntaxException e) {
+            return expected.equals(actual);
+        }
+    }
+
+    private static void waitUntil(long time) throws InterruptedException {
+        for (var now = System.nanoTime(); now < time; now = System.nanoTime()) {
+            LockSupport.parkNanos(time - now);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("interrupted while replaying");
+            }
+        }
+    }
+}
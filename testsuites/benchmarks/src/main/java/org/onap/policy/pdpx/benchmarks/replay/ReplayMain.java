@@ -0,0 +1,103 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.replay;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.HdrHistogram.Histogram;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.pdpx.main.rest.DecisionCaptureReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays a decision capture, written by a PDP whose capture parameters were enabled,
+ * against a PDP in this JVM, and writes the report as JSON, along with the percentile
+ * distributions of the captured and replayed latencies in HdrHistogram's text format.
+ */
+public final class ReplayMain {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayMain.class);
+
+    /**
+     * System property holding the path of the capture file.
+     */
+    public static final String CAPTURE_PROPERTY = "replay.capture";
+
+    /**
+     * System property holding the speed of the replay relative to the capture, zero to
+     * replay as fast as possible.
+     */
+    public static final String SPEED_PROPERTY = "replay.speed";
+
+    public static final String CONCURRENCY_PROPERTY = "replay.concurrency";
+
+    /**
+     * System property holding the prefix of the files to which the report is written.
+     */
+    public static final String OUTPUT_PROPERTY = "replay.output";
+
+    private static final String DEFAULT_CAPTURE = "decision-capture.bin";
+    private static final String DEFAULT_SPEED = "1.0";
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final String DEFAULT_OUTPUT = "replay-report";
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private ReplayMain() {
+        super();
+    }
+
+    /**
+     * Runs the replay.
+     *
+     * @param args not used
+     * @throws Exception if the capture cannot be replayed or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var capture = Paths.get(System.getProperty(CAPTURE_PROPERTY, DEFAULT_CAPTURE));
+        var speed = Double.parseDouble(System.getProperty(SPEED_PROPERTY, DEFAULT_SPEED));
+        var concurrency = Integer.getInteger(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY);
+        var output = System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT);
+
+        ReplayReport report;
+        try (var reader = new DecisionCaptureReader(Files.newInputStream(capture))) {
+            report = new DecisionReplayer(speed, concurrency).replay(reader);
+        }
+
+        LOGGER.info("{} decisions, {} matched, {} mismatched, {} errors, captured {} ms, replayed {} ms",
+                        report.getDecisions(), report.getMatched(), report.getMismatched(), report.getErrors(),
+                        report.getCapturedLatencyMs(), report.getReplayedLatencyMs());
+
+        new StandardCoder().encode(new File(output + ".json"), report);
+        write(report.getCapturedHistogram(), output + "-captured.hgrm");
+        write(report.getReplayedHistogram(), output + "-replayed.hgrm");
+    }
+
+    private static void write(Histogram histogram, String fileName) throws IOException {
+        try (var stream = new PrintStream(new FileOutputStream(fileName), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(stream, NANOS_PER_MS);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.replay;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of the replay of a decision capture.
+ */
+@Getter
+@Setter
+public class ReplayReport {
+    private String captureStartTime;
+
+    /**
+     * Speed of the replay relative to the capture, zero if it ran as fast as possible.
+     */
+    private double speed;
+
+    private int concurrency;
+    private long decisions;
+    private long policyUpdates;
+    private long failedPolicies;
+    private long matched;
+    private long mismatched;
+    private long errors;
+    private double wallTimeSec;
+
+    /**
+     * Latencies recorded by the PDP when the traffic was captured.
+     */
+    private Map<String, Double> capturedLatencyMs;
+
+    /**
+     * Latencies of the replay. When the replay is timed, they are measured from the time
+     * each decision was due, thus include any wait for a worker.
+     */
+    private Map<String, Double> replayedLatencyMs;
+
+    /**
+     * The first mismatches, with the responses that differ.
+     */
+    private List<ReplayMismatch> mismatches;
+
+    private transient Histogram capturedHistogram;
+    private transient Histogram replayedHistogram;
+}
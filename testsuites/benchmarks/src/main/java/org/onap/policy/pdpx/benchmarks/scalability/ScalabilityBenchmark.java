@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.scalability;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdpx.benchmarks.BenchmarkApplication;
+import org.onap.policy.pdpx.benchmarks.PdpFixture;
+import org.onap.policy.pdpx.main.rest.provider.DecisionCoalescer;
+import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the decision throughput of a PDP in this JVM, through the
+ * {@link DecisionProvider} behind its REST API, with every application deployed and one
+ * of them holding the generated policies. Each benchmark thread waits for its decision
+ * to go through the decision executor, as a REST request thread would.
+ * {@link ScalabilityMain} runs it once per thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ScalabilityBenchmark {
+
+    /**
+     * Application whose decisions are measured; native decisions bypass the decision
+     * provider, thus are left out.
+     */
+    @Param({"GUARD", "MATCH", "MONITORING", "NAMING", "OPTIMIZATION"})
+    public BenchmarkApplication application;
+
+    @Param({"100", "1000"})
+    public int policyCount;
+
+    /**
+     * Whether identical requests evaluated at the same time share their evaluation.
+     */
+    @Param({"false", "true"})
+    public boolean coalesce;
+
+    /**
+     * Number of distinct requests the threads cycle through; the fewer there are, the
+     * more often threads evaluate identical ones at the same time.
+     */
+    @Param({"1024"})
+    public int distinctRequests;
+
+    private PdpFixture pdp;
+    private List<DecisionRequest> requests;
+
+    /**
+     * Sequence of the decisions made by a thread. Each thread starts at a random point,
+     * so that threads do not evaluate the same requests in lockstep.
+     */
+    @State(Scope.Thread)
+    public static class Sequence {
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = ThreadLocalRandom.current().nextInt(1 << 20);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        pdp = new PdpFixture(new CorpusParameters());
+
+        var generator = pdp.getGenerator();
+        var policies = generator.generate(application.getPolicyTypes(), policyCount);
+        var summary = pdp.deploy(policies);
+        if (summary.getFailedCount() > 0) {
+            throw new IllegalStateException("failed to deploy " + summary.getFailedCount() + " policies");
+        }
+        requests = generator.generateRequests(policies, distinctRequests, 1.0);
+
+        DecisionCoalescer.setCurrent(coalesce ? new DecisionCoalescer() : null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        DecisionCoalescer.setCurrent(null);
+        pdp.close();
+    }
+
+    @Benchmark
+    public DecisionResponse makeDecision(Sequence sequence) {
+        return new DecisionProvider().fetchDecisionAsync(requests.get(sequence.next++ % requests.size()), Map.of())
+                        .join();
+    }
+}
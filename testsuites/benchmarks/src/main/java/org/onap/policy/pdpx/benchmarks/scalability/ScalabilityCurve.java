@@ -0,0 +1,87 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.scalability;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * How decision throughput scales with the number of threads, for one combination of
+ * benchmark parameters.
+ */
+@Getter
+@Setter
+public class ScalabilityCurve {
+    private String application;
+    private int policyCount;
+    private boolean coalesce;
+    private int distinctRequests;
+
+    private List<ScalabilityPoint> points = new ArrayList<>();
+
+    private int peakThreads;
+    private double peakThroughputOpsPerMs;
+
+    /**
+     * Thread count beyond which more threads no longer raise throughput by the required
+     * gain, or zero if throughput kept rising up to the highest thread count measured.
+     */
+    private int flattensAtThreads;
+
+    /**
+     * Computes the speedup and efficiency of every point, relative to the point with
+     * the fewest threads scaled to a single thread, then the peak and the point where
+     * throughput flattens.
+     *
+     * @param minGain smallest relative gain in throughput, from one thread count to the
+     *        next, for throughput to be considered still rising
+     */
+    public void analyze(double minGain) {
+        points.sort(Comparator.comparingInt(ScalabilityPoint::getThreads));
+        if (points.isEmpty()) {
+            return;
+        }
+
+        var base = points.get(0);
+        var singleThread = base.getThroughputOpsPerMs() / base.getThreads();
+        for (var point : points) {
+            point.setSpeedup(point.getThroughputOpsPerMs() / singleThread);
+            point.setEfficiency(point.getSpeedup() / point.getThreads());
+        }
+
+        var peak = points.stream().max(Comparator.comparingDouble(ScalabilityPoint::getThroughputOpsPerMs))
+                        .orElseThrow();
+        peakThreads = peak.getThreads();
+        peakThroughputOpsPerMs = peak.getThroughputOpsPerMs();
+
+        flattensAtThreads = 0;
+        for (var index = 1; index < points.size(); ++index) {
+            var previous = points.get(index - 1);
+            if (points.get(index).getThroughputOpsPerMs() < previous.getThroughputOpsPerMs() * (1 + minGain)) {
+                flattensAtThreads = previous.getThreads();
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.scalability;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.openjdk.jmh.profile.AsyncProfiler;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.JavaFlightRecorderProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs {@link ScalabilityBenchmark} once per thread count, with the GC profiler for the
+ * bytes allocated per decision and, unless disabled, a profiler recording lock
+ * contention and allocation sites at every point. The JMH results of each run are
+ * written as JSON to "&lt;output&gt;-&lt;threads&gt;t.json", the profiles under
+ * "&lt;output&gt;-profiles/&lt;threads&gt;t", and the scaling of every combination of
+ * parameters to "&lt;output&gt;.json".
+ */
+public final class ScalabilityMain {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScalabilityMain.class);
+
+    /**
+     * System property holding a comma-separated list of the thread counts to use.
+     */
+    public static final String THREADS_PROPERTY = "scalability.threads";
+
+    /*
+     * System properties holding comma-separated lists of benchmark parameters,
+     * overriding the ones of the benchmark.
+     */
+    public static final String APPLICATIONS_PROPERTY = "scalability.applications";
+    public static final String POLICY_COUNTS_PROPERTY = "scalability.policyCounts";
+    public static final String COALESCE_PROPERTY = "scalability.coalesce";
+    public static final String DISTINCT_REQUESTS_PROPERTY = "scalability.distinctRequests";
+
+    /**
+     * System property holding the profiler of lock contention and allocations: "jfr",
+     * "async" or "none".
+     */
+    public static final String PROFILER_PROPERTY = "scalability.profiler";
+
+    /**
+     * System property holding the path of the async-profiler library, when it is not
+     * in one of the places JMH looks for it.
+     */
+    public static final String ASYNC_PROFILER_LIB_PROPERTY = "scalability.asyncProfilerLib";
+
+    /**
+     * System property holding the smallest relative gain in throughput, from one thread
+     * count to the next, for throughput to be considered still rising.
+     */
+    public static final String MIN_GAIN_PROPERTY = "scalability.minGain";
+
+    /**
+     * System property holding the prefix of the files to which results are written.
+     */
+    public static final String OUTPUT_PROPERTY = "scalability.output";
+
+    private static final String DEFAULT_THREADS = "1,2,4,8,16,32,64";
+    private static final String DEFAULT_PROFILER = "jfr";
+    private static final String DEFAULT_MIN_GAIN = "0.1";
+    private static final String DEFAULT_OUTPUT = "scalability";
+    private static final String[] ALLOCATION_METRICS = {"gc.alloc.rate.norm", "\u00b7gc.alloc.rate.norm"};
+
+    private ScalabilityMain() {
+        super();
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args not used
+     * @throws Exception if the benchmarks cannot be run or the results cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var threadCounts = Arrays.stream(System.getProperty(THREADS_PROPERTY, DEFAULT_THREADS).split(","))
+                        .map(String::trim).map(Integer::parseInt).toList();
+        var minGain = Double.parseDouble(System.getProperty(MIN_GAIN_PROPERTY, DEFAULT_MIN_GAIN));
+        var output = System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT);
+
+        Map<String, ScalabilityCurve> curves = new LinkedHashMap<>();
+        for (var threads : threadCounts) {
+            var options = new OptionsBuilder()
+                            .include(ScalabilityBenchmark.class.getName())
+                            .threads(threads)
+                            .addProfiler(GCProfiler.class)
+                            .resultFormat(ResultFormatType.JSON)
+                            .result(output + "-" + threads + "t.json");
+            addParam(options, "application", APPLICATIONS_PROPERTY);
+            addParam(options, "policyCount", POLICY_COUNTS_PROPERTY);
+            addParam(options, "coalesce", COALESCE_PROPERTY);
+            addParam(options, "distinctRequests", DISTINCT_REQUESTS_PROPERTY);
+            addProfiler(options, output + "-profiles/" + threads + "t");
+
+            for (var result : new Runner(options.build()).run()) {
+                add(curves, result);
+            }
+        }
+
+        List<ScalabilityCurve> results = new ArrayList<>(curves.values());
+        for (var curve : results) {
+            curve.analyze(minGain);
+            LOGGER.info("{} {} policies, coalesce {}: peak {} ops/ms at {} threads, flattens at {} threads",
+                            curve.getApplication(), curve.getPolicyCount(), curve.isCoalesce(),
+                            Math.round(curve.getPeakThroughputOpsPerMs()), curve.getPeakThreads(),
+                            curve.getFlattensAtThreads());
+        }
+
+        new StandardCoder().encode(new File(output + ".json"), results);
+    }
+
+    private static void addParam(ChainedOptionsBuilder options, String name, String property) {
+        var values = System.getProperty(property);
+        if (values != null) {
+            options.param(name, Arrays.stream(values.split(",")).map(String::trim).toArray(String[]::new));
+        }
+    }
+
+    private static void addProfiler(ChainedOptionsBuilder options, String dir) {
+        var profiler = System.getProperty(PROFILER_PROPERTY, DEFAULT_PROFILER);
+        switch (profiler) {
+            case "jfr" ->
+                // the "profile" settings record monitor contention, parking and allocation samples
+                options.addProfiler(JavaFlightRecorderProfiler.class, "dir=" + dir + ";configName=profile");
+            case "async" -> {
+                var lib = System.getProperty(ASYNC_PROFILER_LIB_PROPERTY);
+                options.addProfiler(AsyncProfiler.class, (lib == null ? "" : "libPath=" + lib + ";")
+                                + "event=cpu,alloc,lock;output=jfr;dir=" + dir);
+            }
+            case "none" -> {
+                // bytes per decision only
+            }
+            default -> throw new IllegalArgumentException("unknown profiler " + profiler);
+        }
+    }
+
+    private static void add(Map<String, ScalabilityCurve> curves, RunResult result) {
+        var params = result.getParams();
+        var key = params.getParam("application") + "/" + params.getParam("policyCount") + "/"
+                        + params.getParam("coalesce") + "/" + params.getParam("distinctRequests");
+
+        var curve = curves.computeIfAbsent(key, unused -> {
+            var newCurve = new ScalabilityCurve();
+            newCurve.setApplication(params.getParam("application"));
+            newCurve.setPolicyCount(Integer.parseInt(params.getParam("policyCount")));
+            newCurve.setCoalesce(Boolean.parseBoolean(params.getParam("coalesce")));
+            newCurve.setDistinctRequests(Integer.parseInt(params.getParam("distinctRequests")));
+            return newCurve;
+        });
+
+        var point = new ScalabilityPoint();
+        point.setThreads(params.getThreads());
+        point.setThroughputOpsPerMs(result.getPrimaryResult().getScore());
+        point.setThroughputErrorOpsPerMs(result.getPrimaryResult().getScoreError());
+        point.setAllocatedBytesPerOp(getAllocation(result.getSecondaryResults()));
+        curve.getPoints().add(point);
+    }
+
+    private static Double getAllocation(Map<String, Result> secondary) {
+        for (var metric : ALLOCATION_METRICS) {
+            var result = secondary.get(metric);
+            if (result != null) {
+                return result.getScore();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.scalability;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Decision throughput at one thread count.
+ */
+@Getter
+@Setter
+public class ScalabilityPoint {
+    private int threads;
+    private double throughputOpsPerMs;
+    private double throughputErrorOpsPerMs;
+
+    /**
+     * Throughput relative to that of a single thread.
+     */
+    private double speedup;
+
+    /**
+     * Speedup divided by the number of threads: one when throughput grows linearly.
+     */
+    private double efficiency;
+
+    /**
+     * Bytes allocated per decision, as reported by the GC profiler, or {@code null} if
+     * it reported none.
+     */
+    private Double allocatedBytesPerOp;
+}
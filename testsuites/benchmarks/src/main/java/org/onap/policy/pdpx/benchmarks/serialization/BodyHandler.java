@@ -0,0 +1,117 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.serialization;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import org.onap.policy.common.endpoints.http.server.YamlMessageBodyHandler;
+import org.onap.policy.common.gson.GsonMessageBodyHandler;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdpx.main.rest.serialization.XacmlJsonMessageBodyHandler;
+import org.onap.policy.pdpx.main.rest.serialization.XacmlXmlMessageBodyHandler;
+
+/**
+ * Message body handlers registered by the REST server, each with the media type it is
+ * selected for and the types of the requests it reads and the responses it writes.
+ */
+public enum BodyHandler {
+    GSON(new GsonMessageBodyHandler(), MediaType.APPLICATION_JSON_TYPE, DecisionRequest.class,
+                    DecisionResponse.class),
+    YAML(new YamlMessageBodyHandler(), new MediaType("application", "yaml"), DecisionRequest.class,
+                    DecisionResponse.class),
+    XACML_JSON(new XacmlJsonMessageBodyHandler(), MediaType.valueOf(XacmlJsonMessageBodyHandler.APPLICATION_XACML_JSON),
+                    Request.class, Response.class),
+    XACML_XML(new XacmlXmlMessageBodyHandler(), MediaType.valueOf(XacmlXmlMessageBodyHandler.APPLICATION_XACML_XML),
+                    Request.class, Response.class);
+
+    private static final Annotation[] NO_ANNOTATIONS = {};
+
+    private final MessageBodyReader<Object> reader;
+    private final MessageBodyWriter<Object> writer;
+    private final MediaType mediaType;
+    private final Class<Object> requestType;
+    private final Class<?> responseType;
+
+    @SuppressWarnings("unchecked")
+    BodyHandler(Object handler, MediaType mediaType, Class<?> requestType, Class<?> responseType) {
+        this.reader = (MessageBodyReader<Object>) handler;
+        this.writer = (MessageBodyWriter<Object>) handler;
+        this.mediaType = mediaType;
+        this.requestType = (Class<Object>) requestType;
+        this.responseType = responseType;
+    }
+
+    /**
+     * Determines if this handler reads and writes DecisionRequests and
+     * DecisionResponses, rather than XACML Requests and Responses.
+     *
+     * @return {@code true} if this handles decision requests and responses
+     */
+    public boolean isDecisionHandler() {
+        return (requestType == DecisionRequest.class);
+    }
+
+    /**
+     * Writes a body of any type. Only the decision handlers can write requests, thus
+     * this is how their request bodies are made.
+     *
+     * @param value object to be written
+     * @param stream stream to which it is written
+     * @throws IOException if the object cannot be written
+     */
+    public void writeBody(Object value, ByteArrayOutputStream stream) throws IOException {
+        writer.writeTo(value, value.getClass(), value.getClass(), NO_ANNOTATIONS, mediaType,
+                        new MultivaluedHashMap<>(), stream);
+    }
+
+    /**
+     * Reads a request, as the REST server would.
+     *
+     * @param body request body
+     * @return the request
+     * @throws IOException if the body cannot be read
+     */
+    public Object readRequest(byte[] body) throws IOException {
+        return reader.readFrom(requestType, requestType, NO_ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                        new ByteArrayInputStream(body));
+    }
+
+    /**
+     * Writes a response, as the REST server would.
+     *
+     * @param response response to be written
+     * @param stream stream to which it is written
+     * @throws IOException if the response cannot be written
+     */
+    public void writeResponse(Object response, ByteArrayOutputStream stream) throws IOException {
+        writer.writeTo(response, responseType, responseType, NO_ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                        stream);
+    }
+}
@@ -0,0 +1,199 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.serialization;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import com.att.research.xacml.std.dom.DOMRequest;
+import com.att.research.xacml.std.dom.DOMResponse;
+import com.att.research.xacml.std.dom.DOMStructureException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusPolicyType;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+
+/**
+ * Representative payloads, from a guard decision, whose response holds no more than a
+ * status, to a monitoring decision asking for, and returning, hundreds of policies. The
+ * XACML payloads grow alike: from a request with a single resource and a bare response,
+ * to a request with hundreds of resources and a response listing as many policies.
+ */
+public enum PayloadSize {
+    SMALL(CorpusPolicyType.GUARD_MIN_MAX, 0, 1),
+    MEDIUM(CorpusPolicyType.OPTIMIZATION_AFFINITY, 20, 20),
+    LARGE(CorpusPolicyType.MONITORING, 500, 500);
+
+    private static final String XACML_NAMESPACE = "urn:oasis:names:tc:xacml:3.0:core:schema:wd-17";
+    private static final String STRING_TYPE = "http://www.w3.org/2001/XMLSchema#string";
+    private static final String POLICY_PREFIX = "urn:onap:policy:benchmark:policy-";
+
+    private final CorpusPolicyType policyType;
+    private final int embeddedPolicies;
+    private final int xacmlResources;
+
+    PayloadSize(CorpusPolicyType policyType, int embeddedPolicies, int xacmlResources) {
+        this.policyType = policyType;
+        this.embeddedPolicies = embeddedPolicies;
+        this.xacmlResources = xacmlResources;
+    }
+
+    /**
+     * Makes a decision request. The large one asks for each of the policies returned by
+     * the large response, by identifier.
+     *
+     * @return a new decision request
+     */
+    public DecisionRequest decisionRequest() {
+        var generator = new PolicyCorpusGenerator(new CorpusParameters());
+        if (this != LARGE) {
+            return generator.generateRequests(List.of(generator.generate(policyType, 0L)), 1, 1.0).get(0);
+        }
+
+        var request = new DecisionRequest();
+        request.setOnapName("DCAE");
+        request.setOnapComponent("PolicyHandler");
+        request.setOnapInstance("622431a4-9dea-4eae-b443-3b2164639c64");
+        request.setRequestId(UUID.nameUUIDFromBytes(name().getBytes(StandardCharsets.UTF_8)).toString());
+        request.setAction("configure");
+        request.setResource(new LinkedHashMap<>(Map.of("policy-id",
+                        policies(generator).stream().map(ToscaPolicy::getName).toList())));
+        return request;
+    }
+
+    /**
+     * Makes a decision response, embedding policies as the monitoring and optimization
+     * applications do.
+     *
+     * @return a new decision response
+     */
+    public DecisionResponse decisionResponse() {
+        var response = new DecisionResponse();
+        response.setStatus("Permit");
+        if (embeddedPolicies == 0) {
+            return response;
+        }
+
+        Map<String, Object> embedded = new LinkedHashMap<>();
+        for (var policy : policies(new PolicyCorpusGenerator(new CorpusParameters()))) {
+            Map<String, Object> contents = new LinkedHashMap<>();
+            contents.put("type", policy.getType());
+            contents.put("type_version", policy.getTypeVersion());
+            contents.put("properties", policy.getProperties());
+            contents.put("name", policy.getName());
+            contents.put("version", policy.getVersion());
+            contents.put("metadata", policy.getMetadata());
+            embedded.put(policy.getName(), contents);
+        }
+        response.setPolicies(embedded);
+        return response;
+    }
+
+    /**
+     * Makes a XACML request in XML, with a resource identifier per resource.
+     *
+     * @return the request
+     */
+    public String xacmlRequestXml() {
+        var resources = IntStream.range(0, xacmlResources)
+                        .mapToObj(index -> "<AttributeValue DataType=\"" + STRING_TYPE + "\">resource-" + index
+                                        + "</AttributeValue>")
+                        .collect(Collectors.joining("\n"));
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Request xmlns="%s" ReturnPolicyIdList="%b" CombinedDecision="false">
+              <Attributes Category="urn:oasis:names:tc:xacml:1.0:subject-category:access-subject">
+                <Attribute IncludeInResult="false" AttributeId="urn:oasis:names:tc:xacml:1.0:subject:subject-id">
+                  <AttributeValue DataType="%s">onap</AttributeValue>
+                </Attribute>
+              </Attributes>
+              <Attributes Category="urn:oasis:names:tc:xacml:3.0:attribute-category:resource">
+                <Attribute IncludeInResult="false" AttributeId="urn:oasis:names:tc:xacml:1.0:resource:resource-id">
+                  %s
+                </Attribute>
+              </Attributes>
+              <Attributes Category="urn:oasis:names:tc:xacml:3.0:attribute-category:action">
+                <Attribute IncludeInResult="false" AttributeId="urn:oasis:names:tc:xacml:1.0:action:action-id">
+                  <AttributeValue DataType="%s">act</AttributeValue>
+                </Attribute>
+              </Attributes>
+            </Request>
+            """.formatted(XACML_NAMESPACE, xacmlResources > 1, STRING_TYPE, resources, STRING_TYPE);
+    }
+
+    /**
+     * Makes a XACML request.
+     *
+     * @return a new XACML request
+     */
+    public Request xacmlRequest() {
+        try {
+            return DOMRequest.load(xacmlRequestXml());
+        } catch (DOMStructureException e) {
+            throw new IllegalStateException("cannot make XACML request", e);
+        }
+    }
+
+    /**
+     * Makes a XACML response, permitting the request and listing the policies that
+     * applied to it.
+     *
+     * @return a new XACML response
+     */
+    public Response xacmlResponse() {
+        var references = IntStream.range(0, xacmlResources)
+                        .mapToObj(index -> "<PolicyIdReference Version=\"1.0.0\">" + POLICY_PREFIX + index
+                                        + "</PolicyIdReference>")
+                        .collect(Collectors.joining("\n"));
+        var xml = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Response xmlns="%s">
+              <Result>
+                <Decision>Permit</Decision>
+                <Status>
+                  <StatusCode Value="urn:oasis:names:tc:xacml:1.0:status:ok"/>
+                </Status>
+                <PolicyIdentifierList>
+                  %s
+                </PolicyIdentifierList>
+              </Result>
+            </Response>
+            """.formatted(XACML_NAMESPACE, references);
+
+        try {
+            return DOMResponse.load(xml);
+        } catch (DOMStructureException e) {
+            throw new IllegalStateException("cannot make XACML response", e);
+        }
+    }
+
+    private List<ToscaPolicy> policies(PolicyCorpusGenerator generator) {
+        return generator.generate(policyType, embeddedPolicies);
+    }
+}
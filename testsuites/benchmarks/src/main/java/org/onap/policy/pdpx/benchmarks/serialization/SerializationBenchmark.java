@@ -0,0 +1,114 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.serialization;
+
+import com.att.research.xacml.std.json.JsonRequestTranslator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures each message body handler registered by the REST server, reading a request
+ * body and writing a response body as the server does for a decision. The Gson and YAML
+ * handlers carry decision requests and responses, the XACML ones XACML requests and
+ * responses. Run with "-prof gc" for the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SerializationBenchmark {
+
+    @Param
+    public BodyHandler handler;
+
+    @Param
+    public PayloadSize size;
+
+    private byte[] requestBody;
+    private Object response;
+    private ByteArrayOutputStream responseBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (handler.isDecisionHandler()) {
+            var stream = new ByteArrayOutputStream();
+            handler.writeBody(size.decisionRequest(), stream);
+            requestBody = stream.toByteArray();
+            response = size.decisionResponse();
+
+        } else if (handler == BodyHandler.XACML_JSON) {
+            requestBody = toBytes(JsonRequestTranslator.toString(size.xacmlRequest(), false));
+            response = size.xacmlResponse();
+
+        } else {
+            requestBody = toBytes(size.xacmlRequestXml());
+            response = size.xacmlResponse();
+        }
+
+        // sized to hold the response, so that growing it is not measured
+        responseBody = new ByteArrayOutputStream();
+        handler.writeResponse(response, responseBody);
+    }
+
+    @Benchmark
+    public Object readRequest() throws IOException {
+        return handler.readRequest(requestBody);
+    }
+
+    @Benchmark
+    public int writeResponse() throws IOException {
+        responseBody.reset();
+        handler.writeResponse(response, responseBody);
+        return responseBody.size();
+    }
+
+    /**
+     * Reads the request and writes the response, as the server does for a decision.
+     */
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) throws IOException {
+        blackhole.consume(handler.readRequest(requestBody));
+        responseBody.reset();
+        handler.writeResponse(response, responseBody);
+        blackhole.consume(responseBody.size());
+    }
+
+    private static byte[] toBytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
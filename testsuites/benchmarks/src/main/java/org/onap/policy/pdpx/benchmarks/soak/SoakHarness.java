@@ -0,0 +1,287 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.soak;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+import org.onap.policy.pdpx.benchmarks.BenchmarkApplication;
+import org.onap.policy.pdpx.benchmarks.HeapSampler;
+import org.onap.policy.pdpx.benchmarks.PdpFixture;
+import org.onap.policy.pdpx.main.rest.provider.DecisionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a PDP in this JVM for a long time, making decisions on several threads while
+ * policies are continuously deployed and undeployed through its update publisher, as
+ * PAP would. A base set of policies stays deployed throughout; on top of it, every
+ * update replaces a batch of policies with a batch that was never deployed before, so
+ * that anything kept per policy, policy type or engine and never released adds up.
+ * Decisions go through the decision executor, as they would over REST. The retained heap
+ * and the number of live threads are sampled at regular intervals.
+ */
+public class SoakHarness {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoakHarness.class);
+
+    private static final int REQUEST_COUNT = 1024;
+    private static final double HIT_RATIO = 0.9;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+    private static final long STOP_TIMEOUT_SEC = 60;
+
+    private final List<BenchmarkApplication> applications;
+    private final int basePolicyCount;
+    private final int churnSize;
+    private final long churnIntervalMs;
+    private final int decisionThreads;
+
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder decisionErrors = new LongAdder();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong failedPolicies = new AtomicLong();
+    private final AtomicLong nextIndex = new AtomicLong();
+    private final Map<BenchmarkApplication, List<ToscaPolicy>> churned = new EnumMap<>(BenchmarkApplication.class);
+    private volatile boolean running = true;
+
+    /**
+     * Constructs the object.
+     *
+     * @param applications applications whose policies are deployed; native is not
+     *        supported
+     * @param basePolicyCount number of policies of each application that stay deployed
+     * @param churnSize number of policies replaced by each update
+     * @param churnIntervalMs time between the end of an update and the start of the next
+     * @param decisionThreads number of threads making decisions
+     */
+    public SoakHarness(List<BenchmarkApplication> applications, int basePolicyCount, int churnSize,
+                    long churnIntervalMs, int decisionThreads) {
+        if (applications.contains(BenchmarkApplication.NATIVE)) {
+            throw new IllegalArgumentException("native decisions are not supported");
+        }
+        this.applications = applications;
+        this.basePolicyCount = basePolicyCount;
+        this.churnSize = churnSize;
+        this.churnIntervalMs = churnIntervalMs;
+        this.decisionThreads = decisionThreads;
+    }
+
+    /**
+     * Runs the soak.
+     *
+     * @param duration how long to run, warmup included
+     * @param warmup time during which samples are taken, but not judged
+     * @param sampleInterval time between samples
+     * @param onSample invoked with the report after every sample, so that a run that is
+     *        interrupted still leaves its samples behind
+     * @return the report, not judged yet
+     * @throws Exception if the PDP cannot be set up
+     */
+    public SoakReport run(Duration duration, Duration warmup, Duration sampleInterval, Consumer<SoakReport> onSample)
+                    throws Exception {
+        var report = new SoakReport();
+        report.setApplications(applications.stream().map(BenchmarkApplication::getApplicationName).toList());
+        report.setDurationMin(duration.toSeconds() / 60.0);
+        report.setWarmupMin(warmup.toSeconds() / 60.0);
+        report.setBasePolicyCount(basePolicyCount);
+        report.setChurnSize(churnSize);
+        report.setChurnIntervalMs(churnIntervalMs);
+        report.setDecisionThreads(decisionThreads);
+
+        try (var pdp = new PdpFixture(new CorpusParameters())) {
+            var requests = deployBase(pdp);
+
+            var churner = Executors.newSingleThreadScheduledExecutor();
+            var deciders = Executors.newFixedThreadPool(decisionThreads);
+            try {
+                churner.scheduleWithFixedDelay(() -> churn(pdp), churnIntervalMs, churnIntervalMs,
+                                TimeUnit.MILLISECONDS);
+                for (var thread = 0; thread < decisionThreads; ++thread) {
+                    var offset = thread * (requests.size() / decisionThreads);
+                    deciders.execute(() -> decide(requests, offset));
+                }
+
+                var start = System.nanoTime();
+                var end = start + duration.toNanos();
+                for (var due = start; due < end; due += sampleInterval.toNanos()) {
+                    TimeUnit.NANOSECONDS.sleep(Math.max(0, due - System.nanoTime()));
+                    report.getSamples().add(sample(pdp, (System.nanoTime() - start) / 1e9));
+                    onSample.accept(report);
+                }
+
+            } finally {
+                running = false;
+                churner.shutdown();
+                deciders.shutdown();
+                churner.awaitTermination(STOP_TIMEOUT_SEC, TimeUnit.SECONDS);
+                deciders.awaitTermination(STOP_TIMEOUT_SEC, TimeUnit.SECONDS);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Judges a report: the retained heap must not grow faster than a threshold, nor may
+     * the number of live threads, over the samples taken after the warmup.
+     *
+     * @param report report to be judged
+     * @param maxHeapGrowthBytesPerHour highest acceptable heap growth
+     * @param maxThreadGrowth highest acceptable number of extra threads
+     */
+    public static void judge(SoakReport report, long maxHeapGrowthBytesPerHour, int maxThreadGrowth) {
+        var warmupSec = report.getWarmupMin() * 60;
+        var samples = report.getSamples().stream().filter(sample -> sample.getElapsedSec() >= warmupSec).toList();
+
+        report.getFailures().clear();
+        if (samples.size() < 3) {
+            report.getFailures().add("only " + samples.size() + " samples were taken after the warmup");
+            report.setPassed(false);
+            return;
+        }
+
+        report.setHeapGrowthBytesPerHour(slope(samples) * SECONDS_PER_HOUR);
+        if (report.getHeapGrowthBytesPerHour() > maxHeapGrowthBytesPerHour) {
+            report.getFailures().add(String.format("retained heap grew by %.0f bytes/hour, more than %d",
+                            report.getHeapGrowthBytesPerHour(), maxHeapGrowthBytesPerHour));
+        }
+
+        report.setThreadGrowth(samples.get(samples.size() - 1).getThreadCount() - samples.get(0).getThreadCount());
+        if (report.getThreadGrowth() > maxThreadGrowth) {
+            report.getFailures().add(String.format("%d threads were added, more than %d", report.getThreadGrowth(),
+                            maxThreadGrowth));
+        }
+
+        report.setPassed(report.getFailures().isEmpty());
+    }
+
+    private List<DecisionRequest> deployBase(PdpFixture pdp) {
+        var generator = pdp.getGenerator();
+        List<ToscaPolicy> policies = new ArrayList<>();
+        List<DecisionRequest> requests = new ArrayList<>();
+        for (var application : applications) {
+            var base = generator.generate(application.getPolicyTypes(), basePolicyCount);
+            policies.addAll(base);
+            requests.addAll(generator.generateRequests(base, REQUEST_COUNT, HIT_RATIO));
+            churned.put(application, List.of());
+        }
+
+        var summary = pdp.deploy(policies);
+        if (summary.getFailedCount() > 0) {
+            throw new IllegalStateException("failed to deploy " + summary.getFailedCount() + " policies");
+        }
+
+        //
+        // churned policies follow on from the base ones, thus are new to the PDP
+        //
+        nextIndex.set(basePolicyCount);
+
+        //
+        // interleave the applications, so that every thread makes decisions for each of them
+        //
+        List<DecisionRequest> mixed = new ArrayList<>(requests.size());
+        for (var index = 0; index < REQUEST_COUNT; ++index) {
+            for (var app = 0; app < applications.size(); ++app) {
+                mixed.add(requests.get(app * REQUEST_COUNT + index));
+            }
+        }
+        return mixed;
+    }
+
+    private void churn(PdpFixture pdp) {
+        try {
+            var application = applications.get((int) (updates.get() % applications.size()));
+            var types = application.getPolicyTypes();
+            List<ToscaPolicy> deploy = new ArrayList<>(churnSize);
+            for (var count = 0; count < churnSize; ++count) {
+                var index = nextIndex.getAndIncrement();
+                deploy.add(pdp.getGenerator().generate(types.get((int) (index % types.size())), index));
+            }
+
+            var summary = pdp.update(deploy, churned.get(application));
+            churned.put(application, deploy);
+            updates.incrementAndGet();
+            failedPolicies.addAndGet(summary.getFailedCount());
+
+        } catch (RuntimeException e) {
+            LOGGER.error("update failed", e);
+            updates.incrementAndGet();
+            failedPolicies.addAndGet(churnSize);
+        }
+    }
+
+    private void decide(List<DecisionRequest> requests, int offset) {
+        var provider = new DecisionProvider();
+        for (var index = offset; running; ++index) {
+            try {
+                provider.fetchDecisionAsync(requests.get(index % requests.size()), Map.of()).join();
+                decisions.increment();
+            } catch (RuntimeException e) {
+                // a failed decision is counted, and the thread carries on
+                decisionErrors.increment();
+            }
+        }
+    }
+
+    private SoakSample sample(PdpFixture pdp, double elapsedSec) {
+        var sample = new SoakSample();
+        sample.setElapsedSec(elapsedSec);
+        sample.setRetainedHeapBytes(HeapSampler.retainedHeap());
+        sample.setThreadCount(ManagementFactory.getThreadMXBean().getThreadCount());
+        sample.setDeployedPolicies(pdp.getApplicationManager().getPolicyCount());
+        sample.setDecisions(decisions.sum());
+        sample.setDecisionErrors(decisionErrors.sum());
+        sample.setUpdates(updates.get());
+        sample.setFailedPolicies(failedPolicies.get());
+
+        LOGGER.info("{} s: retained heap {} bytes, {} threads, {} policies, {} decisions ({} errors), {} updates",
+                        Math.round(elapsedSec), sample.getRetainedHeapBytes(), sample.getThreadCount(),
+                        sample.getDeployedPolicies(), sample.getDecisions(), sample.getDecisionErrors(),
+                        sample.getUpdates());
+        return sample;
+    }
+
+    /**
+     * Computes the slope of the retained heap over time, by least squares.
+     */
+    static double slope(List<SoakSample> samples) {
+        var meanTime = samples.stream().mapToDouble(SoakSample::getElapsedSec).average().orElse(0);
+        var meanHeap = samples.stream().mapToDouble(SoakSample::getRetainedHeapBytes).average().orElse(0);
+
+        double covariance = 0;
+        double variance = 0;
+        for (var sample : samples) {
+            var time = sample.getElapsedSec() - meanTime;
+            covariance += time * (sample.getRetainedHeapBytes() - meanHeap);
+            variance += time * time;
+        }
+        return (variance == 0 ? 0 : covariance / variance);
+    }
+}
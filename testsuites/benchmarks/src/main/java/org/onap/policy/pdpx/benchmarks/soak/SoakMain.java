@@ -0,0 +1,152 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.soak;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.pdpx.benchmarks.BenchmarkApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Soaks a PDP in this JVM under decisions and deployment churn, writes the report as
+ * JSON, and exits with a non-zero status if the retained heap or the number of threads
+ * trended upwards beyond their thresholds.
+ */
+public final class SoakMain {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoakMain.class);
+
+    /**
+     * System property holding the duration of the run, warmup included, in minutes.
+     */
+    public static final String DURATION_PROPERTY = "soak.duration";
+
+    /**
+     * System property holding the duration of the warmup, in minutes.
+     */
+    public static final String WARMUP_PROPERTY = "soak.warmup";
+
+    /**
+     * System property holding the time between samples, in seconds.
+     */
+    public static final String SAMPLE_INTERVAL_PROPERTY = "soak.sampleInterval";
+
+    /**
+     * System property holding a comma-separated list of the applications to deploy to.
+     */
+    public static final String APPLICATIONS_PROPERTY = "soak.applications";
+
+    /**
+     * System property holding the number of policies of each application that stay
+     * deployed.
+     */
+    public static final String POLICY_COUNT_PROPERTY = "soak.policyCount";
+
+    /**
+     * System property holding the number of policies replaced by each update.
+     */
+    public static final String CHURN_SIZE_PROPERTY = "soak.churnSize";
+
+    /**
+     * System property holding the time between updates, in milliseconds.
+     */
+    public static final String CHURN_INTERVAL_PROPERTY = "soak.churnInterval";
+
+    public static final String THREADS_PROPERTY = "soak.threads";
+
+    /**
+     * System property holding the highest acceptable growth of the retained heap, in
+     * megabytes per hour.
+     */
+    public static final String MAX_HEAP_GROWTH_PROPERTY = "soak.maxHeapGrowth";
+
+    /**
+     * System property holding the highest acceptable number of extra threads.
+     */
+    public static final String MAX_THREAD_GROWTH_PROPERTY = "soak.maxThreadGrowth";
+
+    /**
+     * System property holding the name of the file to which the report is written.
+     */
+    public static final String OUTPUT_PROPERTY = "soak.output";
+
+    private static final int DEFAULT_DURATION = 240;
+    private static final int DEFAULT_WARMUP = 15;
+    private static final int DEFAULT_SAMPLE_INTERVAL = 60;
+    private static final String DEFAULT_APPLICATIONS = "MONITORING,GUARD,OPTIMIZATION";
+    private static final int DEFAULT_POLICY_COUNT = 1000;
+    private static final int DEFAULT_CHURN_SIZE = 10;
+    private static final int DEFAULT_CHURN_INTERVAL = 500;
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_MAX_HEAP_GROWTH = 8;
+    private static final int DEFAULT_MAX_THREAD_GROWTH = 2;
+    private static final String DEFAULT_OUTPUT = "soak.json";
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private SoakMain() {
+        super();
+    }
+
+    /**
+     * Runs the soak.
+     *
+     * @param args not used
+     * @throws Exception if the PDP cannot be set up or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        var applications = Arrays.stream(System.getProperty(APPLICATIONS_PROPERTY, DEFAULT_APPLICATIONS).split(","))
+                        .map(String::trim).map(BenchmarkApplication::valueOf).toList();
+        var output = new File(System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT));
+        var coder = new StandardCoder();
+
+        var harness = new SoakHarness(applications, Integer.getInteger(POLICY_COUNT_PROPERTY, DEFAULT_POLICY_COUNT),
+                        Integer.getInteger(CHURN_SIZE_PROPERTY, DEFAULT_CHURN_SIZE),
+                        Integer.getInteger(CHURN_INTERVAL_PROPERTY, DEFAULT_CHURN_INTERVAL),
+                        Integer.getInteger(THREADS_PROPERTY, DEFAULT_THREADS));
+
+        var report = harness.run(Duration.ofMinutes(Integer.getInteger(DURATION_PROPERTY, DEFAULT_DURATION)),
+                        Duration.ofMinutes(Integer.getInteger(WARMUP_PROPERTY, DEFAULT_WARMUP)),
+                        Duration.ofSeconds(Integer.getInteger(SAMPLE_INTERVAL_PROPERTY, DEFAULT_SAMPLE_INTERVAL)),
+                        partial -> write(coder, output, partial));
+
+        SoakHarness.judge(report, Integer.getInteger(MAX_HEAP_GROWTH_PROPERTY, DEFAULT_MAX_HEAP_GROWTH) * BYTES_PER_MB,
+                        Integer.getInteger(MAX_THREAD_GROWTH_PROPERTY, DEFAULT_MAX_THREAD_GROWTH));
+        coder.encode(output, report);
+
+        if (!report.isPassed()) {
+            LOGGER.error("soak failed: {}", report.getFailures());
+            System.exit(1);
+        }
+        LOGGER.info("soak passed: retained heap grew by {} bytes/hour, {} threads were added",
+                        Math.round(report.getHeapGrowthBytesPerHour()), report.getThreadGrowth());
+    }
+
+    private static void write(StandardCoder coder, File output, SoakReport report) {
+        try {
+            coder.encode(output, report);
+        } catch (CoderException e) {
+            LOGGER.warn("cannot write {}", output, e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Samples taken during a soak run, and the verdict drawn from those taken once the run
+ * was warmed up.
+ */
+@Getter
+@Setter
+public class SoakReport {
+    private List<String> applications;
+    private double durationMin;
+    private double warmupMin;
+    private int basePolicyCount;
+    private int churnSize;
+    private long churnIntervalMs;
+    private int decisionThreads;
+
+    private List<SoakSample> samples = new ArrayList<>();
+
+    /**
+     * Slope of the retained heap over the samples taken after the warmup, by least
+     * squares.
+     */
+    private double heapGrowthBytesPerHour;
+
+    /**
+     * Threads alive at the last sample, less those alive at the first one after the
+     * warmup.
+     */
+    private int threadGrowth;
+
+    private boolean passed;
+    private List<String> failures = new ArrayList<>();
+}
@@ -0,0 +1,53 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.soak;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * State of the PDP at one point of a soak run.
+ */
+@Getter
+@Setter
+public class SoakSample {
+
+    /**
+     * Time since the run started, in seconds.
+     */
+    private double elapsedSec;
+
+    /**
+     * Heap used after several full collections.
+     */
+    private long retainedHeapBytes;
+
+    private int threadCount;
+    private long deployedPolicies;
+
+    /*
+     * Totals since the run started.
+     */
+    private long decisions;
+    private long decisionErrors;
+    private long updates;
+    private long failedPolicies;
+}
@@ -0,0 +1,124 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the statistics manager under contention: every thread counts decisions, as
+ * the decision threads do, in {@link #countDecision(Caller)}, while in the "report"
+ * group one thread also takes the statistics report, as /statistics and the
+ * heartbeats do. The lock-free manager is compared with the synchronized one it
+ * replaced, {@link SynchronizedStatistics}. Choose the number of threads with "-t"
+ * for the first, and with "-tg" for the second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class StatisticsBenchmark {
+
+    /**
+     * Whether the lock-free manager or the synchronized baseline is measured.
+     */
+    @Param({"true", "false"})
+    public boolean lockFree;
+
+    /**
+     * Number of applications the threads make decisions for.
+     */
+    @Param({"1", "4"})
+    public int applications;
+
+    private final AtomicInteger callers = new AtomicInteger();
+    private XacmlPdpStatisticsManager manager;
+    private SynchronizedStatistics baseline;
+
+    /**
+     * Application a thread makes decisions for; the threads are spread evenly over the
+     * applications.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+        private String application;
+
+        @Setup(Level.Trial)
+        public void setUp(StatisticsBenchmark benchmark) {
+            application = "app-" + (benchmark.callers.getAndIncrement() % benchmark.applications);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new XacmlPdpStatisticsManager();
+        baseline = new SynchronizedStatistics();
+    }
+
+    /**
+     * Counts a decision, as the decision provider does once per response.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void countDecision(Caller caller) {
+        count(caller);
+    }
+
+    @Benchmark
+    @Group("report")
+    @GroupThreads(7)
+    public void countDecisions(Caller caller) {
+        count(caller);
+    }
+
+    @Benchmark
+    @Group("report")
+    @GroupThreads(1)
+    public Object takeReport() {
+        return (lockFree ? manager.snapshot() : baseline.report());
+    }
+
+    private void count(Caller caller) {
+        if (lockFree) {
+            manager.getApplicationStatistics(caller.application).updatePermitDecisionsCount();
+        } else {
+            baseline.updatePermitDecisionsCount(caller.application);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.statistics;
+
+import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.onap.policy.common.utils.resources.PrometheusUtils;
+import org.onap.policy.pdpx.main.rest.XacmlPdpStatisticsManager;
+
+/**
+ * Decision counters of the statistics manager as they were before they were made
+ * lock-free: plain fields and a map of maps, guarded by a single lock, which every
+ * decision takes. Its Prometheus counter is registered in a registry of its own, so
+ * that it does not clash with the manager's.
+ */
+public class SynchronizedStatistics {
+    private final Counter decisionsCounter =
+        Counter.builder()
+            .name(XacmlPdpStatisticsManager.PROMETHEUS_NAMESPACE + "_baseline_policy_decisions")
+            .labelNames(XacmlPdpStatisticsManager.APPLICATION, PrometheusUtils.STATUS_METRIC_LABEL)
+            .help(XacmlPdpStatisticsManager.POLICY_DECISIONS_HELP)
+            .register(new PrometheusRegistry());
+
+    private long totalPolicyTypesCount;
+    private long totalPoliciesCount;
+    private long errorCount;
+    private long permitDecisionsCount;
+    private long denyDecisionsCount;
+    private long deploySuccessCount;
+    private long deployFailureCount;
+    private long undeploySuccessCount;
+    private long undeployFailureCount;
+    private long indeterminantDecisionsCount;
+    private long notApplicableDecisionsCount;
+    private final Map<String, Map<String, Integer>> applicationMetrics = new HashMap<>();
+
+    /**
+     * Counts a permit decision.
+     *
+     * @param appName application that made the decision
+     */
+    public synchronized void updatePermitDecisionsCount(String appName) {
+        decisionsCounter.labelValues(appName, XacmlPdpStatisticsManager.PERMIT_OPERATION).inc();
+        updateApplicationMetrics(appName, "permit_decisions_count");
+        ++permitDecisionsCount;
+    }
+
+    /**
+     * Reads the statistics as the statistics report did, one locked getter at a time.
+     * The original handed out its live map of application metrics, which was then
+     * serialized while decisions updated it; a copy is taken instead.
+     *
+     * @return the values of the report
+     */
+    public long[] report() {
+        return new long[] {
+            getTotalPolicyTypesCount(), getTotalPoliciesCount(), getErrorCount(), getPermitDecisionsCount(),
+            getDenyDecisionsCount(), getDeploySuccessCount(), getDeployFailureCount(), getUndeploySuccessCount(),
+            getUndeployFailureCount(), getIndeterminantDecisionsCount(), getNotApplicableDecisionsCount(),
+            getApplicationMetrics().size()
+        };
+    }
+
+    private synchronized void updateApplicationMetrics(String appName, String updateMethod) {
+        if (!applicationMetrics.containsKey(appName)) {
+            Map<String, Integer> appMap = new HashMap<>();
+            appMap.put(updateMethod, 1);
+            applicationMetrics.put(appName, appMap);
+        } else {
+            int newTotal = applicationMetrics.get(appName).getOrDefault(updateMethod, 0) + 1;
+            applicationMetrics.get(appName).put(updateMethod, newTotal);
+        }
+    }
+
+    private synchronized long getTotalPolicyTypesCount() {
+        return totalPolicyTypesCount;
+    }
+
+    private synchronized long getTotalPoliciesCount() {
+        return totalPoliciesCount;
+    }
+
+    private synchronized long getErrorCount() {
+        return errorCount;
+    }
+
+    private synchronized long getPermitDecisionsCount() {
+        return permitDecisionsCount;
+    }
+
+    private synchronized long getDenyDecisionsCount() {
+        return denyDecisionsCount;
+    }
+
+    private synchronized long getDeploySuccessCount() {
+        return deploySuccessCount;
+    }
+
+    private synchronized long getDeployFailureCount() {
+        return deployFailureCount;
+    }
+
+    private synchronized long getUndeploySuccessCount() {
+        return undeploySuccessCount;
+    }
+
+    private synchronized long getUndeployFailureCount() {
+        return undeployFailureCount;
+    }
+
+    private synchronized long getIndeterminantDecisionsCount() {
+        return indeterminantDecisionsCount;
+    }
+
+    private synchronized long getNotApplicableDecisionsCount() {
+        return notApplicableDecisionsCount;
+    }
+
+    private synchronized Map<String, Map<String, Integer>> getApplicationMetrics() {
+        Map<String, Map<String, Integer>> metrics = new HashMap<>();
+        applicationMetrics.forEach((appName, appMap) -> metrics.put(appName, new HashMap<>(appMap)));
+        return metrics;
+    }
+}
@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.translation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.onap.policy.common.endpoints.http.client.HttpClient;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
+import org.onap.policy.pdp.xacml.application.common.std.StdCombinedPolicyResultsTranslator;
+import org.onap.policy.pdp.xacml.application.common.std.StdMatchableTranslator;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusPolicyType;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+import org.onap.policy.pdpx.benchmarks.BenchmarkApplication;
+import org.onap.policy.xacml.pdp.application.guard.CoordinationGuardTranslator;
+import org.onap.policy.xacml.pdp.application.guard.GuardTranslator;
+import org.onap.policy.xacml.pdp.application.nativ.NativePdpApplicationTranslator;
+import org.onap.policy.xacml.pdp.application.optimization.OptimizationPdpApplicationTranslator;
+
+/**
+ * Translators that can be benchmarked, along with the application whose policies they
+ * convert.
+ */
+public enum BenchmarkTranslator {
+    GUARD(BenchmarkApplication.GUARD, true, GuardTranslator::new),
+
+    /**
+     * Converts coordination policies, which the corpus generator does not produce. The
+     * guard application has decisions on them converted by {@link #GUARD}.
+     */
+    COORDINATION(BenchmarkApplication.GUARD, false, CoordinationGuardTranslator::new) {
+        @Override
+        public List<ToscaPolicy> policies(PolicyCorpusGenerator generator, int count) {
+            List<ToscaPolicy> policies = new ArrayList<>(count);
+            for (var index = 0; index < count; ++index) {
+                var policy = new ToscaPolicy();
+                policy.setName(PolicyCorpusGenerator.POLICY_PREFIX + "coordination." + index);
+                policy.setVersion(CorpusPolicyType.VERSION);
+                policy.setType(COORDINATION_POLICY_TYPE);
+                policy.setTypeVersion(CorpusPolicyType.VERSION);
+                policy.setProperties(Map.of(CONTROL_LOOP,
+                                List.of(controlLoop(index, "first"), controlLoop(index, "second"))));
+                policies.add(policy);
+            }
+            return policies;
+        }
+
+        @Override
+        public Map<String, String> policyTypes(PolicyCorpusGenerator generator) {
+            return Map.of();
+        }
+    },
+
+    MATCH(BenchmarkApplication.MATCH, true, StdMatchableTranslator::new),
+    MONITORING(BenchmarkApplication.MONITORING, true, StdCombinedPolicyResultsTranslator::new),
+    NAMING(BenchmarkApplication.NAMING, true, StdCombinedPolicyResultsTranslator::new),
+
+    /**
+     * Converts native policies; native decisions are made on XACML requests, thus are
+     * not converted.
+     */
+    NATIVE(BenchmarkApplication.NATIVE, false, NativePdpApplicationTranslator::new),
+
+    OPTIMIZATION(BenchmarkApplication.OPTIMIZATION, true, OptimizationPdpApplicationTranslator::new);
+
+    public static final String COORDINATION_POLICY_TYPE =
+                    "onap.policies.controlloop.guard.coordination.FirstBlocksSecond";
+    private static final String CONTROL_LOOP = "controlLoop";
+
+    private final BenchmarkApplication application;
+    private final boolean decisionTranslator;
+    private final Supplier<ToscaPolicyTranslator> factory;
+
+    BenchmarkTranslator(BenchmarkApplication application, boolean decisionTranslator,
+                    Supplier<ToscaPolicyTranslator> factory) {
+        this.application = application;
+        this.decisionTranslator = decisionTranslator;
+        this.factory = factory;
+    }
+
+    public BenchmarkApplication getApplication() {
+        return application;
+    }
+
+    /**
+     * Determines whether the translator converts the application's decision requests
+     * and responses.
+     *
+     * @return {@code true} if it converts decisions, {@code false} if it only converts
+     *         policies
+     */
+    public boolean isDecisionTranslator() {
+        return decisionTranslator;
+    }
+
+    /**
+     * Creates an instance of the translator. Matchable translators look for policy types
+     * in the data path, and pull the missing ones from the policy API.
+     *
+     * @param dataPath data path of the application
+     * @param apiClient client of the policy API
+     * @return a new translator
+     */
+    public ToscaPolicyTranslator create(Path dataPath, HttpClient apiClient) {
+        var translator = factory.get();
+        if (translator instanceof StdMatchableTranslator matchable) {
+            matchable.setPathForData(dataPath);
+            matchable.setApiClient(apiClient);
+        }
+        return translator;
+    }
+
+    /**
+     * Generates policies to be converted by the translator.
+     *
+     * @param generator corpus generator
+     * @param count number of policies
+     * @return the policies
+     */
+    public List<ToscaPolicy> policies(PolicyCorpusGenerator generator, int count) {
+        return generator.generate(application.getPolicyTypes(), count);
+    }
+
+    /**
+     * Generates the policy types of the policies.
+     *
+     * @param generator corpus generator
+     * @return the contents of the policy types, keyed by file name
+     */
+    public Map<String, String> policyTypes(PolicyCorpusGenerator generator) {
+        return generator.generatePolicyTypes(application.getPolicyTypes());
+    }
+
+    private static String controlLoop(int index, String which) {
+        return String.format("ControlLoop-corpus-%06d-%s", index, which);
+    }
+}
@@ -0,0 +1,56 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.translation;
+
+import org.onap.policy.pdp.xacml.xacmltest.corpus.CorpusParameters;
+
+/**
+ * Complexity of the generated policies, from the least their types allow to well beyond
+ * what is usually deployed.
+ */
+public enum CorpusComplexity {
+    SIMPLE(1, 1, 1),
+    TYPICAL(3, 2, 10),
+    COMPLEX(10, 5, 100);
+
+    private final int propertySize;
+    private final int matchableCardinality;
+    private final int listSize;
+
+    CorpusComplexity(int propertySize, int matchableCardinality, int listSize) {
+        this.propertySize = propertySize;
+        this.matchableCardinality = matchableCardinality;
+        this.listSize = listSize;
+    }
+
+    /**
+     * Gets the parameters of a generator of policies of this complexity.
+     *
+     * @return new corpus parameters
+     */
+    public CorpusParameters parameters() {
+        var params = new CorpusParameters();
+        params.setPropertySize(propertySize);
+        params.setMatchableCardinality(matchableCardinality);
+        params.setListSize(listSize);
+        return params;
+    }
+}
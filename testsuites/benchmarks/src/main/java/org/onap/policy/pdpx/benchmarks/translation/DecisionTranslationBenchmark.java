@@ -0,0 +1,117 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.translation;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.api.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.decisions.concepts.DecisionResponse;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
+import org.onap.policy.pdpx.benchmarks.ApplicationFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of decision requests into XACML requests, and of XACML
+ * responses into decision responses, by each translator. The responses are those of
+ * the translator's application, with the generated policies deployed and every request
+ * matching one of them; the more policies a request matches, the larger the response.
+ * Run with "-prof gc" for the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class DecisionTranslationBenchmark {
+
+    /**
+     * Translator whose conversions are measured; the native and coordination ones only
+     * convert policies, thus are left out.
+     */
+    @Param({"GUARD", "MATCH", "MONITORING", "NAMING", "OPTIMIZATION"})
+    public BenchmarkTranslator translator;
+
+    @Param
+    public CorpusComplexity complexity;
+
+    @Param({"100", "1000"})
+    public int policyCount;
+
+    private ApplicationFixture fixture;
+    private ToscaPolicyTranslator converter;
+    private List<DecisionRequest> requests;
+    private List<Response> responses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (!translator.isDecisionTranslator()) {
+            throw new IllegalArgumentException(translator + " does not convert decisions");
+        }
+
+        fixture = new ApplicationFixture(translator.getApplication(), policyCount, complexity.parameters(), 1.0);
+        converter = translator.create(fixture.getDataPath(), null);
+
+        requests = fixture.getGenerator().generateRequests(fixture.getPolicies(), ApplicationFixture.REQUEST_COUNT,
+                        1.0);
+        responses = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            var response = fixture.getProvider().makeDecision(request, null).getValue();
+            if (response == null) {
+                throw new IllegalStateException("failed to decide on " + request.getRequestId());
+            }
+            responses.add(response);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Request convertRequest() throws ToscaPolicyConversionException {
+        return converter.convertRequest(requests.get(Math.floorMod(next++, requests.size())));
+    }
+
+    @Benchmark
+    public DecisionResponse convertResponse() {
+        return converter.convertResponse(responses.get(Math.floorMod(next++, responses.size())));
+    }
+}
@@ -0,0 +1,121 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.translation;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.onap.policy.common.endpoints.http.client.HttpClient;
+import org.onap.policy.common.endpoints.http.client.HttpClientConfigException;
+import org.onap.policy.common.endpoints.http.client.HttpClientFactoryInstance;
+import org.onap.policy.common.parameters.rest.RestClientParameters;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Stands in for policy-api, serving the policy types that matchable translators pull
+ * when they are not in their data path. The types are served, as JSON, by an HTTP
+ * server on the loopback interface, thus a pull costs what it costs against a real
+ * policy-api, but for the network and the database.
+ */
+public class PolicyApiStub implements AutoCloseable {
+    public static final String POLICY_TYPE_URI = "/policy/api/v1/policytypes/";
+    private static final String POLICY_TYPE_VERSION_URI = "/versions/";
+
+    private final Map<String, byte[]> policyTypes = new HashMap<>();
+    private final HttpServer server;
+
+    /**
+     * Client of the stub, to be given to the translators.
+     */
+    @Getter
+    private final HttpClient client;
+
+    /**
+     * Constructs the object and starts the server.
+     *
+     * @param policyTypeFiles policy types to serve, as returned by
+     *        {@link org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator#generatePolicyTypes},
+     *        keyed by file name
+     * @throws IOException if the server cannot be started
+     * @throws CoderException if a policy type cannot be decoded
+     * @throws HttpClientConfigException if the client cannot be built
+     */
+    public PolicyApiStub(Map<String, String> policyTypeFiles)
+                    throws IOException, CoderException, HttpClientConfigException {
+        var yamlCoder = new StandardYamlCoder();
+        var coder = new StandardCoder();
+        for (var entry : policyTypeFiles.entrySet()) {
+            var template = yamlCoder.decode(entry.getValue(), ToscaServiceTemplate.class);
+            policyTypes.put(entry.getKey(), coder.encode(template).getBytes(StandardCharsets.UTF_8));
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(POLICY_TYPE_URI, this::serve);
+        server.start();
+
+        try {
+            client = HttpClientFactoryInstance.getClientFactory().build(RestClientParameters.builder()
+                .clientName("policy-api-stub").useHttps(false)
+                .hostname(server.getAddress().getHostString()).port(server.getAddress().getPort()).build());
+        } catch (HttpClientConfigException | RuntimeException e) {
+            server.stop(0);
+            throw e;
+        }
+    }
+
+    /**
+     * Shuts down the client and stops the server.
+     */
+    @Override
+    public void close() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    /**
+     * Serves a policy type, requested as "{name}/versions/{version}", from the file
+     * "{name}-{version}.yaml".
+     */
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            var type = exchange.getRequestURI().getPath().substring(POLICY_TYPE_URI.length());
+            var body = policyTypes.get(type.replace(POLICY_TYPE_VERSION_URI, "-") + ".yaml");
+            if (body == null) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_FOUND, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
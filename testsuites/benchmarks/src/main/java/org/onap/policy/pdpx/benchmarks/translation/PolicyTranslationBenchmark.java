@@ -0,0 +1,157 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.translation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyConversionException;
+import org.onap.policy.pdp.xacml.application.common.ToscaPolicyTranslator;
+import org.onap.policy.pdp.xacml.xacmltest.corpus.PolicyCorpusGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of generated policies into XACML by each translator, cycling
+ * through a corpus of policies. Matchable translators pull their policy types from a
+ * {@link PolicyApiStub}: once for the whole trial in {@link #convertPolicy()}, and on
+ * every conversion in {@link #convertPolicyFresh(FreshDataPath)}. Run with "-prof gc"
+ * for the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PolicyTranslationBenchmark {
+
+    @Param
+    public BenchmarkTranslator translator;
+
+    @Param
+    public CorpusComplexity complexity;
+
+    @Param({"100", "1000"})
+    public int policyCount;
+
+    private PolicyApiStub api;
+    private Path dataPath;
+    private ToscaPolicyTranslator cached;
+    private List<ToscaPolicy> policies;
+    private int next;
+
+    /**
+     * Data path of the translators created for a single conversion, emptied after each
+     * conversion, so that matchable ones pull their policy types every time.
+     */
+    @State(Scope.Thread)
+    public static class FreshDataPath {
+        private Path path;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            path = Files.createTempDirectory("xacml-translation-fresh");
+        }
+
+        @TearDown(Level.Invocation)
+        public void empty() throws IOException {
+            clear(path);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            clear(path);
+            Files.delete(path);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        var generator = new PolicyCorpusGenerator(complexity.parameters());
+        policies = translator.policies(generator, policyCount);
+
+        api = new PolicyApiStub(translator.policyTypes(generator));
+        dataPath = Files.createTempDirectory("xacml-translation");
+        cached = translator.create(dataPath, api.getClient());
+
+        // converts every policy once, thus every policy type is cached from then on
+        for (var policy : policies) {
+            if (cached.convertPolicy(policy) == null) {
+                throw new IllegalStateException("failed to convert " + policy.getName());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        api.close();
+        clear(dataPath);
+        Files.delete(dataPath);
+    }
+
+    /**
+     * Converts a policy with a translator that has already converted policies of the
+     * same type.
+     */
+    @Benchmark
+    public Object convertPolicy() throws ToscaPolicyConversionException {
+        return cached.convertPolicy(nextPolicy());
+    }
+
+    /**
+     * Converts a policy with a new translator, as an application does the first time it
+     * deploys a policy of the type, pulling the policy type if the translator is
+     * matchable. Per-invocation fixtures cost a few microseconds, thus the results of
+     * the fastest translators are skewed.
+     */
+    @Benchmark
+    public Object convertPolicyFresh(FreshDataPath fresh) throws ToscaPolicyConversionException {
+        return translator.create(fresh.path, api.getClient()).convertPolicy(nextPolicy());
+    }
+
+    private ToscaPolicy nextPolicy() {
+        return policies.get(Math.floorMod(next++, policies.size()));
+    }
+
+    private static void clear(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
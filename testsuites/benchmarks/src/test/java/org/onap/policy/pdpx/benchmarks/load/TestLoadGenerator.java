@@ -0,0 +1,115 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TestLoadGenerator {
+    private static final long STALL_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final List<WorkloadEntry> WORKLOAD = List.of(new WorkloadEntry());
+
+    @Test
+    void testConstructor() {
+        var profile = new LoadProfile();
+        var target = new StubTarget(-1);
+        assertThatIllegalArgumentException().isThrownBy(() -> new LoadGenerator(profile, List.of(), target))
+            .withMessage("the workload is empty");
+
+        profile.setMode(LoadMode.OPEN);
+        assertThatIllegalArgumentException().isThrownBy(() -> new LoadGenerator(profile, WORKLOAD, target))
+            .withMessage("an open loop needs a rate");
+    }
+
+    @Test
+    void testRun_OpenLoopStall() throws InterruptedException {
+        // one request every 10 ms, the tenth of which stalls the only worker
+        var profile = new LoadProfile();
+        profile.setMode(LoadMode.OPEN);
+        profile.setRatePerSec(100);
+        profile.setDurationSec(1);
+        var target = new StubTarget(10);
+
+        var report = new LoadGenerator(profile, WORKLOAD, target).run();
+        assertThat(report.isCorrected()).isTrue();
+        assertThat(report.getCount()).isEqualTo(target.calls.get());
+
+        // only the stalled request was slow once it was sent
+        var uncorrected = report.getUncorrectedHistogram();
+        assertThat(uncorrected.getMaxValue()).isGreaterThanOrEqualTo(STALL_NANOS);
+        assertThat(uncorrected.getCountBetweenValues(SLOW_NANOS, uncorrected.getMaxValue())).isEqualTo(1);
+
+        // but the requests queued behind it are charged for the stall
+        var corrected = report.getCorrectedHistogram();
+        assertThat(corrected.getMaxValue()).isGreaterThanOrEqualTo(STALL_NANOS);
+        assertThat(corrected.getCountBetweenValues(SLOW_NANOS, corrected.getMaxValue())).isGreaterThan(10);
+        assertThat(corrected.getMean()).isGreaterThan(uncorrected.getMean());
+    }
+
+    @Test
+    void testRun_ClosedLoopUnpaced() throws InterruptedException {
+        var profile = new LoadProfile();
+        profile.setConcurrency(2);
+        profile.setDurationSec(1);
+        var target = new StubTarget(10);
+
+        var report = new LoadGenerator(profile, WORKLOAD, target).run();
+        assertThat(report.isCorrected()).isFalse();
+        assertThat(report.getCount()).isPositive();
+        assertThat(report.getCorrectedHistogram()).isEqualTo(report.getUncorrectedHistogram());
+        assertThat(report.getCorrectedLatencyMs()).isEqualTo(report.getUncorrectedLatencyMs());
+    }
+
+    /**
+     * Target that decides at once, but for one call that stalls.
+     */
+    private static class StubTarget implements DecisionTarget {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final int stallAt;
+
+        StubTarget(int stallAt) {
+            this.stallAt = stallAt;
+        }
+
+        @Override
+        public boolean decide(WorkloadEntry entry) {
+            if (calls.incrementAndGet() == stallAt) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(STALL_NANOS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.scalability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class TestScalabilityCurve {
+    private static final double MIN_GAIN = 0.1;
+
+    @Test
+    void testAnalyze_Empty() {
+        var curve = new ScalabilityCurve();
+        curve.analyze(MIN_GAIN);
+        assertThat(curve.getPeakThreads()).isZero();
+        assertThat(curve.getFlattensAtThreads()).isZero();
+    }
+
+    @Test
+    void testAnalyze_Monotonic() {
+        var curve = curve(point(4, 40), point(1, 10), point(2, 20), point(8, 80));
+        curve.analyze(MIN_GAIN);
+
+        // the points are sorted by thread count
+        assertThat(curve.getPoints()).extracting(ScalabilityPoint::getThreads).containsExactly(1, 2, 4, 8);
+        assertThat(curve.getPoints()).allSatisfy(point -> {
+            assertThat(point.getSpeedup()).isCloseTo(point.getThreads(), within(1e-9));
+            assertThat(point.getEfficiency()).isCloseTo(1.0, within(1e-9));
+        });
+        assertThat(curve.getPeakThreads()).isEqualTo(8);
+        assertThat(curve.getPeakThroughputOpsPerMs()).isEqualTo(80);
+        assertThat(curve.getFlattensAtThreads()).isZero();
+    }
+
+    @Test
+    void testAnalyze_Plateau() {
+        var curve = curve(point(1, 10), point(2, 20), point(4, 30), point(8, 31), point(16, 32));
+        curve.analyze(MIN_GAIN);
+
+        assertThat(curve.getPeakThreads()).isEqualTo(16);
+        assertThat(curve.getPeakThroughputOpsPerMs()).isEqualTo(32);
+        // 4 to 8 threads gains less than 10%
+        assertThat(curve.getFlattensAtThreads()).isEqualTo(4);
+        assertThat(curve.getPoints().get(4).getEfficiency()).isCloseTo(0.2, within(1e-9));
+    }
+
+    @Test
+    void testAnalyze_DropAfterPeak() {
+        var curve = curve(point(1, 10), point(2, 19), point(4, 36), point(8, 25), point(16, 12));
+        curve.analyze(MIN_GAIN);
+
+        assertThat(curve.getPeakThreads()).isEqualTo(4);
+        assertThat(curve.getPeakThroughputOpsPerMs()).isEqualTo(36);
+        assertThat(curve.getFlattensAtThreads()).isEqualTo(4);
+        assertThat(curve.getPoints().get(3).getSpeedup()).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    void testAnalyze_BaseWithSeveralThreads() {
+        // the base point is scaled down to a single thread
+        var curve = curve(point(2, 20), point(4, 40), point(8, 60));
+        curve.analyze(MIN_GAIN);
+
+        assertThat(curve.getPoints()).extracting(ScalabilityPoint::getSpeedup).containsExactly(2.0, 4.0, 6.0);
+        assertThat(curve.getPoints()).extracting(ScalabilityPoint::getEfficiency).containsExactly(1.0, 1.0, 0.75);
+        assertThat(curve.getPeakThreads()).isEqualTo(8);
+        assertThat(curve.getFlattensAtThreads()).isZero();
+    }
+
+    private static ScalabilityCurve curve(ScalabilityPoint... points) {
+        var curve = new ScalabilityCurve();
+        for (var point : points) {
+            curve.getPoints().add(point);
+        }
+        return curve;
+    }
+
+    private static ScalabilityPoint point(int threads, double throughputOpsPerMs) {
+        var point = new ScalabilityPoint();
+        point.setThreads(threads);
+        point.setThroughputOpsPerMs(throughputOpsPerMs);
+        return point;
+    }
+}
@@ -0,0 +1,120 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdpx.benchmarks.soak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestSoakHarness {
+    private static final long MB = 1024L * 1024;
+    private static final long MAX_HEAP_GROWTH = 10 * MB;
+    private static final int MAX_THREAD_GROWTH = 2;
+
+    @Test
+    void testSlope() {
+        assertThat(SoakHarness.slope(List.of(sample(0, 100, 10), sample(10, 100, 10), sample(20, 100, 10))))
+            .isZero();
+        assertThat(SoakHarness.slope(List.of(sample(0, 100, 10), sample(10, 150, 10), sample(20, 200, 10))))
+            .isCloseTo(5.0, within(1e-9));
+
+        // samples taken at the same time give no slope rather than a division by zero
+        assertThat(SoakHarness.slope(List.of(sample(5, 100, 10), sample(5, 200, 10)))).isZero();
+    }
+
+    @Test
+    void testJudge_Flat() {
+        var report = report(0, sample(0, 50 * MB, 20), sample(60, 50 * MB, 20), sample(120, 50 * MB, 20),
+            sample(180, 50 * MB, 20));
+
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isTrue();
+        assertThat(report.getFailures()).isEmpty();
+        assertThat(report.getHeapGrowthBytesPerHour()).isZero();
+        assertThat(report.getThreadGrowth()).isZero();
+    }
+
+    @Test
+    void testJudge_Rising() {
+        // 1 MB a minute is 60 MB an hour
+        var report = report(0, sample(0, 50 * MB, 20), sample(60, 51 * MB, 20), sample(120, 52 * MB, 20),
+            sample(180, 53 * MB, 20));
+
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isFalse();
+        assertThat(report.getHeapGrowthBytesPerHour()).isCloseTo(60.0 * MB, within(1.0));
+        assertThat(report.getFailures()).hasSize(1).first().asString().contains("retained heap grew");
+    }
+
+    @Test
+    void testJudge_Warmup() {
+        // the heap grows during the warmup only
+        var report = report(1, sample(0, 10 * MB, 20), sample(30, 40 * MB, 20), sample(60, 50 * MB, 20),
+            sample(120, 50 * MB, 20), sample(180, 50 * MB, 20));
+
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isTrue();
+        assertThat(report.getHeapGrowthBytesPerHour()).isZero();
+    }
+
+    @Test
+    void testJudge_TooFewSamples() {
+        var report = report(1, sample(0, 50 * MB, 20), sample(60, 50 * MB, 20), sample(120, 50 * MB, 20));
+
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isFalse();
+        assertThat(report.getFailures()).containsExactly("only 2 samples were taken after the warmup");
+
+        // a judged report is judged again from scratch
+        report.getSamples().add(sample(180, 50 * MB, 20));
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isTrue();
+        assertThat(report.getFailures()).isEmpty();
+    }
+
+    @Test
+    void testJudge_ThreadGrowth() {
+        var report = report(0, sample(0, 50 * MB, 20), sample(60, 50 * MB, 22), sample(120, 50 * MB, 24),
+            sample(180, 50 * MB, 26));
+
+        SoakHarness.judge(report, MAX_HEAP_GROWTH, MAX_THREAD_GROWTH);
+        assertThat(report.isPassed()).isFalse();
+        assertThat(report.getThreadGrowth()).isEqualTo(6);
+        assertThat(report.getFailures()).containsExactly("6 threads were added, more than 2");
+    }
+
+    private static SoakReport report(double warmupMin, SoakSample... samples) {
+        var report = new SoakReport();
+        report.setWarmupMin(warmupMin);
+        report.getSamples().addAll(List.of(samples));
+        return report;
+    }
+
+    private static SoakSample sample(double elapsedSec, long retainedHeapBytes, int threadCount) {
+        var sample = new SoakSample();
+        sample.setElapsedSec(elapsedSec);
+        sample.setRetainedHeapBytes(retainedHeapBytes);
+        sample.setThreadCount(threadCount);
+        return sample;
+    }
+}
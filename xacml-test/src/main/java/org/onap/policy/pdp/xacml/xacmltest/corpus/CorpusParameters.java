@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.xacmltest.corpus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Shape of the policies and requests produced by a {@link PolicyCorpusGenerator}.
+ */
+@Getter
+@Setter
+public class CorpusParameters {
+
+    /**
+     * Seed of the generator. The same seed always produces the same policies and
+     * requests.
+     */
+    private long seed = 42;
+
+    /**
+     * Size of the properties that are not matched by requests: thresholds of
+     * monitoring policies, naming models of naming policies, rules of native policies.
+     */
+    private int propertySize = 3;
+
+    /**
+     * Number of values of each matchable property of optimization policies, and number
+     * of matchable properties of match policies.
+     */
+    private int matchableCardinality = 2;
+
+    /**
+     * Number of entries of guard blacklists and filters.
+     */
+    private int listSize = 10;
+
+    /**
+     * Number of distinct values that matchable properties draw from. The smaller it is,
+     * the more policies share values, and the more of them match a request.
+     */
+    private int valuePoolSize = 100;
+}
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.xacmltest.corpus;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Policy types that a {@link PolicyCorpusGenerator} can produce policies of.
+ */
+@Getter
+public enum CorpusPolicyType {
+    GUARD_FREQUENCY_LIMITER("onap.policies.controlloop.guard.common.FrequencyLimiter", "guard"),
+    GUARD_MIN_MAX("onap.policies.controlloop.guard.common.MinMax", "guard"),
+    GUARD_BLACKLIST("onap.policies.controlloop.guard.common.Blacklist", "guard"),
+    GUARD_FILTER("onap.policies.controlloop.guard.common.Filter", "guard"),
+    MATCH(PolicyCorpusGenerator.MATCH_POLICY_TYPE, "match"),
+    MONITORING("onap.policies.monitoring.tcagen2", "configure"),
+    NAMING("onap.policies.Naming", "naming", "onap.policies.Naming"),
+    NATIVE("onap.policies.native.Xacml", null),
+    OPTIMIZATION_AFFINITY("onap.policies.optimization.resource.AffinityPolicy", "optimize",
+                    "onap.policies.Optimization", "onap.policies.optimization.Resource",
+                    "onap.policies.optimization.resource.AffinityPolicy"),
+    OPTIMIZATION_DISTANCE("onap.policies.optimization.resource.DistancePolicy", "optimize",
+                    "onap.policies.Optimization", "onap.policies.optimization.Resource",
+                    "onap.policies.optimization.resource.DistancePolicy"),
+    OPTIMIZATION_VIM_FIT("onap.policies.optimization.resource.Vim_fit", "optimize",
+                    "onap.policies.Optimization", "onap.policies.optimization.Resource",
+                    "onap.policies.optimization.resource.Vim_fit");
+
+    public static final String VERSION = "1.0.0";
+
+    /**
+     * Name of the TOSCA policy type.
+     */
+    private final String policyType;
+
+    /**
+     * Action of the decision requests, {@code null} for native policies, which are
+     * matched by XACML requests.
+     */
+    private final String action;
+
+    /**
+     * Policy types that an application needs to find in its data path in order to
+     * translate policies of this type, ancestors included.
+     */
+    private final List<String> requiredPolicyTypes;
+
+    CorpusPolicyType(String policyType, String action, String... requiredPolicyTypes) {
+        this.policyType = policyType;
+        this.action = action;
+        this.requiredPolicyTypes = List.of(requiredPolicyTypes);
+    }
+
+    /**
+     * Gets the corpus type of a TOSCA policy type.
+     *
+     * @param policyType name of the TOSCA policy type
+     * @return the corpus type
+     * @throws IllegalArgumentException if the generator does not produce policies of the
+     *         given type
+     */
+    public static CorpusPolicyType of(String policyType) {
+        for (var type : values()) {
+            if (type.policyType.equals(policyType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("unsupported policy type " + policyType);
+    }
+}
@@ -0,0 +1,519 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.xacmltest.corpus;
+
+import com.att.research.xacml.api.Request;
+import com.att.research.xacml.std.dom.DOMRequest;
+import com.att.research.xacml.std.dom.DOMStructureException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+/**
+ * Generates synthetic, but realistic, policies of every supported policy type, along
+ * with decision requests that match them, or not. Everything is derived from the seed
+ * of the {@link CorpusParameters}, thus a corpus can be reproduced at will. Policy i of
+ * a type does not depend on how many policies are generated, thus a small corpus is
+ * a prefix of a larger one generated with the same parameters.
+ */
+public class PolicyCorpusGenerator {
+    public static final String MATCH_POLICY_TYPE = "onap.policies.match.Generated";
+    public static final String POLICY_PREFIX = "corpus.";
+    public static final String MISS_PREFIX = "miss-";
+
+    private static final long REQUEST_SALT = 0x5DEECE66DL;
+    private static final List<String> ACTORS = List.of("SO", "APPC", "SDNR");
+    private static final List<String> OPERATIONS = List.of("VF Module Create", "Restart", "ModifyConfig");
+    private static final List<String> NAMING_TYPES = List.of("VNF", "VNFC", "VF-MODULE");
+    private static final List<String> FILTER_FIELDS =
+                    List.of("generic-vnf.vnf-id", "generic-vnf.vnf-name", "cloud-region.cloud-region-id");
+    private static final List<String> NATIVE_ACTIONS = List.of("read", "write", "delete", "execute");
+
+    private final CorpusParameters params;
+
+    /**
+     * Constructs the object.
+     *
+     * @param params shape of the corpus
+     */
+    public PolicyCorpusGenerator(CorpusParameters params) {
+        this.params = params;
+    }
+
+    /**
+     * Generates policies of a single type.
+     *
+     * @param type policy type
+     * @param count number of policies
+     * @return the policies
+     */
+    public List<ToscaPolicy> generate(CorpusPolicyType type, int count) {
+        return generate(List.of(type), count);
+    }
+
+    /**
+     * Generates policies of several types, which take turns.
+     *
+     * @param types policy types
+     * @param count number of policies
+     * @return the policies
+     */
+    public List<ToscaPolicy> generate(List<CorpusPolicyType> types, int count) {
+        List<ToscaPolicy> policies = new ArrayList<>(count);
+        for (var index = 0; index < count; ++index) {
+            policies.add(generate(types.get(index % types.size()), index));
+        }
+        return policies;
+    }
+
+    /**
+     * Generates a single policy.
+     *
+     * @param type policy type
+     * @param index index of the policy, which determines its name and contents
+     * @return the policy
+     */
+    public ToscaPolicy generate(CorpusPolicyType type, long index) {
+        var random = new Random(params.getSeed() * 31 + type.ordinal() * 1_000_003L + index);
+        var name = POLICY_PREFIX + type.name().toLowerCase().replace('_', '-') + "." + index;
+
+        var policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion(CorpusPolicyType.VERSION);
+        policy.setType(type.getPolicyType());
+        policy.setTypeVersion(CorpusPolicyType.VERSION);
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("policy-id", name);
+        metadata.put("policy-version", CorpusPolicyType.VERSION);
+        policy.setMetadata(metadata);
+
+        policy.setProperties(switch (type) {
+            case GUARD_FREQUENCY_LIMITER -> frequencyLimiter(random);
+            case GUARD_MIN_MAX -> minMax(random);
+            case GUARD_BLACKLIST -> blacklist(random);
+            case GUARD_FILTER -> filter(random);
+            case MATCH -> match(random);
+            case MONITORING -> monitoring(name, random);
+            case NAMING -> naming(random);
+            case NATIVE -> nativeXacml(name, random);
+            default -> optimization(type, name, random);
+        });
+        return policy;
+    }
+
+    /**
+     * Generates the policy types that an application needs to find in its data path in
+     * order to translate the policies of the given types.
+     *
+     * @param types policy types of the policies
+     * @return the policy types, as TOSCA service templates in YAML, keyed by the name of
+     *         the file in which the application expects them
+     */
+    public Map<String, String> generatePolicyTypes(Collection<CorpusPolicyType> types) {
+        Map<String, String> files = new TreeMap<>();
+        for (var type : types) {
+            for (var required : type.getRequiredPolicyTypes()) {
+                var yaml = ResourceUtils.getResourceAsString("policytypes/" + required + ".yaml");
+                if (yaml == null) {
+                    throw new IllegalArgumentException("cannot find policy type " + required);
+                }
+                files.put(fileName(required), yaml);
+            }
+            if (type == CorpusPolicyType.MATCH) {
+                files.put(fileName(MATCH_POLICY_TYPE), matchPolicyType());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Generates decision requests against a set of policies.
+     *
+     * @param policies policies the requests are made against, of any type but
+     *        {@link CorpusPolicyType#NATIVE}; must not be empty
+     * @param count number of requests
+     * @param hitRatio fraction of the requests that match one of the policies, the
+     *        others match none of them
+     * @return the requests
+     */
+    public List<DecisionRequest> generateRequests(List<ToscaPolicy> policies, int count, double hitRatio) {
+        return generateRequests(policies, count, hitRatio, this::decisionRequest);
+    }
+
+    /**
+     * Generates XACML requests against a set of native policies.
+     *
+     * @param policies policies the requests are made against; must not be empty
+     * @param count number of requests
+     * @param hitRatio fraction of the requests that match one of the policies, the
+     *        others match none of them
+     * @return the requests
+     */
+    public List<Request> generateXacmlRequests(List<ToscaPolicy> policies, int count, double hitRatio) {
+        return generateRequests(policies, count, hitRatio, this::xacmlRequest);
+    }
+
+    private <T> List<T> generateRequests(List<ToscaPolicy> policies, int count, double hitRatio,
+                    RequestFactory<T> factory) {
+        var random = new Random(params.getSeed() ^ REQUEST_SALT);
+        List<T> requests = new ArrayList<>(count);
+        for (var index = 0; index < count; ++index) {
+            var policy = policies.get(random.nextInt(policies.size()));
+            var hit = random.nextDouble() < hitRatio;
+            requests.add(factory.create(policy, hit, random, index));
+        }
+        return requests;
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory<T> {
+        T create(ToscaPolicy policy, boolean hit, Random random, int index);
+    }
+
+    // policies
+
+    private Map<String, Object> guard(Random random) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("actor", pick(ACTORS, random));
+        props.put("operation", pick(OPERATIONS, random));
+        return props;
+    }
+
+    private Map<String, Object> frequencyLimiter(Random random) {
+        var props = guard(random);
+        props.put("id", value("loop", random));
+        props.put("timeWindow", 1 + random.nextInt(60));
+        props.put("timeUnits", "minute");
+        props.put("limit", random.nextInt(5));
+        return props;
+    }
+
+    private Map<String, Object> minMax(Random random) {
+        var props = guard(random);
+        props.put("target", value("vnf", random));
+        props.put("min", 1);
+        props.put("max", 2 + random.nextInt(8));
+        return props;
+    }
+
+    private Map<String, Object> blacklist(Random random) {
+        var props = guard(random);
+        props.put("blacklist", values("vnf", params.getListSize(), random));
+        return props;
+    }
+
+    private Map<String, Object> filter(Random random) {
+        var props = guard(random);
+        props.put("algorithm", random.nextBoolean() ? "blacklist-overrides" : "whitelist-overrides");
+        List<Map<String, Object>> filters = new ArrayList<>();
+        for (var count = 0; count < params.getListSize(); ++count) {
+            Map<String, Object> filter = new LinkedHashMap<>();
+            var field = pick(FILTER_FIELDS, random);
+            filter.put("field", field);
+            filter.put("filter", value(field.substring(field.lastIndexOf('.') + 1), random));
+            filter.put("function", "string-equal");
+            filter.put("blacklist", random.nextBoolean());
+            filters.add(filter);
+        }
+        props.put("filters", filters);
+        return props;
+    }
+
+    private Map<String, Object> match(Random random) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        for (var count = 0; count < params.getMatchableCardinality(); ++count) {
+            props.put("matchable" + count, value("match" + count, random));
+        }
+        props.put("nonmatchable", value("other", random));
+        return props;
+    }
+
+    private Map<String, Object> monitoring(String name, Random random) {
+        List<Map<String, Object>> thresholds = new ArrayList<>();
+        for (var count = 0; count < params.getPropertySize(); ++count) {
+            Map<String, Object> threshold = new LinkedHashMap<>();
+            threshold.put("closedLoopControlName", value("ControlLoop", random));
+            threshold.put("version", "1.0.2");
+            threshold.put("fieldPath",
+                "$.event.measurementsForVfScalingFields.vNicPerformanceArray[*].receivedTotalPacketsDelta");
+            threshold.put("thresholdValue", random.nextInt(1000));
+            threshold.put("direction", random.nextBoolean() ? "LESS_OR_EQUAL" : "GREATER_OR_EQUAL");
+            threshold.put("severity", random.nextBoolean() ? "MAJOR" : "CRITICAL");
+            threshold.put("closedLoopEventStatus", random.nextBoolean() ? "ONSET" : "ABATED");
+            thresholds.add(threshold);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("eventName", value("Measurement_vFW", random));
+        metrics.put("controlLoopSchemaType", "VM");
+        metrics.put("policyScope", "DCAE");
+        metrics.put("policyName", name);
+        metrics.put("policyVersion", "v0.0.1");
+        metrics.put("thresholds", thresholds);
+
+        Map<String, Object> tca = new LinkedHashMap<>();
+        tca.put("domain", "measurementsForVfScaling");
+        tca.put("metricsPerEventName", List.of(metrics));
+        return new LinkedHashMap<>(Map.of("tca.policy", tca));
+    }
+
+    private Map<String, Object> naming(Random random) {
+        List<Map<String, Object>> models = new ArrayList<>();
+        for (var count = 0; count < Math.max(1, params.getPropertySize()); ++count) {
+            Map<String, Object> model = new LinkedHashMap<>();
+            model.put("naming-type", pick(NAMING_TYPES, random));
+            model.put("naming-recipe", "AIC_CLOUD_REGION|DELIMITER|CONSTANT|DELIMITER|TIMESTAMP");
+            model.put("name-operation", "to_lower_case()");
+            model.put("nfRole", value("role", random));
+            model.put("naming-properties", List.of(Map.of("property-name", "AIC_CLOUD_REGION"),
+                Map.of("property-name", "CONSTANT", "property-value", value("onap-nf", random)),
+                Map.of("property-name", "TIMESTAMP"),
+                Map.of("property-name", "DELIMITER", "property-value", "-")));
+            models.add(model);
+        }
+
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("policy-instance-name", value("ONAP_NF_NAMING", random));
+        props.put("naming-models", models);
+        return props;
+    }
+
+    private Map<String, Object> nativeXacml(String name, Random random) {
+        var rules = new StringBuilder();
+        for (var count = 0; count < Math.max(1, params.getPropertySize()); ++count) {
+            rules.append("""
+                  <Rule RuleId="rule-%d" Effect="%s">
+                    <Target><AnyOf><AllOf>
+                      <Match MatchId="urn:oasis:names:tc:xacml:1.0:function:string-equal">
+                        <AttributeValue DataType="http://www.w3.org/2001/XMLSchema#string">%s</AttributeValue>
+                        <AttributeDesignator MustBePresent="false"
+                            Category="urn:oasis:names:tc:xacml:3.0:attribute-category:action"
+                            AttributeId="urn:oasis:names:tc:xacml:1.0:action:action-id"
+                            DataType="http://www.w3.org/2001/XMLSchema#string"/>
+                      </Match>
+                    </AllOf></AnyOf></Target>
+                  </Rule>
+                """.formatted(count, random.nextBoolean() ? "Permit" : "Deny", pick(NATIVE_ACTIONS, random)));
+        }
+
+        //
+        // the policy applies to the resource named after it
+        //
+        var xml = """
+            <?xml version="1.0" encoding="UTF-8" standalone="no"?>
+            <Policy xmlns="urn:oasis:names:tc:xacml:3.0:core:schema:wd-17" PolicyId="%s" Version="1.0"
+                RuleCombiningAlgId="urn:oasis:names:tc:xacml:3.0:rule-combining-algorithm:first-applicable">
+              <Target><AnyOf><AllOf>
+                <Match MatchId="urn:oasis:names:tc:xacml:1.0:function:string-equal">
+                  <AttributeValue DataType="http://www.w3.org/2001/XMLSchema#string">%s</AttributeValue>
+                  <AttributeDesignator MustBePresent="false"
+                      Category="urn:oasis:names:tc:xacml:3.0:attribute-category:resource"
+                      AttributeId="urn:oasis:names:tc:xacml:1.0:resource:resource-id"
+                      DataType="http://www.w3.org/2001/XMLSchema#string"/>
+                </Match>
+              </AllOf></AnyOf></Target>
+            %s</Policy>
+            """.formatted(name, name, rules);
+
+        return new LinkedHashMap<>(
+            Map.of("policy", Base64.getEncoder().encodeToString(xml.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private Map<String, Object> optimization(CorpusPolicyType type, String name, Random random) {
+        var cardinality = params.getMatchableCardinality();
+
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("scope", values("scope", cardinality, random));
+        props.put("services", values("service", cardinality, random));
+        props.put("resources", values("resource", cardinality, random));
+        props.put("geography", values("geography", cardinality, random));
+        props.put("identity", name);
+        props.put("applicableResources", random.nextBoolean() ? "any" : "all");
+
+        switch (type) {
+            case OPTIMIZATION_AFFINITY -> props.put("affinityProperties",
+                Map.of("qualifier", random.nextBoolean() ? "same" : "different", "category", "complex"));
+            case OPTIMIZATION_DISTANCE -> props.put("distanceProperties",
+                Map.of("locationInfo", "customer_location", "distance",
+                    Map.of("value", String.valueOf(100 + random.nextInt(900)), "operator", "<", "unit", "km")));
+            default -> props.put("capacityProperty",
+                Map.of("controller", "multicloud", "request",
+                    "{\"vCPU\": " + (1 + random.nextInt(32)) + ", \"Memory\": {\"quantity\": {\"get_param\": "
+                        + "\"REQUIRED_MEM\"}, \"unit\": \"GB\"}}"));
+        }
+        return props;
+    }
+
+    private String matchPolicyType() {
+        var yaml = new StringBuilder();
+        yaml.append("""
+            tosca_definitions_version: tosca_simple_yaml_1_1_0
+            policy_types:
+               %s:
+                  derived_from: onap.policies.Match
+                  version: 1.0.0
+                  name: %s
+                  description: Generated matching policy type
+                  properties:
+            """.formatted(MATCH_POLICY_TYPE, MATCH_POLICY_TYPE));
+        for (var count = 0; count < params.getMatchableCardinality(); ++count) {
+            yaml.append("""
+                         matchable%d:
+                            type: string
+                            metadata:
+                               matchable: true
+                            required: true
+                """.formatted(count));
+        }
+        yaml.append("""
+                     nonmatchable:
+                        type: string
+                        required: true
+            """);
+        return yaml.toString();
+    }
+
+    // requests
+
+    private DecisionRequest decisionRequest(ToscaPolicy policy, boolean hit, Random random, int index) {
+        var type = CorpusPolicyType.of(policy.getType());
+        var props = policy.getProperties();
+
+        var request = new DecisionRequest();
+        request.setOnapName("corpus");
+        request.setOnapComponent("corpus-component");
+        request.setOnapInstance("corpus-instance");
+        request.setRequestId("corpus-request-" + index);
+        request.setAction(type.getAction());
+
+        Map<String, Object> resource = new LinkedHashMap<>();
+        switch (type) {
+            case GUARD_FREQUENCY_LIMITER, GUARD_MIN_MAX, GUARD_BLACKLIST, GUARD_FILTER ->
+                resource.put("guard", guardRequest(type, props, hit, random, index));
+            case MATCH -> {
+                for (var count = 0; count < params.getMatchableCardinality(); ++count) {
+                    var key = "matchable" + count;
+                    resource.put(key, hit ? props.get(key) : MISS_PREFIX + index);
+                }
+            }
+            case MONITORING -> resource.put("policy-id", hit ? policy.getName() : MISS_PREFIX + index);
+            case NAMING -> {
+                var model = (Map<?, ?>) pick((List<?>) props.get("naming-models"), random);
+                resource.put("nfRole", List.of(hit ? model.get("nfRole") : MISS_PREFIX + index));
+                resource.put("naming-type", List.of(model.get("naming-type")));
+                resource.put("property-name", List.of());
+            }
+            case NATIVE -> throw new IllegalArgumentException("native policies take XACML requests");
+            default -> {
+                for (var key : List.of("scope", "services", "resources", "geography")) {
+                    var values = (List<?>) props.get(key);
+                    resource.put(key, List.of(hit && !values.isEmpty() ? pick(values, random) : MISS_PREFIX + index));
+                }
+            }
+        }
+        request.setResource(resource);
+
+        if (type == CorpusPolicyType.OPTIMIZATION_AFFINITY || type == CorpusPolicyType.OPTIMIZATION_DISTANCE
+                        || type == CorpusPolicyType.OPTIMIZATION_VIM_FIT) {
+            request.setContext(new LinkedHashMap<>(Map.of("subscriberName", List.of())));
+        }
+        return request;
+    }
+
+    private Map<String, Object> guardRequest(CorpusPolicyType type, Map<String, Object> props, boolean hit,
+                    Random random, int index) {
+        Map<String, Object> guard = new LinkedHashMap<>();
+        guard.put("actor", props.get("actor"));
+        guard.put("operation", props.get("operation"));
+        guard.put("clname", type == CorpusPolicyType.GUARD_FREQUENCY_LIMITER && hit ? props.get("id")
+                        : "ControlLoop-" + index);
+        guard.put("vfCount", String.valueOf(random.nextInt(10)));
+
+        var target = MISS_PREFIX + index;
+        if (hit && type == CorpusPolicyType.GUARD_MIN_MAX) {
+            target = String.valueOf(props.get("target"));
+        } else if (hit && type == CorpusPolicyType.GUARD_BLACKLIST) {
+            target = String.valueOf(pick((List<?>) props.get("blacklist"), random));
+        } else if (hit && type == CorpusPolicyType.GUARD_FILTER) {
+            var filter = (Map<?, ?>) pick((List<?>) props.get("filters"), random);
+            guard.put(String.valueOf(filter.get("field")), filter.get("filter"));
+        }
+        guard.put("target", target);
+        guard.putIfAbsent("generic-vnf.vnf-id", target);
+        return guard;
+    }
+
+    private Request xacmlRequest(ToscaPolicy policy, boolean hit, Random random, int index) {
+        var xml = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Request xmlns="urn:oasis:names:tc:xacml:3.0:core:schema:wd-17" ReturnPolicyIdList="false"
+                CombinedDecision="false">
+              <Attributes Category="urn:oasis:names:tc:xacml:3.0:attribute-category:resource">
+                <Attribute IncludeInResult="false" AttributeId="urn:oasis:names:tc:xacml:1.0:resource:resource-id">
+                  <AttributeValue DataType="http://www.w3.org/2001/XMLSchema#string">%s</AttributeValue>
+                </Attribute>
+              </Attributes>
+              <Attributes Category="urn:oasis:names:tc:xacml:3.0:attribute-category:action">
+                <Attribute IncludeInResult="false" AttributeId="urn:oasis:names:tc:xacml:1.0:action:action-id">
+                  <AttributeValue DataType="http://www.w3.org/2001/XMLSchema#string">%s</AttributeValue>
+                </Attribute>
+              </Attributes>
+            </Request>
+            """.formatted(hit ? policy.getName() : MISS_PREFIX + index, pick(NATIVE_ACTIONS, random));
+
+        try {
+            return DOMRequest.load(xml);
+        } catch (DOMStructureException e) {
+            throw new IllegalStateException("cannot generate XACML request", e);
+        }
+    }
+
+    // values
+
+    private String value(String prefix, Random random) {
+        return prefix + "-" + random.nextInt(Math.max(1, params.getValuePoolSize()));
+    }
+
+    private List<String> values(String prefix, int count, Random random) {
+        List<String> values = new ArrayList<>(count);
+        for (var index = 0; index < count; ++index) {
+            values.add(value(prefix, random));
+        }
+        return values;
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String fileName(String policyType) {
+        return policyType + "-" + CorpusPolicyType.VERSION + ".yaml";
+    }
+}
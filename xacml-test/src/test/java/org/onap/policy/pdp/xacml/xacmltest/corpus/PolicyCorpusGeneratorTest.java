@@ -0,0 +1,145 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.pdp.xacml.xacmltest.corpus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.decisions.concepts.DecisionRequest;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class PolicyCorpusGeneratorTest {
+
+    @Test
+    void testGenerate_Deterministic() {
+        var params = new CorpusParameters();
+        for (var type : CorpusPolicyType.values()) {
+            var policies = new PolicyCorpusGenerator(params).generate(type, 20);
+            assertThat(policies).hasSize(20).isEqualTo(new PolicyCorpusGenerator(params).generate(type, 20));
+
+            // a smaller corpus is a prefix of a larger one
+            assertThat(new PolicyCorpusGenerator(params).generate(type, 5)).isEqualTo(policies.subList(0, 5));
+        }
+
+        var other = new CorpusParameters();
+        other.setSeed(params.getSeed() + 1);
+        assertThat(new PolicyCorpusGenerator(other).generate(CorpusPolicyType.GUARD_BLACKLIST, 20))
+            .isNotEqualTo(new PolicyCorpusGenerator(params).generate(CorpusPolicyType.GUARD_BLACKLIST, 20));
+    }
+
+    @Test
+    void testGenerate_Mixed() {
+        var policies = new PolicyCorpusGenerator(new CorpusParameters())
+            .generate(List.of(CorpusPolicyType.GUARD_MIN_MAX, CorpusPolicyType.GUARD_FILTER), 4);
+
+        assertThat(policies).extracting(ToscaPolicy::getType).containsExactly(
+            CorpusPolicyType.GUARD_MIN_MAX.getPolicyType(), CorpusPolicyType.GUARD_FILTER.getPolicyType(),
+            CorpusPolicyType.GUARD_MIN_MAX.getPolicyType(), CorpusPolicyType.GUARD_FILTER.getPolicyType());
+        assertThat(policies).extracting(ToscaPolicy::getName).doesNotHaveDuplicates();
+        assertThat(policies.get(0).getMetadata()).containsEntry("policy-id", policies.get(0).getName());
+    }
+
+    @Test
+    void testGenerate_Shape() {
+        var params = new CorpusParameters();
+        params.setListSize(7);
+        params.setMatchableCardinality(4);
+        var generator = new PolicyCorpusGenerator(params);
+
+        var blacklist = generator.generate(CorpusPolicyType.GUARD_BLACKLIST, 0L);
+        assertThat((List<?>) blacklist.getProperties().get("blacklist")).hasSize(7);
+
+        var filter = generator.generate(CorpusPolicyType.GUARD_FILTER, 0L);
+        assertThat((List<?>) filter.getProperties().get("filters")).hasSize(7);
+
+        var match = generator.generate(CorpusPolicyType.MATCH, 0L);
+        assertThat(match.getProperties()).containsKeys("matchable0", "matchable3", "nonmatchable").hasSize(5);
+
+        var affinity = generator.generate(CorpusPolicyType.OPTIMIZATION_AFFINITY, 0L);
+        assertThat((List<?>) affinity.getProperties().get("services")).hasSize(4);
+    }
+
+    @Test
+    void testGeneratePolicyTypes() {
+        var params = new CorpusParameters();
+        params.setMatchableCardinality(3);
+        var files = new PolicyCorpusGenerator(params).generatePolicyTypes(List.of(CorpusPolicyType.MATCH,
+            CorpusPolicyType.MONITORING));
+
+        assertThat(files).containsOnlyKeys(PolicyCorpusGenerator.MATCH_POLICY_TYPE + "-1.0.0.yaml");
+        assertThat(files.values().iterator().next()).contains("matchable0:", "matchable2:", "nonmatchable:")
+            .doesNotContain("matchable3:");
+    }
+
+    @Test
+    void testGenerateRequests() {
+        var generator = new PolicyCorpusGenerator(new CorpusParameters());
+        var policies = generator.generate(CorpusPolicyType.MONITORING, 10);
+        var names = policies.stream().map(ToscaPolicy::getName).toList();
+
+        assertThat(generator.generateRequests(policies, 100, 1.0)).allSatisfy(request -> {
+            assertThat(request.getAction()).isEqualTo("configure");
+            assertThat(names).contains((String) request.getResource().get("policy-id"));
+        });
+
+        assertThat(generator.generateRequests(policies, 100, 0.0)).allSatisfy(request -> assertThat(
+            (String) request.getResource().get("policy-id")).startsWith(PolicyCorpusGenerator.MISS_PREFIX));
+
+        var hits = generator.generateRequests(policies, 1000, 0.5).stream()
+            .filter(request -> names.contains(request.getResource().get("policy-id"))).count();
+        assertThat(hits).isBetween(400L, 600L);
+
+        // the same seed gives the same workload
+        assertThat(generator.generateRequests(policies, 100, 0.5)).extracting(DecisionRequest::getResource)
+            .isEqualTo(generator.generateRequests(policies, 100, 0.5).stream().map(DecisionRequest::getResource)
+                .toList());
+    }
+
+    @Test
+    void testGenerateRequests_Guard() {
+        var generator = new PolicyCorpusGenerator(new CorpusParameters());
+        var policy = generator.generate(CorpusPolicyType.GUARD_MIN_MAX, 0L);
+
+        var request = generator.generateRequests(List.of(policy), 1, 1.0).get(0);
+        var guard = (Map<?, ?>) request.getResource().get("guard");
+        assertThat(guard.get("target")).isEqualTo(policy.getProperties().get("target"));
+        assertThat(guard.get("actor")).isEqualTo(policy.getProperties().get("actor"));
+        assertThat(guard.get("operation")).isEqualTo(policy.getProperties().get("operation"));
+    }
+
+    @Test
+    void testGenerateRequests_Native() {
+        var generator = new PolicyCorpusGenerator(new CorpusParameters());
+        var policies = generator.generate(CorpusPolicyType.NATIVE, 3);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> generator.generateRequests(policies, 1, 1.0));
+        assertThat(generator.generateXacmlRequests(policies, 5, 1.0)).hasSize(5).doesNotContainNull();
+    }
+
+    @Test
+    void testOf() {
+        assertThat(CorpusPolicyType.of("onap.policies.Naming")).isEqualTo(CorpusPolicyType.NAMING);
+        assertThatIllegalArgumentException().isThrownBy(() -> CorpusPolicyType.of("unknown"));
+    }
+}